@@ -16,14 +16,18 @@
  */
 package org.apache.commons.dbutils;
 
+import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Basic implementation of the {@code RowProcessor} interface.
@@ -37,94 +41,364 @@ import java.util.Map;
 public class BasicRowProcessor implements RowProcessor {
 
     /**
-     * A Map that converts all keys to lowercase Strings for case insensitive
-     * lookups.  This is needed for the toMap() implementation because
-     * databases don't consistently handle the casing of column names.
-     *
-     * <p>The keys are stored as they are given [BUG #DBUTILS-34], so we maintain
-     * an internal mapping from lowercase keys to the real keys in order to
-     * achieve the case insensitive lookup.
-     *
-     * <p>Note: This implementation does not allow {@code null}
-     * for key, whereas {@link LinkedHashMap} does, because of the code:
-     * <pre>
-     * key.toString().toLowerCase()
-     * </pre>
+     * The column keys of one result set, computed once and shared by the {@link RowMap}s of all its rows.
      */
-    private static final class CaseInsensitiveHashMap extends LinkedHashMap<String, Object> {
+    private static final class RowKeys {
 
         /**
-         * Required for serialization support.
+         * Reads the column keys of a result set.
          *
-         * @see java.io.Serializable
+         * @param rsmd The result set meta data.
+         * @return The column keys.
+         * @throws SQLException Thrown if a database access error occurs
          */
-        private static final long serialVersionUID = -2848100435296897392L;
+        static RowKeys of(final ResultSetMetaData rsmd) throws SQLException {
+            final int cols = rsmd.getColumnCount();
+            // Replay the puts of toMap so that duplicate labels give the same keys, order and values.
+            final Map<String, Object> columnsByKey = createCaseInsensitiveHashMap(cols);
+            for (int i = 1; i <= cols; i++) {
+                columnsByKey.put(columnKey(rsmd, i), Integer.valueOf(i));
+            }
+            final String[] keys = new String[columnsByKey.size()];
+            final int[] columns = new int[keys.length];
+            int i = 0;
+            for (final Map.Entry<String, Object> entry : columnsByKey.entrySet()) {
+                keys[i] = entry.getKey();
+                columns[i] = ((Integer) entry.getValue()).intValue();
+                i++;
+            }
+            return new RowKeys(keys, columns);
+        }
+
+        private final String[] keys;
 
         /**
-         * The internal mapping from lowercase keys to the real keys.
+         * The column index of each key, ascending.
+         */
+        private final int[] columns;
+
+        /**
+         * The position of each key.
+         */
+        private final CaseInsensitiveHashMap<Integer> index;
+
+        private RowKeys(final String[] keys, final int[] columns) {
+            this.keys = keys;
+            this.columns = columns;
+            this.index = new CaseInsensitiveHashMap<>(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                index.put(keys[i], Integer.valueOf(i));
+            }
+        }
+
+        /**
+         * Gets the position of a key, ignoring case.
+         *
+         * @param key The key, not {@code null}.
+         * @return The position, or -1 if there is no such key.
+         */
+        int indexOf(final Object key) {
+            final Integer position = index.get(key);
+            return position != null ? position.intValue() : -1;
+        }
+
+        /**
+         * Reads the current row.
          *
-         * <p>
-         * Any query operation using the key
-         * ({@link #get(Object)}, {@link #containsKey(Object)})
-         * is done in three steps:
-         * <ul>
-         * <li>convert the parameter key to lower case</li>
-         * <li>get the actual key that corresponds to the lower case key</li>
-         * <li>query the map with the actual key</li>
-         * </ul>
-         * </p>
+         * @param resultSet The result set, positioned on a valid row.
+         * @return The row map.
+         * @throws SQLException Thrown if a database access error occurs
+         */
+        Map<String, Object> toMap(final ResultSet resultSet) throws SQLException {
+            final Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = resultSet.getObject(columns[i]);
+            }
+            return new RowMap(this, values);
+        }
+    }
+
+    /**
+     * A case-insensitive row map made of the {@link RowKeys} shared by all rows of a result set and an array of
+     * values, which behaves like the {@link CaseInsensitiveHashMap} that {@code toMap} returns.
+     *
+     * <p>
+     * Changing the keys or replacing a value through {@code put} copies the row to a {@code CaseInsensitiveHashMap}
+     * first, which then backs the row map. Rows are serialized as that copy.
+     * </p>
+     */
+    private static final class RowMap extends AbstractMap<String, Object> implements Serializable {
+
+        private final class Entry implements Map.Entry<String, Object> {
+
+            private final int index;
+
+            private Entry(final int index) {
+                this.index = index;
+            }
+
+            @Override
+            public boolean equals(final Object obj) {
+                if (!(obj instanceof Map.Entry)) {
+                    return false;
+                }
+                final Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                return getKey().equals(other.getKey()) && (getValue() == null ? other.getValue() == null : getValue().equals(other.getValue()));
+            }
+
+            @Override
+            public String getKey() {
+                return keys.keys[index];
+            }
+
+            @Override
+            public Object getValue() {
+                return copy != null ? copy.get(getKey()) : values[index];
+            }
+
+            @Override
+            public int hashCode() {
+                final Object value = getValue();
+                return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+            }
+
+            @Override
+            public Object setValue(final Object value) {
+                if (copy != null) {
+                    // Unlike put, this keeps the entry in place.
+                    return copy.replace(getKey(), value);
+                }
+                final Object old = values[index];
+                values[index] = value;
+                return old;
+            }
+
+            @Override
+            public String toString() {
+                return getKey() + "=" + getValue();
+            }
+        }
+
+        private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+            private int next;
+
+            private boolean canRemove;
+
+            /**
+             * Iterates the copy once the row has been copied through this iterator.
+             */
+            private Iterator<Map.Entry<String, Object>> delegate;
+
+            @Override
+            public boolean hasNext() {
+                return delegate != null ? delegate.hasNext() : next < keys.keys.length;
+            }
+
+            @Override
+            public Map.Entry<String, Object> next() {
+                if (delegate != null) {
+                    return delegate.next();
+                }
+                if (next >= keys.keys.length) {
+                    throw new NoSuchElementException();
+                }
+                canRemove = true;
+                return new Entry(next++);
+            }
+
+            @Override
+            public void remove() {
+                if (delegate != null) {
+                    delegate.remove();
+                    return;
+                }
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                canRemove = false;
+                modifiable().remove(keys.keys[next - 1]);
+                delegate = copy.entrySet().iterator();
+                for (int i = 0; i < next - 1; i++) {
+                    delegate.next();
+                }
+            }
+        }
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient RowKeys keys;
+
+        private final transient Object[] values;
+
+        /**
+         * The copy that backs this map once it has been modified, or {@code null}.
          */
-        private final Map<String, String> lowerCaseMap = new HashMap<>();
+        private transient Map<String, Object> copy;
+
+        private RowMap(final RowKeys keys, final Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
 
-        private CaseInsensitiveHashMap(final int initialCapacity) {
-            super(initialCapacity);
+        @Override
+        public void clear() {
+            modifiable().clear();
         }
 
-        /** {@inheritDoc} */
         @Override
         public boolean containsKey(final Object key) {
-            final Object realKey = lowerCaseMap.get(key.toString().toLowerCase(Locale.ROOT));
-            return super.containsKey(realKey);
-            // Possible optimization here:
-            // Since the lowerCaseMap contains a mapping for all the keys,
-            // we could just do this:
-            // return lowerCaseMap.containsKey(key.toString().toLowerCase());
+            return copy != null ? copy.containsKey(key) : keys.indexOf(key) >= 0;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<String, Object>>() {
+
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return copy != null ? copy.entrySet().iterator() : new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return RowMap.this.size();
+                }
+            };
         }
 
-        /** {@inheritDoc} */
         @Override
         public Object get(final Object key) {
-            final Object realKey = lowerCaseMap.get(key.toString().toLowerCase(Locale.ROOT));
-            return super.get(realKey);
+            if (copy != null) {
+                return copy.get(key);
+            }
+            final int index = keys.indexOf(key);
+            return index >= 0 ? values[index] : null;
+        }
+
+        /**
+         * Gets the copy that backs this map once modified, creating it on first use.
+         *
+         * @return The copy.
+         */
+        private Map<String, Object> modifiable() {
+            if (copy == null) {
+                copy = toCaseInsensitiveHashMap();
+            }
+            return copy;
         }
 
-        /** {@inheritDoc} */
         @Override
         public Object put(final String key, final Object value) {
-            /*
-             * In order to keep the map and lowerCaseMap synchronized,
-             * we have to remove the old mapping before putting the
-             * new one. Indeed, oldKey and key are not necessarily equals.
-             * (That's why we call super.remove(oldKey) and not just
-             * super.put(key, value))
-             */
-            final Object oldKey = lowerCaseMap.put(key.toLowerCase(Locale.ROOT), key);
-            final Object oldValue = super.remove(oldKey);
-            super.put(key, value);
-            return oldValue;
+            return modifiable().put(key, value);
         }
 
-        /** {@inheritDoc} */
         @Override
         public void putAll(final Map<? extends String, ?> m) {
-            m.forEach(this::put);
+            modifiable().putAll(m);
         }
 
-        /** {@inheritDoc} */
         @Override
         public Object remove(final Object key) {
-            final Object realKey = lowerCaseMap.remove(key.toString().toLowerCase(Locale.ROOT));
-            return super.remove(realKey);
+            return modifiable().remove(key);
+        }
+
+        @Override
+        public int size() {
+            return copy != null ? copy.size() : values.length;
+        }
+
+        private Map<String, Object> toCaseInsensitiveHashMap() {
+            final Map<String, Object> map = createCaseInsensitiveHashMap(values.length);
+            for (int i = 0; i < values.length; i++) {
+                map.put(keys.keys[i], values[i]);
+            }
+            return map;
+        }
+
+        private Object writeReplace() {
+            return copy != null ? copy : toCaseInsensitiveHashMap();
+        }
+    }
+
+    /**
+     * A {@code RowProcessor} prepared for one result set, which reads the column count, keys and bean mapping plans
+     * once, on the first row, and then converts rows in a tight loop. Conversions a subclass overrides go through the
+     * subclass instead.
+     */
+    private static final class PreparedRowProcessor implements RowProcessor {
+
+        private final BasicRowProcessor processor;
+
+        private final ResultSet resultSet;
+
+        /**
+         * The column count, or -1 until read.
+         */
+        private int cols = -1;
+
+        private RowKeys keys;
+
+        /**
+         * The bean conversion, created on the first bean.
+         */
+        private BeanProcessor.Prepared beans;
+
+        private PreparedRowProcessor(final BasicRowProcessor processor, final ResultSet resultSet) {
+            this.processor = processor;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public RowProcessor prepare(final ResultSet resultSet) throws SQLException {
+            return resultSet == this.resultSet ? this : processor.prepare(resultSet);
+        }
+
+        @Override
+        public Object[] toArray(final ResultSet resultSet) throws SQLException {
+            if (processor.customToArray) {
+                return processor.toArray(resultSet);
+            }
+            if (cols < 0) {
+                cols = resultSet.getMetaData().getColumnCount();
+            }
+            final Object[] result = new Object[cols];
+            for (int i = 0; i < cols; i++) {
+                result[i] = resultSet.getObject(i + 1);
+            }
+            return result;
+        }
+
+        @Override
+        public <T> T toBean(final ResultSet resultSet, final Class<? extends T> type) throws SQLException {
+            if (processor.customToBean) {
+                return processor.toBean(resultSet, type);
+            }
+            if (beans == null) {
+                beans = processor.convert.prepare();
+            }
+            return beans.toBean(resultSet, type);
+        }
+
+        @Override
+        public <T> List<T> toBeanList(final ResultSet resultSet, final Class<? extends T> type) throws SQLException {
+            return processor.toBeanList(resultSet, type);
+        }
+
+        @Override
+        public Map<String, Object> toMap(final ResultSet resultSet) throws SQLException {
+            if (processor.customToMap) {
+                return processor.toMap(resultSet);
+            }
+            if (keys == null) {
+                keys = RowKeys.of(resultSet.getMetaData());
+            }
+            return keys.toMap(resultSet);
+        }
+
+        @Override
+        public List<Map<String, Object>> toMapList(final ResultSet resultSet) throws SQLException {
+            return processor.toMapList(resultSet);
         }
     }
 
@@ -139,6 +413,27 @@ public class BasicRowProcessor implements RowProcessor {
      */
     private static final BasicRowProcessor INSTANCE = new BasicRowProcessor();
 
+    /**
+     * Gets the key of a column in the maps returned by {@code toMap}: its label, or its name if it has no label, or
+     * its index if it has neither.
+     *
+     * @param rsmd The result set meta data.
+     * @param i The column index, 1-based.
+     * @return The key.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    private static String columnKey(final ResultSetMetaData rsmd, final int i) throws SQLException {
+        String propKey = rsmd.getColumnLabel(i);
+        if (propKey == null || 0 == propKey.length()) {
+          propKey = rsmd.getColumnName(i);
+        }
+        if (propKey == null || 0 == propKey.length()) {
+          // The column index can't be null
+          propKey = Integer.toString(i);
+        }
+        return propKey;
+    }
+
     /**
      * Creates a new case-insensitive map.
      *
@@ -146,7 +441,7 @@ public class BasicRowProcessor implements RowProcessor {
      * @return The new map.
      */
     protected static Map<String, Object> createCaseInsensitiveHashMap(final int cols) {
-        return new CaseInsensitiveHashMap(cols);
+        return new CaseInsensitiveHashMap<>(cols);
     }
 
     /**
@@ -166,6 +461,22 @@ public class BasicRowProcessor implements RowProcessor {
      */
     private final BeanProcessor convert;
 
+    /**
+     * Whether a subclass overrides {@link #toArray(ResultSet)}, which prepared processors then call for each row.
+     */
+    private final boolean customToArray = Overrides.isOverridden(this, BasicRowProcessor.class, "toArray", ResultSet.class);
+
+    /**
+     * Whether a subclass overrides {@link #toBean(ResultSet, Class)}, which prepared processors then call for each row.
+     */
+    private final boolean customToBean = Overrides.isOverridden(this, BasicRowProcessor.class, "toBean", ResultSet.class, Class.class);
+
+    /**
+     * Whether a subclass overrides {@link #toMap(ResultSet)}, which {@link #toMapList(ResultSet)} and prepared
+     * processors then call for each row.
+     */
+    private final boolean customToMap = Overrides.isOverridden(this, BasicRowProcessor.class, "toMap", ResultSet.class);
+
     /**
      * BasicRowProcessor constructor.  Bean processing defaults to a
      * BeanProcessor instance.
@@ -185,6 +496,23 @@ public class BasicRowProcessor implements RowProcessor {
         this.convert = convert;
     }
 
+    /**
+     * Prepares a processor for the rows of the given result set, which reads the column count, the column keys for
+     * {@code toMap}, and the mapping plan of each bean class for {@code toBean}, once instead of for each row. Its
+     * {@code toMap} returns the same shared-key row maps as {@link #toMapList(ResultSet)}. Conversions that a subclass
+     * overrides are still called for each row.
+     *
+     * @param resultSet The result set, whose rows must be passed to the returned processor.
+     * @return The prepared processor.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see org.apache.commons.dbutils.RowProcessor#prepare(java.sql.ResultSet)
+     * @since 1.9.0
+     */
+    @Override
+    public RowProcessor prepare(final ResultSet resultSet) throws SQLException {
+        return new PreparedRowProcessor(this, resultSet);
+    }
+
     /**
      * Convert a {@code ResultSet} row into an {@code Object[]}.
      * This implementation copies column values into the array in the same
@@ -266,18 +594,42 @@ public class BasicRowProcessor implements RowProcessor {
         final Map<String, Object> result = createCaseInsensitiveHashMap(cols);
 
         for (int i = 1; i <= cols; i++) {
-            String propKey = rsmd.getColumnLabel(i);
-            if (propKey == null || 0 == propKey.length()) {
-              propKey = rsmd.getColumnName(i);
-            }
-            if (propKey == null || 0 == propKey.length()) {
-              // The column index can't be null
-              propKey = Integer.toString(i);
-            }
-            result.put(propKey, resultSet.getObject(i));
+            result.put(columnKey(rsmd, i), resultSet.getObject(i));
         }
 
         return result;
     }
 
+    /**
+     * Convert a {@code ResultSet} into a {@code List} of {@code Map}s.
+     *
+     * <p>
+     * The maps behave like the ones returned by {@link #toMap(ResultSet)}, but the column keys and their
+     * case-insensitive index are computed once and shared by all rows, so that each row only holds an array of values.
+     * A row copies itself to a map of its own when it is modified. If a subclass overrides {@code toMap}, this
+     * implementation calls it for each row instead.
+     * </p>
+     *
+     * @param resultSet ResultSet that supplies the map data
+     * @return A {@code List} of maps in the order they were returned by the {@code ResultSet}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see org.apache.commons.dbutils.RowProcessor#toMapList(java.sql.ResultSet)
+     * @since 1.9.0
+     */
+    @Override
+    public List<Map<String, Object>> toMapList(final ResultSet resultSet) throws SQLException {
+        if (customToMap) {
+            return RowProcessor.super.toMapList(resultSet);
+        }
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        if (!resultSet.next()) {
+            return rows;
+        }
+        final RowKeys keys = RowKeys.of(resultSet.getMetaData());
+        do {
+            rows.add(keys.toMap(resultSet));
+        } while (resultSet.next()); // NOPMD False positive CheckResultSet
+        return rows;
+    }
+
 }
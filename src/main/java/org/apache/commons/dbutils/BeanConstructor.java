@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.BeanInfo;
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The constructor through which {@link BeanProcessor} creates instances of an immutable class: the canonical
+ * constructor of a record, or the only public constructor annotated with {@link ConstructorProperties} of a class
+ * without a public no-argument constructor.
+ *
+ * <p>
+ * Each constructor parameter is described by a {@link PropertyDescriptor} whose read method is the record accessor or
+ * the getter of the property with the same name, if any, so that columns are matched to parameters exactly as they
+ * are matched to bean properties, including {@link Column} annotations.
+ * </p>
+ *
+ * <p>
+ * Records are detected reflectively, as this library is compiled for Java 11; on runtimes without records only
+ * {@code ConstructorProperties} constructors are used. Instances are immutable and thread-safe.
+ * </p>
+ */
+final class BeanConstructor {
+
+    /**
+     * {@code Class.isRecord()}, or {@code null} before Java 16.
+     */
+    private static final Method IS_RECORD;
+
+    /**
+     * {@code Class.getRecordComponents()}, or {@code null} before Java 16.
+     */
+    private static final Method GET_RECORD_COMPONENTS;
+
+    private static final ClassValue<BeanConstructor> CONSTRUCTORS = new ClassValue<BeanConstructor>() {
+
+        @Override
+        protected BeanConstructor computeValue(final Class<?> type) {
+            try {
+                return create(type);
+            } catch (final ReflectiveOperationException | IntrospectionException e) {
+                return NONE;
+            }
+        }
+    };
+
+    /**
+     * Cached in place of {@code null} for classes that are created through their no-argument constructor.
+     */
+    private static final BeanConstructor NONE = new BeanConstructor(null, new PropertyDescriptor[0], new Class<?>[0], null);
+
+    static {
+        Method isRecord = null;
+        Method getRecordComponents = null;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+        } catch (final NoSuchMethodException e) {
+            // Java 15 or older
+        }
+        IS_RECORD = isRecord;
+        GET_RECORD_COMPONENTS = getRecordComponents;
+    }
+
+    private static BeanConstructor create(final Class<?> type) throws ReflectiveOperationException, IntrospectionException {
+        if (IS_RECORD != null && ((Boolean) IS_RECORD.invoke(type)).booleanValue()) {
+            final Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+            final PropertyDescriptor[] parameters = new PropertyDescriptor[components.length];
+            final Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                final Class<?> componentClass = components[i].getClass();
+                types[i] = (Class<?>) componentClass.getMethod("getType").invoke(components[i]);
+                parameters[i] = new PropertyDescriptor((String) componentClass.getMethod("getName").invoke(components[i]),
+                        (Method) componentClass.getMethod("getAccessor").invoke(components[i]), null);
+            }
+            return new BeanConstructor(type, parameters, types, type.getDeclaredConstructor(types));
+        }
+        Constructor<?> annotated = null;
+        for (final Constructor<?> constructor : type.getConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return NONE;
+            }
+            if (constructor.isAnnotationPresent(ConstructorProperties.class)) {
+                if (annotated != null) {
+                    // Ambiguous: leave it to newInstance to report that there is no default constructor.
+                    return NONE;
+                }
+                annotated = constructor;
+            }
+        }
+        if (annotated == null) {
+            return NONE;
+        }
+        final String[] names = annotated.getAnnotation(ConstructorProperties.class).value();
+        if (names.length != annotated.getParameterCount()) {
+            return NONE;
+        }
+        final BeanInfo beanInfo = Introspector.getBeanInfo(type);
+        final Map<String, Method> readers = new HashMap<>();
+        for (final PropertyDescriptor prop : beanInfo.getPropertyDescriptors()) {
+            readers.put(prop.getName(), prop.getReadMethod());
+        }
+        final PropertyDescriptor[] parameters = new PropertyDescriptor[names.length];
+        for (int i = 0; i < names.length; i++) {
+            parameters[i] = new PropertyDescriptor(names[i], readers.get(names[i]), null);
+        }
+        return new BeanConstructor(type, parameters, annotated.getParameterTypes(), annotated);
+    }
+
+    /**
+     * Gets the constructor through which instances of the given class are created.
+     *
+     * @param type The class.
+     * @return The constructor, or {@code null} if instances are created through the no-argument constructor and set
+     *         through setters.
+     */
+    static BeanConstructor of(final Class<?> type) {
+        final BeanConstructor constructor = CONSTRUCTORS.get(type);
+        return constructor != NONE ? constructor : null;
+    }
+
+    private final Class<?> type;
+
+    private final PropertyDescriptor[] parameters;
+
+    private final Class<?>[] parameterTypes;
+
+    private final Constructor<?> constructor;
+
+    /**
+     * The constructor, adapted to {@code (Object[])Object}, or {@code null} if it is not accessible.
+     */
+    private final MethodHandle handle;
+
+    private BeanConstructor(final Class<?> type, final PropertyDescriptor[] parameters, final Class<?>[] parameterTypes,
+            final Constructor<?> constructor) {
+        this.type = type;
+        this.parameters = parameters;
+        this.parameterTypes = parameterTypes;
+        this.constructor = constructor;
+        MethodHandle handle = null;
+        if (constructor != null) {
+            try {
+                handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.genericMethodType(parameterTypes.length))
+                        .asSpreader(Object[].class, parameterTypes.length);
+            } catch (final IllegalAccessException e) {
+                // newInstance reports it
+            }
+        }
+        this.handle = handle;
+    }
+
+    /**
+     * Gets the constructor parameters, described as read-only properties.
+     *
+     * @return The parameters.
+     */
+    PropertyDescriptor[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets the type of a constructor parameter.
+     *
+     * @param index The parameter index.
+     * @return The parameter type.
+     */
+    Class<?> getParameterType(final int index) {
+        return parameterTypes[index];
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param args The constructor arguments, compatible with the parameter types.
+     * @return The new instance.
+     * @throws SQLException Thrown if the constructor is not accessible or fails.
+     */
+    Object newInstance(final Object[] args) throws SQLException {
+        if (handle == null) {
+            throw new SQLException("Cannot create " + type.getName() + ": constructor " + constructor + " is not accessible");
+        }
+        try {
+            return handle.invokeExact(args);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new SQLException("Cannot create " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+}
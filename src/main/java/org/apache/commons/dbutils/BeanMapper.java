@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Populates beans of one class from a {@link ResultSet} without reflection. Implementations are usually generated at
+ * compile time by {@link org.apache.commons.dbutils.processor.BeanMapperProcessor BeanMapperProcessor} and registered
+ * as {@link java.util.ServiceLoader services}; {@link BeanProcessor} then uses them instead of introspecting the bean
+ * class.
+ *
+ * <p>
+ * Properties are identified by their index in {@link #getColumnNames()}. For each result shape, {@code BeanProcessor}
+ * resolves the column of each property once, the same way {@link BeanProcessor#mapColumnsToProperties} matches
+ * columns to properties, and passes the resolved indexes to {@link #populate(ResultSet, Object, int[])}.
+ * </p>
+ *
+ * @param <T> The bean type.
+ * @since 1.9.0
+ */
+public interface BeanMapper<T> {
+
+    /**
+     * Gets the names of the columns the properties are read from, the {@link Column} name if the property's read method
+     * is annotated, the property name otherwise. Names are matched ignoring case.
+     *
+     * @return The column names, in property index order, sorted by property name.
+     */
+    String[] getColumnNames();
+
+    /**
+     * Gets the bean class this mapper populates.
+     *
+     * @return The bean class.
+     */
+    Class<T> getType();
+
+    /**
+     * Sets the properties of {@code bean} from the current row of {@code resultSet}. Primitive properties are set to
+     * their default value and object properties to {@code null} when the column is SQL NULL.
+     *
+     * @param resultSet The source result set, positioned on a valid row.
+     * @param bean The bean to populate.
+     * @param columns The 1-based column index of each property, in property index order, or 0 for properties that
+     *        have no column in the result set.
+     * @throws SQLException Thrown if a database access error occurs.
+     */
+    void populate(ResultSet resultSet, T bean, int[] columns) throws SQLException;
+}
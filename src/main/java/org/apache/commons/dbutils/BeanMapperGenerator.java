@@ -0,0 +1,625 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates a class with a single static method, {@code populate(Object bean, ResultSet resultSet)}, that reads each
+ * compiled column with the typed {@code ResultSet} getter for its property and calls the bean's setter directly.
+ * {@code SQLException}s and {@code Error}s propagate as thrown; any other exception, which can only come from a
+ * setter, is wrapped in an {@code SQLException} whose SQL state is {@link #SETTER_FAILED} and whose vendor code is the
+ * column of the failing setter, so that the caller can report the property without running the row again.
+ *
+ * <p>
+ * The class is defined in the bean's package as a hidden class, so it can be unloaded together with the bean class. No
+ * mapper is generated on runtimes without hidden classes (before Java 15), where the class could never be unloaded.
+ * Mappers are kept per bean class and compiled shape, independently of the mapping plans that use them, so a plan that
+ * is evicted and rebuilt finds its mapper again; at most {@link #MAX_MAPPERS_PER_CLASS} are generated for a bean class.
+ * The class file is written by hand to avoid a dependency on a bytecode library; it only needs a handful of
+ * instructions.
+ * </p>
+ */
+final class BeanMapperGenerator {
+
+    /**
+     * How to read a property type from a {@code ResultSet}.
+     */
+    private static final class Accessor {
+
+        /** The {@code ResultSet} getter name. */
+        private final String getter;
+
+        /** The descriptor of the value returned by the getter. */
+        private final String valueDescriptor;
+
+        /** The wrapper class to box into with {@code valueOf}, or {@code null} if the value is passed as read. */
+        private final Class<?> wrapper;
+
+        private Accessor(final String getter, final String valueDescriptor, final Class<?> wrapper) {
+            this.getter = getter;
+            this.valueDescriptor = valueDescriptor;
+            this.wrapper = wrapper;
+        }
+    }
+
+    /**
+     * The columns and setters a mapper is generated for.
+     */
+    private static final class Shape {
+
+        private final int[] columns;
+
+        private final Method[] setters;
+
+        private final int hashCode;
+
+        private Shape(final int[] columns, final Method[] setters) {
+            this.columns = columns;
+            this.setters = setters;
+            this.hashCode = 31 * Arrays.hashCode(columns) + Arrays.hashCode(setters);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Shape)) {
+                return false;
+            }
+            final Shape other = (Shape) obj;
+            return hashCode == other.hashCode && Arrays.equals(columns, other.columns) && Arrays.equals(setters, other.setters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The most mappers generated for one bean class. Once it is reached, further shapes are left to the reflective path.
+     */
+    static final int MAX_MAPPERS_PER_CLASS = 64;
+
+    /**
+     * The mappers generated for each bean class, empty for shapes whose mapper could not be generated.
+     */
+    private static final ClassValue<ConcurrentMap<Shape, Optional<MethodHandle>>> MAPPERS = new ClassValue<ConcurrentMap<Shape, Optional<MethodHandle>>>() {
+
+        @Override
+        protected ConcurrentMap<Shape, Optional<MethodHandle>> computeValue(final Class<?> beanClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ITEM_TOP = 0;
+    private static final int ITEM_INTEGER = 1;
+    private static final int ITEM_FLOAT = 2;
+    private static final int ITEM_DOUBLE = 3;
+    private static final int ITEM_LONG = 4;
+    private static final int ITEM_OBJECT = 7;
+
+    /** Java 8 class files; branch targets carry a StackMapTable. */
+    private static final int CLASS_FILE_MAJOR_VERSION = 52;
+
+    private static final String METHOD_NAME = "populate";
+
+    /**
+     * The SQL state of the exceptions that wrap an exception thrown by a setter.
+     */
+    static final String SETTER_FAILED = "DbUtils setter failed";
+
+    /** The local variable that holds the column being mapped. */
+    private static final int COLUMN_LOCAL = 5;
+
+    /** The local variable that holds the exception being wrapped. */
+    private static final int EXCEPTION_LOCAL = 6;
+
+    /** Marks the frames of exception handlers in {@link #frames}. */
+    private static final int HANDLER_FRAME = -1;
+
+    /**
+     * The type of the generated method.
+     */
+    static final MethodType METHOD_TYPE = MethodType.methodType(void.class, Object.class, ResultSet.class);
+
+    private static final String RESULT_SET = "java/sql/ResultSet";
+
+    private static final Map<Class<?>, Accessor> ACCESSORS = new HashMap<>();
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    /** {@code Lookup.defineHiddenClass}, or {@code null} before Java 15. */
+    private static final Method DEFINE_HIDDEN_CLASS;
+
+    /** An empty {@code Lookup.ClassOption[]}, or {@code null} before Java 15. */
+    private static final Object NO_CLASS_OPTIONS;
+
+    static {
+        ACCESSORS.put(Boolean.TYPE, new Accessor("getBoolean", "Z", null));
+        ACCESSORS.put(Byte.TYPE, new Accessor("getByte", "B", null));
+        ACCESSORS.put(Short.TYPE, new Accessor("getShort", "S", null));
+        ACCESSORS.put(Integer.TYPE, new Accessor("getInt", "I", null));
+        ACCESSORS.put(Long.TYPE, new Accessor("getLong", "J", null));
+        ACCESSORS.put(Float.TYPE, new Accessor("getFloat", "F", null));
+        ACCESSORS.put(Double.TYPE, new Accessor("getDouble", "D", null));
+        ACCESSORS.put(Boolean.class, new Accessor("getBoolean", "Z", Boolean.class));
+        ACCESSORS.put(Byte.class, new Accessor("getByte", "B", Byte.class));
+        ACCESSORS.put(Short.class, new Accessor("getShort", "S", Short.class));
+        ACCESSORS.put(Integer.class, new Accessor("getInt", "I", Integer.class));
+        ACCESSORS.put(Long.class, new Accessor("getLong", "J", Long.class));
+        ACCESSORS.put(Float.class, new Accessor("getFloat", "F", Float.class));
+        ACCESSORS.put(Double.class, new Accessor("getDouble", "D", Double.class));
+        ACCESSORS.put(String.class, new Accessor("getString", "Ljava/lang/String;", null));
+        ACCESSORS.put(Timestamp.class, new Accessor("getTimestamp", "Ljava/sql/Timestamp;", null));
+
+        Method defineHiddenClass = null;
+        Object noClassOptions = null;
+        try {
+            final Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            noClassOptions = Array.newInstance(classOption, 0);
+            defineHiddenClass = Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, noClassOptions.getClass());
+        } catch (final ReflectiveOperationException e) {
+            // Java 14 and earlier: no mappers are generated.
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        NO_CLASS_OPTIONS = noClassOptions;
+    }
+
+    /**
+     * Generates a hidden mapper class for the given columns and setters.
+     *
+     * @param beanClass The bean class.
+     * @param columns The 1-based column indexes to read.
+     * @param setters The setter to call with each column.
+     * @return A method handle of type {@link #METHOD_TYPE}.
+     * @throws ReflectiveOperationException Thrown if the mapper class cannot be defined in the bean's package.
+     * @throws IOException Thrown if the mapper method would exceed the class file limits.
+     */
+    private static MethodHandle generate(final Class<?> beanClass, final int[] columns, final Method[] setters)
+            throws ReflectiveOperationException, IOException {
+        final Lookup lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup());
+        final String name = internalName(beanClass) + "$$DbUtilsMapper" + COUNTER.incrementAndGet();
+        final byte[] bytes = new BeanMapperGenerator(name, beanClass).toByteArray(columns, setters);
+        try {
+            final Lookup hidden = (Lookup) DEFINE_HIDDEN_CLASS.invoke(lookup, bytes, Boolean.TRUE, NO_CLASS_OPTIONS);
+            return hidden.findStatic(hidden.lookupClass(), METHOD_NAME, METHOD_TYPE);
+        } catch (final InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    /**
+     * Tests whether mappers can be generated on this runtime, which requires hidden classes.
+     *
+     * @return Whether mappers can be generated.
+     */
+    static boolean isAvailable() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Gets the mapper for the given columns and setters, generating it on first use.
+     *
+     * @param beanClass The bean class.
+     * @param columns The 1-based column indexes to read.
+     * @param setters The setter to call with each column; each one's parameter type must be {@link #isSupported(Class) supported}.
+     * @return A method handle of type {@link #METHOD_TYPE}, or {@code null} if no mapper can be generated.
+     */
+    static MethodHandle mapper(final Class<?> beanClass, final int[] columns, final Method[] setters) {
+        if (!isAvailable()) {
+            return null;
+        }
+        final ConcurrentMap<Shape, Optional<MethodHandle>> mappers = MAPPERS.get(beanClass);
+        final Shape shape = new Shape(columns, setters);
+        Optional<MethodHandle> mapper = mappers.get(shape);
+        if (mapper == null) {
+            if (mappers.size() >= MAX_MAPPERS_PER_CLASS) {
+                return null;
+            }
+            mapper = mappers.computeIfAbsent(shape, s -> {
+                try {
+                    return Optional.of(generate(beanClass, s.columns, s.setters));
+                } catch (final ReflectiveOperationException | IOException | LinkageError | SecurityException e) {
+                    // e.g. no full privilege access to the bean's package
+                    return Optional.empty();
+                }
+            });
+        }
+        return mapper.orElse(null);
+    }
+
+    /**
+     * Tests whether columns can be compiled for setters taking the given type.
+     *
+     * @param type A setter parameter type.
+     * @return Whether the type is supported.
+     */
+    static boolean isSupported(final Class<?> type) {
+        return ACCESSORS.containsKey(type);
+    }
+
+    private final String className;
+
+    private final Class<?> beanClass;
+
+    private final ByteArrayOutputStream constantPool = new ByteArrayOutputStream();
+
+    private final DataOutputStream pool = new DataOutputStream(constantPool);
+
+    private final Map<String, Integer> constants = new HashMap<>();
+
+    private int constantCount = 1;
+
+    private final ByteArrayOutputStream codeBytes = new ByteArrayOutputStream();
+
+    private final DataOutputStream code = new DataOutputStream(codeBytes);
+
+    /**
+     * StackMapTable frames: code offset and the verification type of local 3 at that offset, or {@link #HANDLER_FRAME}
+     * for an exception handler.
+     */
+    private final List<int[]> frames = new ArrayList<>();
+
+    private BeanMapperGenerator(final String className, final Class<?> beanClass) {
+        this.className = className;
+        this.beanClass = beanClass;
+    }
+
+    private int classConstant(final String internalName) throws IOException {
+        final int nameIndex = utf8(internalName);
+        return constant("C" + internalName, CONSTANT_CLASS, nameIndex, -1);
+    }
+
+    private int constant(final String key, final int tag, final int first, final int second) throws IOException {
+        final Integer existing = constants.get(key);
+        if (existing != null) {
+            return existing.intValue();
+        }
+        pool.writeByte(tag);
+        pool.writeShort(first);
+        if (second >= 0) {
+            pool.writeShort(second);
+        }
+        return register(key);
+    }
+
+    private int integerConstant(final int value) throws IOException {
+        final String key = "I" + value;
+        final Integer existing = constants.get(key);
+        if (existing != null) {
+            return existing.intValue();
+        }
+        pool.writeByte(CONSTANT_INTEGER);
+        pool.writeInt(value);
+        return register(key);
+    }
+
+    private void invoke(final int opcode, final String owner, final String name, final String descriptor, final int argSlots) throws IOException {
+        final int tag = opcode == 0xb9 ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF;
+        final int classIndex = classConstant(owner);
+        final int nameAndType = constant("T" + name + descriptor, CONSTANT_NAME_AND_TYPE, utf8(name), utf8(descriptor));
+        final int index = constant("M" + tag + owner + "." + name + descriptor, tag, classIndex, nameAndType);
+        code.writeByte(opcode);
+        code.writeShort(index);
+        if (opcode == 0xb9) {
+            code.writeByte(argSlots);
+            code.writeByte(0);
+        }
+    }
+
+    private void invokeSetter(final Method setter) throws IOException {
+        final Class<?> returnType = setter.getReturnType();
+        invoke(0xb6, internalName(beanClass), setter.getName(), MethodType.methodType(returnType, setter.getParameterTypes()).toMethodDescriptorString(), 0);
+        if (returnType == Long.TYPE || returnType == Double.TYPE) {
+            code.writeByte(0x58); // pop2
+        } else if (returnType != Void.TYPE) {
+            code.writeByte(0x57); // pop
+        }
+    }
+
+    private void pushInt(final int value) throws IOException {
+        if (value <= 5) {
+            code.writeByte(0x03 + value); // iconst_<n>
+        } else if (value <= Byte.MAX_VALUE) {
+            code.writeByte(0x10); // bipush
+            code.writeByte(value);
+        } else if (value <= Short.MAX_VALUE) {
+            code.writeByte(0x11); // sipush
+            code.writeShort(value);
+        } else {
+            code.writeByte(0x13); // ldc_w
+            code.writeShort(integerConstant(value));
+        }
+    }
+
+    private int register(final String key) {
+        final int index = constantCount++;
+        constants.put(key, Integer.valueOf(index));
+        return index;
+    }
+
+    private byte[] toByteArray(final int[] columns, final Method[] setters) throws IOException {
+        final String beanName = internalName(beanClass);
+        code.writeByte(0x2a); // aload_0
+        code.writeByte(0xc0); // checkcast
+        code.writeShort(classConstant(beanName));
+        code.writeByte(0x4d); // astore_2
+        int tryStart = 0;
+        for (int i = 0; i < columns.length; i++) {
+            pushInt(columns[i]);
+            code.writeByte(0x36); // istore
+            code.writeByte(COLUMN_LOCAL);
+            if (i == 0) {
+                // the handlers read the column, so they only cover code where it is set
+                tryStart = codeBytes.size();
+            }
+            writeColumn(columns[i], setters[i]);
+        }
+        final int tryEnd = codeBytes.size();
+        code.writeByte(0xb1); // return
+        // catch (SQLException | Error e) { throw e; }
+        final int rethrow = codeBytes.size();
+        frames.add(new int[] { rethrow, HANDLER_FRAME });
+        code.writeByte(0xbf); // athrow
+        // catch (Throwable e) { throw new SQLException(null, SETTER_FAILED, column, e); }
+        final int wrap = codeBytes.size();
+        frames.add(new int[] { wrap, HANDLER_FRAME });
+        final String sqlException = "java/sql/SQLException";
+        code.writeByte(0x3a); // astore
+        code.writeByte(EXCEPTION_LOCAL);
+        code.writeByte(0xbb); // new
+        code.writeShort(classConstant(sqlException));
+        code.writeByte(0x59); // dup
+        code.writeByte(0x01); // aconst_null
+        code.writeByte(0x13); // ldc_w
+        code.writeShort(constant("S" + SETTER_FAILED, CONSTANT_STRING, utf8(SETTER_FAILED), -1));
+        code.writeByte(0x15); // iload
+        code.writeByte(COLUMN_LOCAL);
+        code.writeByte(0x19); // aload
+        code.writeByte(EXCEPTION_LOCAL);
+        invoke(0xb7, sqlException, "<init>", "(Ljava/lang/String;Ljava/lang/String;ILjava/lang/Throwable;)V", 0);
+        code.writeByte(0xbf); // athrow
+        if (codeBytes.size() > 0xFFFF) {
+            throw new IOException("Mapper method too large for " + columns.length + " columns");
+        }
+        final int sqlExceptionClass = classConstant(sqlException);
+        final int errorClass = classConstant("java/lang/Error");
+
+        final int thisClass = classConstant(className);
+        final int superClass = classConstant("java/lang/Object");
+        final int methodName = utf8(METHOD_NAME);
+        final int methodDescriptor = utf8("(Ljava/lang/Object;L" + RESULT_SET + ";)V");
+        final int codeName = utf8("Code");
+        final byte[] stackMapTable = writeStackMapTable(beanName);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DataOutputStream classFile = new DataOutputStream(out);
+        classFile.writeInt(0xCAFEBABE);
+        classFile.writeShort(0);
+        classFile.writeShort(CLASS_FILE_MAJOR_VERSION);
+        classFile.writeShort(constantCount);
+        constantPool.writeTo(classFile);
+        classFile.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        classFile.writeShort(thisClass);
+        classFile.writeShort(superClass);
+        classFile.writeShort(0); // interfaces
+        classFile.writeShort(0); // fields
+        classFile.writeShort(1); // methods
+        classFile.writeShort(ACC_PUBLIC | ACC_STATIC);
+        classFile.writeShort(methodName);
+        classFile.writeShort(methodDescriptor);
+        classFile.writeShort(1); // method attributes
+        classFile.writeShort(codeName);
+        classFile.writeInt(12 + codeBytes.size() + 3 * 8 + stackMapTable.length);
+        classFile.writeShort(6); // max stack: the arguments of the SQLException constructor and two references to it
+        classFile.writeShort(7); // max locals: bean, result set, cast bean, a long/double, the column and an exception
+        classFile.writeInt(codeBytes.size());
+        codeBytes.writeTo(classFile);
+        classFile.writeShort(3); // exception table
+        for (final int catchType : new int[] { sqlExceptionClass, errorClass, 0 }) {
+            classFile.writeShort(tryStart);
+            classFile.writeShort(tryEnd);
+            classFile.writeShort(catchType == 0 ? wrap : rethrow);
+            classFile.writeShort(catchType);
+        }
+        classFile.writeShort(1); // code attributes
+        classFile.write(stackMapTable);
+        classFile.writeShort(0); // class attributes
+        classFile.flush();
+        return out.toByteArray();
+    }
+
+    private int utf8(final String value) throws IOException {
+        final String key = "U" + value;
+        final Integer existing = constants.get(key);
+        if (existing != null) {
+            return existing.intValue();
+        }
+        pool.writeByte(CONSTANT_UTF8);
+        pool.writeUTF(value);
+        return register(key);
+    }
+
+    private void writeColumn(final int column, final Method setter) throws IOException {
+        final Accessor accessor = ACCESSORS.get(setter.getParameterTypes()[0]);
+        final String getterDescriptor = "(I)" + accessor.valueDescriptor;
+        if (accessor.wrapper == null) {
+            code.writeByte(0x2c); // aload_2
+            code.writeByte(0x2b); // aload_1
+            pushInt(column);
+            invoke(0xb9, RESULT_SET, accessor.getter, getterDescriptor, 2);
+            invokeSetter(setter);
+            return;
+        }
+        // value = resultSet.getX(column); bean.setX(resultSet.wasNull() ? null : Wrapper.valueOf(value));
+        final int storeOpcode;
+        final int loadOpcode;
+        final int frameType;
+        switch (accessor.valueDescriptor) {
+        case "J":
+            storeOpcode = 0x42; // lstore_3
+            loadOpcode = 0x21; // lload_3
+            frameType = ITEM_LONG;
+            break;
+        case "F":
+            storeOpcode = 0x46; // fstore_3
+            loadOpcode = 0x25; // fload_3
+            frameType = ITEM_FLOAT;
+            break;
+        case "D":
+            storeOpcode = 0x4a; // dstore_3
+            loadOpcode = 0x29; // dload_3
+            frameType = ITEM_DOUBLE;
+            break;
+        default:
+            storeOpcode = 0x3e; // istore_3
+            loadOpcode = 0x1d; // iload_3
+            frameType = ITEM_INTEGER;
+            break;
+        }
+        code.writeByte(0x2b); // aload_1
+        pushInt(column);
+        invoke(0xb9, RESULT_SET, accessor.getter, getterDescriptor, 2);
+        code.writeByte(storeOpcode);
+        code.writeByte(0x2b); // aload_1
+        invoke(0xb9, RESULT_SET, "wasNull", "()Z", 1);
+        final int ifeq = codeBytes.size();
+        code.writeByte(0x99); // ifeq
+        code.writeShort(0); // patched below
+        code.writeByte(0x2c); // aload_2
+        code.writeByte(0x01); // aconst_null
+        invokeSetter(setter);
+        final int gotoEnd = codeBytes.size();
+        code.writeByte(0xa7); // goto
+        code.writeShort(0); // patched below
+        final int notNull = codeBytes.size();
+        frames.add(new int[] { notNull, frameType });
+        code.writeByte(0x2c); // aload_2
+        code.writeByte(loadOpcode);
+        final String wrapperName = internalName(accessor.wrapper);
+        invoke(0xb8, wrapperName, "valueOf", "(" + accessor.valueDescriptor + ")L" + wrapperName + ";", 0);
+        invokeSetter(setter);
+        final int end = codeBytes.size();
+        frames.add(new int[] { end, frameType });
+
+        code.flush();
+        final byte[] bytes = codeBytes.toByteArray();
+        codeBytes.reset();
+        writeBranchOffset(bytes, ifeq, notNull - ifeq);
+        writeBranchOffset(bytes, gotoEnd, end - gotoEnd);
+        codeBytes.write(bytes);
+    }
+
+    private static void writeBranchOffset(final byte[] bytes, final int instruction, final int offset) {
+        bytes[instruction + 1] = (byte) (offset >> 8);
+        bytes[instruction + 2] = (byte) offset;
+    }
+
+    private byte[] writeStackMapTable(final String beanName) throws IOException {
+        final int name = utf8("StackMapTable");
+        final int objectClass = classConstant("java/lang/Object");
+        final int resultSetClass = classConstant(RESULT_SET);
+        final int beanClassIndex = classConstant(beanName);
+        final int throwableClass = classConstant("java/lang/Throwable");
+        final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(entries);
+        int previous = -1;
+        for (final int[] frame : frames) {
+            out.writeByte(255); // full_frame
+            out.writeShort(frame[0] - previous - 1);
+            previous = frame[0];
+            final int local3 = frame[1] == HANDLER_FRAME ? ITEM_TOP : frame[1];
+            // longs and doubles take locals 3 and 4 with one entry
+            final boolean wide = local3 == ITEM_LONG || local3 == ITEM_DOUBLE;
+            out.writeShort(wide ? 5 : 6); // locals
+            out.writeByte(ITEM_OBJECT);
+            out.writeShort(objectClass);
+            out.writeByte(ITEM_OBJECT);
+            out.writeShort(resultSetClass);
+            out.writeByte(ITEM_OBJECT);
+            out.writeShort(beanClassIndex);
+            out.writeByte(local3);
+            if (!wide) {
+                out.writeByte(ITEM_TOP);
+            }
+            out.writeByte(ITEM_INTEGER); // the column
+            if (frame[1] == HANDLER_FRAME) {
+                out.writeShort(1); // stack: the exception
+                out.writeByte(ITEM_OBJECT);
+                out.writeShort(throwableClass);
+            } else {
+                out.writeShort(0); // stack
+            }
+        }
+        out.flush();
+        final ByteArrayOutputStream attribute = new ByteArrayOutputStream();
+        final DataOutputStream attr = new DataOutputStream(attribute);
+        attr.writeShort(name);
+        attr.writeInt(2 + entries.size());
+        attr.writeShort(frames.size());
+        entries.writeTo(attr);
+        attr.flush();
+        return attribute.toByteArray();
+    }
+}
@@ -20,18 +20,33 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.dbutils.handlers.columns.BooleanColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.ByteColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.DoubleColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.FloatColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.IntegerColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.LongColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.ShortColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.StringColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.TimestampColumnHandler;
 
 /**
  * <p>
@@ -42,6 +57,28 @@ import java.util.ServiceLoader;
  * </p>
  *
  * <p>
+ * The column to property binding for a given bean class and result shape (column labels and types) is computed once
+ * and cached, so repeated queries of the same shape skip bean introspection entirely. The cache is bounded; see
+ * {@link #BeanProcessor(Map, int)}.
+ * </p>
+ *
+ * <p>
+ * Bean classes with a {@link BeanMapper} registered as a {@link ServiceLoader service}, for example one generated by
+ * {@link org.apache.commons.dbutils.processor.BeanMapperProcessor BeanMapperProcessor}, are populated by that mapper
+ * without introspection, unless a subclass overrides {@link #mapColumnsToProperties}, {@link #processColumn} or
+ * {@link #getWriteMethod}, or the instance is constructed with column or property handlers other than the registered
+ * ones. Registered mappers do not consult {@link ColumnHandler}s or {@link PropertyHandler}s.
+ * </p>
+ *
+ * <p>
+ * Records, and classes without a public no-argument constructor whose only {@link java.beans.ConstructorProperties
+ * ConstructorProperties} annotated public constructor names their properties, are created through that constructor
+ * instead, with each argument read from the column matched to the parameter the same way columns are matched to
+ * properties. Which column feeds which argument is resolved once per class and result shape. This does not apply when
+ * a subclass overrides {@link #newInstance(Class)}, and records are only recognized on runtimes that support them.
+ * </p>
+ *
+ * <p>
  * This class is thread-safe.
  * </p>
  *
@@ -50,6 +87,37 @@ import java.util.ServiceLoader;
  */
 public class BeanProcessor {
 
+    /**
+     * Converts the rows of one result set into beans like {@link BeanProcessor#toBean(ResultSet, Class)}, resolving the
+     * mapping plan once per bean class rather than reading the meta data of each row.
+     */
+    final class Prepared {
+
+        private Class<?> planType;
+
+        private MappingPlan plan;
+
+        private MappingPlan plan(final ResultSet resultSet, final Class<?> type) throws SQLException {
+            if (type != planType) {
+                plan = mappingPlan(resultSet.getMetaData(), type);
+                planType = type;
+            }
+            return plan;
+        }
+
+        <T> T toBean(final ResultSet resultSet, final Class<? extends T> type) throws SQLException {
+            if (customToBean) {
+                return BeanProcessor.this.toBean(resultSet, type);
+            }
+            if (useConstructors) {
+                return createBean(resultSet, type, plan(resultSet, type));
+            }
+            // newInstance may return a subclass of the type
+            final T bean = newInstance(type);
+            return populateBean(resultSet, bean, plan(resultSet, bean.getClass()));
+        }
+    }
+
     /**
      * Special array value used by {@code mapColumnsToProperties} that
      * indicates there is no bean property that matches a column from a
@@ -57,6 +125,13 @@ public class BeanProcessor {
      */
     protected static final int PROPERTY_NOT_FOUND = -1;
 
+    /**
+     * The default maximum number of mapping plans cached by an instance.
+     *
+     * @since 1.9.0
+     */
+    public static final int DEFAULT_MAPPING_PLAN_CACHE_SIZE = 256;
+
     /**
      * Set a bean's primitive properties to these defaults when SQL NULL
      * is returned.  These are the same as the defaults that ResultSet get*
@@ -64,10 +139,61 @@ public class BeanProcessor {
      */
     private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = new HashMap<>();
 
+    /**
+     * The wrapper class of each primitive type, whose instances {@code Method.invoke} and method handles unbox for
+     * setters taking the primitive type.
+     */
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+
     private static final List<ColumnHandler<?>> COLUMN_HANDLERS = new ArrayList<>();
 
     private static final List<PropertyHandler> PROPERTY_HANDLERS = new ArrayList<>();
 
+    /**
+     * Resolved in place of a {@code ColumnHandler} when none matches, as {@link ClassValue} cannot hold {@code null}s.
+     */
+    private static final ColumnHandler<?> NO_COLUMN_HANDLER = new ColumnHandler<Object>() {
+
+        @Override
+        public Object apply(final ResultSet resultSet, final int columnIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean match(final Class<?> propType) {
+            return false;
+        }
+    };
+
+    /**
+     * Resolved in place of a {@code PropertyHandler} when none matches.
+     */
+    private static final PropertyHandler NO_PROPERTY_HANDLER = new PropertyHandler() {
+
+        @Override
+        public Object apply(final Class<?> parameter, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean match(final Class<?> parameter, final Object value) {
+            return false;
+        }
+    };
+
+    private static final Map<Class<?>, BeanMapper<?>> BEAN_MAPPERS = new HashMap<>();
+
+    /**
+     * The built-in column handlers, by the property types they handle.
+     */
+    private static final Map<Class<?>, Class<?>> BUILT_IN_COLUMN_HANDLERS = new HashMap<>();
+
+    /**
+     * A representative value of each type in {@link #BUILT_IN_COLUMN_HANDLERS}, used to ask {@code PropertyHandler}s
+     * whether they convert values of that type.
+     */
+    private static final Map<Class<?>, Object> SAMPLE_VALUES = new HashMap<>();
+
     static {
         PRIMITIVE_DEFAULTS.put(Integer.TYPE, Integer.valueOf(0));
         PRIMITIVE_DEFAULTS.put(Short.TYPE, Short.valueOf((short) 0));
@@ -78,11 +204,59 @@ public class BeanProcessor {
         PRIMITIVE_DEFAULTS.put(Boolean.TYPE, Boolean.FALSE);
         PRIMITIVE_DEFAULTS.put(Character.TYPE, Character.valueOf((char) 0));
 
+        PRIMITIVE_WRAPPERS.put(Integer.TYPE, Integer.class);
+        PRIMITIVE_WRAPPERS.put(Short.TYPE, Short.class);
+        PRIMITIVE_WRAPPERS.put(Byte.TYPE, Byte.class);
+        PRIMITIVE_WRAPPERS.put(Float.TYPE, Float.class);
+        PRIMITIVE_WRAPPERS.put(Double.TYPE, Double.class);
+        PRIMITIVE_WRAPPERS.put(Long.TYPE, Long.class);
+        PRIMITIVE_WRAPPERS.put(Boolean.TYPE, Boolean.class);
+        PRIMITIVE_WRAPPERS.put(Character.TYPE, Character.class);
+
+        BUILT_IN_COLUMN_HANDLERS.put(Boolean.TYPE, BooleanColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Boolean.class, BooleanColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Byte.TYPE, ByteColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Byte.class, ByteColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Short.TYPE, ShortColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Short.class, ShortColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Integer.TYPE, IntegerColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Integer.class, IntegerColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Long.TYPE, LongColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Long.class, LongColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Float.TYPE, FloatColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Float.class, FloatColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Double.TYPE, DoubleColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Double.class, DoubleColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(String.class, StringColumnHandler.class);
+        BUILT_IN_COLUMN_HANDLERS.put(Timestamp.class, TimestampColumnHandler.class);
+
+        SAMPLE_VALUES.put(Boolean.TYPE, Boolean.FALSE);
+        SAMPLE_VALUES.put(Boolean.class, Boolean.FALSE);
+        SAMPLE_VALUES.put(Byte.TYPE, Byte.valueOf((byte) 0));
+        SAMPLE_VALUES.put(Byte.class, Byte.valueOf((byte) 0));
+        SAMPLE_VALUES.put(Short.TYPE, Short.valueOf((short) 0));
+        SAMPLE_VALUES.put(Short.class, Short.valueOf((short) 0));
+        SAMPLE_VALUES.put(Integer.TYPE, Integer.valueOf(0));
+        SAMPLE_VALUES.put(Integer.class, Integer.valueOf(0));
+        SAMPLE_VALUES.put(Long.TYPE, Long.valueOf(0L));
+        SAMPLE_VALUES.put(Long.class, Long.valueOf(0L));
+        SAMPLE_VALUES.put(Float.TYPE, Float.valueOf(0f));
+        SAMPLE_VALUES.put(Float.class, Float.valueOf(0f));
+        SAMPLE_VALUES.put(Double.TYPE, Double.valueOf(0d));
+        SAMPLE_VALUES.put(Double.class, Double.valueOf(0d));
+        SAMPLE_VALUES.put(String.class, "");
+        SAMPLE_VALUES.put(Timestamp.class, new Timestamp(0L));
+
         // Use a ServiceLoader to find implementations
         ServiceLoader.load(ColumnHandler.class).forEach(COLUMN_HANDLERS::add);
 
         // Use a ServiceLoader to find implementations
         ServiceLoader.load(PropertyHandler.class).forEach(PROPERTY_HANDLERS::add);
+
+        // Use a ServiceLoader to find implementations, the first one registered for a class wins
+        for (final BeanMapper<?> mapper : ServiceLoader.load(BeanMapper.class)) {
+            BEAN_MAPPERS.putIfAbsent(mapper.getType(), mapper);
+        }
     }
 
     /**
@@ -90,6 +264,93 @@ public class BeanProcessor {
      */
     private final Map<String, String> columnToPropertyOverrides;
 
+    /**
+     * The column handlers of this instance, in match order.
+     */
+    private final List<ColumnHandler<?>> columnHandlers;
+
+    /**
+     * The property handlers of this instance, in match order.
+     */
+    private final List<PropertyHandler> propertyHandlers;
+
+    /**
+     * The first matching column handler, by property type.
+     */
+    private final ClassValue<ColumnHandler<?>> resolvedColumnHandlers = new ClassValue<ColumnHandler<?>>() {
+
+        @Override
+        protected ColumnHandler<?> computeValue(final Class<?> propType) {
+            for (final ColumnHandler<?> handler : columnHandlers) {
+                if (handler.match(propType)) {
+                    return handler;
+                }
+            }
+            return NO_COLUMN_HANDLER;
+        }
+    };
+
+    /**
+     * The first matching property handler, by setter parameter type and then by value class; {@code Void} stands for
+     * {@code null} values.
+     */
+    private final ClassValue<ConcurrentMap<Class<?>, PropertyHandler>> resolvedPropertyHandlers = new ClassValue<ConcurrentMap<Class<?>, PropertyHandler>>() {
+
+        @Override
+        protected ConcurrentMap<Class<?>, PropertyHandler> computeValue(final Class<?> parameter) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Mapping plans keyed by bean class and result shape.
+     */
+    private final ConcurrentMap<MappingPlan.Key, MappingPlan> mappingPlans = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of entries in {@link #mappingPlans}.
+     */
+    private final int mappingPlanCacheSize;
+
+    private final LongAdder mappingPlanCacheHits = new LongAdder();
+
+    private final LongAdder mappingPlanCacheMisses = new LongAdder();
+
+    /**
+     * Whether setters are bound once per mapping plan as method handles. This is only possible when a subclass does not
+     * pick write methods per value through {@link #getWriteMethod(Object, PropertyDescriptor, Object)}.
+     */
+    private final boolean bindWriters = !Overrides.isOverridden(this, BeanProcessor.class, "getWriteMethod", Object.class, PropertyDescriptor.class,
+            Object.class);
+
+    /**
+     * Whether columns of primitive and primitive wrapper properties may be read once with the typed {@code ResultSet}
+     * getter instead of going through {@link #processColumn(ResultSet, int, Class)}. This is only possible when a
+     * subclass does not customize {@code processColumn}.
+     */
+    private final boolean typedReads = bindWriters
+            && !Overrides.isOverridden(this, BeanProcessor.class, "processColumn", ResultSet.class, int.class, Class.class);
+
+    /**
+     * Whether registered {@link BeanMapper}s replace bean introspection. This is only possible when a subclass does not
+     * customize how columns are matched, read or written, and the instance uses the registered handlers, which the
+     * mappers do not consult.
+     */
+    private final boolean useBeanMappers;
+
+    /**
+     * Whether records and {@code ConstructorProperties} classes are created through their constructor. This is only
+     * possible when a subclass does not customize {@link #newInstance(Class)}.
+     */
+    private final boolean useConstructors = !Overrides.isOverridden(this, BeanProcessor.class, "newInstance", Class.class);
+
+    /**
+     * Whether a subclass overrides {@link #toBean(ResultSet, Class)} or {@link #populateBean(ResultSet, Object)}, which
+     * {@link Prepared prepared} conversions then call for each row.
+     */
+    private final boolean customToBean = Overrides.isOverridden(this, BeanProcessor.class, "toBean", ResultSet.class, Class.class)
+            || Overrides.isOverridden(this, BeanProcessor.class, "populateBean", ResultSet.class, Object.class);
+
     /**
      * Constructor for BeanProcessor.
      */
@@ -104,10 +365,112 @@ public class BeanProcessor {
      * @since 1.5
      */
     public BeanProcessor(final Map<String, String> columnToPropertyOverrides) {
+        this(columnToPropertyOverrides, DEFAULT_MAPPING_PLAN_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor for BeanProcessor configured with column to property name overrides and a bound on the number of
+     * cached mapping plans. A plan is cached for each distinct combination of bean class and result shape (column
+     * labels and types); a size of 0 disables caching.
+     *
+     * @param columnToPropertyOverrides ResultSet column to bean property name overrides
+     * @param mappingPlanCacheSize The maximum number of mapping plans to cache.
+     * @since 1.9.0
+     */
+    public BeanProcessor(final Map<String, String> columnToPropertyOverrides, final int mappingPlanCacheSize) {
+        this(columnToPropertyOverrides, mappingPlanCacheSize, COLUMN_HANDLERS, PROPERTY_HANDLERS);
+    }
+
+    /**
+     * Constructor for BeanProcessor configured with column to property name overrides, a bound on the number of cached
+     * mapping plans and its own column and property handlers instead of the ones registered as
+     * {@link ServiceLoader services}. Handlers are tried in list order and the first match wins; to add handlers to
+     * the registered ones, start from {@link #getDefaultColumnHandlers()} and {@link #getDefaultPropertyHandlers()}.
+     *
+     * <p>
+     * The matching handler is resolved once per property type for column handlers, and once per setter parameter type
+     * and value class for property handlers, so {@code match} methods must only depend on these types.
+     * </p>
+     *
+     * <p>
+     * Unless the handlers are the registered ones, bean classes are always introspected and never populated by a
+     * registered {@link BeanMapper}, which would bypass the handlers.
+     * </p>
+     *
+     * @param columnToPropertyOverrides ResultSet column to bean property name overrides
+     * @param mappingPlanCacheSize The maximum number of mapping plans to cache.
+     * @param columnHandlers The column handlers.
+     * @param propertyHandlers The property handlers.
+     * @since 1.9.0
+     */
+    public BeanProcessor(final Map<String, String> columnToPropertyOverrides, final int mappingPlanCacheSize,
+            final List<ColumnHandler<?>> columnHandlers, final List<PropertyHandler> propertyHandlers) {
         if (columnToPropertyOverrides == null) {
             throw new IllegalArgumentException("columnToPropertyOverrides map cannot be null");
         }
+        if (mappingPlanCacheSize < 0) {
+            throw new IllegalArgumentException("mappingPlanCacheSize cannot be negative");
+        }
+        if (columnHandlers == null) {
+            throw new IllegalArgumentException("columnHandlers list cannot be null");
+        }
+        if (propertyHandlers == null) {
+            throw new IllegalArgumentException("propertyHandlers list cannot be null");
+        }
         this.columnToPropertyOverrides = columnToPropertyOverrides;
+        this.mappingPlanCacheSize = mappingPlanCacheSize;
+        this.columnHandlers = List.copyOf(columnHandlers);
+        this.propertyHandlers = List.copyOf(propertyHandlers);
+        this.useBeanMappers = typedReads
+                && !Overrides.isOverridden(this, BeanProcessor.class, "mapColumnsToProperties", ResultSetMetaData.class, PropertyDescriptor[].class)
+                && !Overrides.isOverridden(this, BeanProcessor.class, "propertyDescriptors", Class.class)
+                && this.columnHandlers.equals(COLUMN_HANDLERS) && this.propertyHandlers.equals(PROPERTY_HANDLERS);
+    }
+
+    /**
+     * Gets the column handlers registered as {@link ServiceLoader services}, which instances use unless constructed
+     * with their own.
+     *
+     * @return An unmodifiable list of the registered column handlers, in match order.
+     * @since 1.9.0
+     */
+    public static List<ColumnHandler<?>> getDefaultColumnHandlers() {
+        return Collections.unmodifiableList(COLUMN_HANDLERS);
+    }
+
+    /**
+     * Gets the property handlers registered as {@link ServiceLoader services}, which instances use unless constructed
+     * with their own.
+     *
+     * @return An unmodifiable list of the registered property handlers, in match order.
+     * @since 1.9.0
+     */
+    public static List<PropertyHandler> getDefaultPropertyHandlers() {
+        return Collections.unmodifiableList(PROPERTY_HANDLERS);
+    }
+
+    /**
+     * Binds a {@link PropertyWriter} for each mapped column, with a typed read where the result is the same as going
+     * through {@link #processColumn(ResultSet, int, Class)} and the registered handlers. Fields have no write method
+     * for {@link #getWriteMethod(Object, PropertyDescriptor, Object)} to pick, so their writers are bound even when a
+     * subclass overrides it.
+     *
+     * @param props The bean property descriptors.
+     * @param columnToProperty The column index to property index mappings.
+     * @return The writers by column index, {@code null} elements for columns set through reflection.
+     */
+    private PropertyWriter[] bindWriters(final PropertyDescriptor[] props, final int[] columnToProperty) {
+        final PropertyWriter[] writers = new PropertyWriter[columnToProperty.length];
+        for (int col = 1; col < columnToProperty.length; col++) {
+            if (columnToProperty[col] != PROPERTY_NOT_FOUND) {
+                final PropertyDescriptor prop = props[columnToProperty[col]];
+                if (bindWriters || prop instanceof FieldDescriptor) {
+                    final Class<?> propType = prop.getPropertyType();
+                    writers[col] = PropertyWriter.of(prop, typedReads && propType != null && hasBuiltInConversion(propType));
+                }
+            }
+        }
+        return writers;
     }
 
     /**
@@ -119,51 +482,131 @@ public class BeanProcessor {
      * @param value The value to pass into the setter.
      * @throws SQLException Thrown if an error occurs setting the property.
      */
-    private void callSetter(final Object target, final PropertyDescriptor prop, Object value)
+    private void callSetter(final Object target, final PropertyDescriptor prop, final Object value)
             throws SQLException {
 
         final Method setter = getWriteMethod(target, prop, value);
 
-        if (setter == null || setter.getParameterTypes().length != 1) {
+        if (setter == null || setter.getParameterCount() != 1) {
             return;
         }
 
         try {
-            final Class<?> firstParam = setter.getParameterTypes()[0];
-            for (final PropertyHandler handler : PROPERTY_HANDLERS) {
-                if (handler.match(firstParam, value)) {
-                    value = handler.apply(firstParam, value);
-                    break;
-                }
-            }
-
-            // Don't call setter if the value object isn't the right type
-            if (!isCompatibleType(value, firstParam)) {
-                throw new SQLException(
-                        "Cannot set " + prop.getName() + ": incompatible types, cannot convert " + value.getClass().getName() + " to " + firstParam.getName());
-                // value cannot be null here because isCompatibleType allows null
-            }
-            setter.invoke(target, value);
+            setter.invoke(target, convertValue(prop.getName(), setter.getParameterTypes()[0], value));
 
         } catch (final IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
             throw new SQLException("Cannot set " + prop.getName() + ": " + e.getMessage());
         }
     }
 
+    /**
+     * Calls the setter for the given property through the writer bound in the mapping plan, or through
+     * reflection if no writer could be bound.
+     *
+     * @param target The object to set the property on.
+     * @param prop The property to set.
+     * @param writer The bound writer, may be {@code null}.
+     * @param value The value to pass into the setter.
+     * @throws SQLException Thrown if an error occurs setting the property.
+     */
+    private void callSetter(final Object target, final PropertyDescriptor prop, final PropertyWriter writer, final Object value)
+            throws SQLException {
+        if (writer == null) {
+            callSetter(target, prop, value);
+        } else {
+            writer.set(target, convertValue(writer.getName(), writer.getType(), value));
+        }
+    }
+
+    /**
+     * Applies the first matching {@code PropertyHandler} to a value and checks that the result can be passed to
+     * a setter taking {@code firstParam}.
+     *
+     * @param name The property name, used in error messages.
+     * @param firstParam The setter's parameter type.
+     * @param value The value to convert.
+     * @return The converted value.
+     * @throws SQLException Thrown if the value is not compatible with the setter.
+     */
+    private Object convertValue(final String name, final Class<?> firstParam, Object value) throws SQLException {
+        final PropertyHandler handler = propertyHandler(firstParam, value);
+        if (handler != null) {
+            value = handler.apply(firstParam, value);
+        }
+
+        // Don't call setter if the value object isn't the right type
+        if (!isCompatibleType(value, firstParam)) {
+            throw new SQLException(
+                    "Cannot set " + name + ": incompatible types, cannot convert " + value.getClass().getName() + " to " + firstParam.getName());
+            // value cannot be null here because isCompatibleType allows null
+        }
+        return value;
+    }
+
     /**
      * Creates a new object and initializes its fields from the ResultSet.
      *
      * @param <T> The type of bean to create
      * @param resultSet The result set.
      * @param type The bean type (the return type of the object).
-     * @param props The property descriptors.
-     * @param columnToProperty The column indices in the result set.
+     * @param plan The mapping plan for the bean type and result set.
      * @return An initialized object.
      * @throws SQLException Thrown if a database error occurs.
      */
-    private <T> T createBean(final ResultSet resultSet, final Class<T> type, final PropertyDescriptor[] props, final int[] columnToProperty)
+    private <T> T createBean(final ResultSet resultSet, final Class<T> type, final MappingPlan plan) throws SQLException {
+        final BeanConstructor beanConstructor = plan.getBeanConstructor();
+        if (beanConstructor != null) {
+            return type.cast(construct(resultSet, beanConstructor, plan.getParameterColumns()));
+        }
+        return populateBean(resultSet, this.newInstance(type), plan);
+    }
+
+    /**
+     * Creates a new object through its constructor, with arguments read from the current row.
+     *
+     * @param resultSet The result set.
+     * @param beanConstructor The constructor.
+     * @param parameterColumns The column index of each parameter, 0 for parameters without a column.
+     * @return The new object.
+     * @throws SQLException Thrown if a database error occurs or the constructor fails.
+     */
+    private Object construct(final ResultSet resultSet, final BeanConstructor beanConstructor, final int[] parameterColumns)
             throws SQLException {
-        return populateBean(resultSet, this.newInstance(type), props, columnToProperty);
+        final PropertyDescriptor[] parameters = beanConstructor.getParameters();
+        final Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            final Class<?> paramType = beanConstructor.getParameterType(i);
+            Object value = null;
+            if (parameterColumns[i] != 0) {
+                value = processColumn(resultSet, parameterColumns[i], paramType);
+            }
+            if (value == null && paramType.isPrimitive()) {
+                value = PRIMITIVE_DEFAULTS.get(paramType);
+            }
+            args[i] = convertValue(parameters[i].getName(), paramType, value);
+        }
+        return beanConstructor.newInstance(args);
+    }
+
+    /**
+     * Tests whether this instance caches mapping plans, that is, whether its mapping plan cache size is positive.
+     *
+     * @return Whether mapping plans are cached.
+     */
+    boolean cachesMappingPlans() {
+        return mappingPlanCacheSize > 0;
+    }
+
+    /**
+     * Gets the first {@code ColumnHandler} of this instance that handles the given property type, resolved once per
+     * type.
+     *
+     * @param propType The bean property type.
+     * @return The matching handler, or {@code null} if none matches.
+     */
+    ColumnHandler<?> columnHandler(final Class<?> propType) {
+        final ColumnHandler<?> handler = resolvedColumnHandlers.get(propType);
+        return handler != NO_COLUMN_HANDLER ? handler : null;
     }
 
     /** Does nothing. */
@@ -172,6 +615,26 @@ public class BeanProcessor {
         // SpotBugs CT_CONSTRUCTOR_THROW
     }
 
+    /**
+     * Gets the number of times a cached mapping plan was reused.
+     *
+     * @return The number of mapping plan cache hits.
+     * @since 1.9.0
+     */
+    public long getMappingPlanCacheHits() {
+        return mappingPlanCacheHits.sum();
+    }
+
+    /**
+     * Gets the number of times a mapping plan had to be computed.
+     *
+     * @return The number of mapping plan cache misses.
+     * @since 1.9.0
+     */
+    public long getMappingPlanCacheMisses() {
+        return mappingPlanCacheMisses.sum();
+    }
+
     /**
      * Gets the write method to use when setting {@code value} to the {@code target}.
      *
@@ -198,7 +661,24 @@ public class BeanProcessor {
      */
     private boolean isCompatibleType(final Object value, final Class<?> type) {
         // Do object check first, then primitives
-        return value == null || type.isInstance(value) || matchesPrimitive(type, value.getClass());
+        return value == null || type.isInstance(value) || type.isPrimitive() && PRIMITIVE_WRAPPERS.get(type) == value.getClass();
+    }
+
+    /**
+     * Tests whether columns of the given property type are read by the built-in {@code ColumnHandler} for the type and
+     * passed to the setter without {@code PropertyHandler} conversion, so that reading them with the matching typed
+     * {@code ResultSet} getter gives the same result.
+     *
+     * @param propType The property type.
+     * @return Whether the built-in conversion applies.
+     */
+    boolean hasBuiltInConversion(final Class<?> propType) {
+        final Class<?> builtIn = BUILT_IN_COLUMN_HANDLERS.get(propType);
+        if (builtIn == null) {
+            return false;
+        }
+        final ColumnHandler<?> handler = columnHandler(propType);
+        return handler != null && handler.getClass() == builtIn && propertyHandler(propType, SAMPLE_VALUES.get(propType)) == null;
     }
 
     /**
@@ -219,76 +699,134 @@ public class BeanProcessor {
     protected int[] mapColumnsToProperties(final ResultSetMetaData rsmd,
             final PropertyDescriptor[] props) throws SQLException {
 
-        final int cols = rsmd.getColumnCount();
-        final int[] columnToProperty = new int[cols + 1];
-        Arrays.fill(columnToProperty, PROPERTY_NOT_FOUND);
+        final String[] propertyColumnNames = new String[props.length];
+        for (int i = 0; i < props.length; i++) {
+            final PropertyDescriptor prop = props[i];
+            final Method reader = prop.getReadMethod();
 
-        for (int col = 1; col <= cols; col++) {
-            String columnName = rsmd.getColumnLabel(col);
-            if (columnName == null || 0 == columnName.length()) {
-              columnName = rsmd.getColumnName(col);
-            }
-            String propertyName = columnToPropertyOverrides.get(columnName);
-            if (propertyName == null) {
-                propertyName = columnName;
-            }
-            if (propertyName == null) {
-                propertyName = Integer.toString(col);
+            // Check for @Column annotations as explicit marks
+            final Column column;
+            if (reader != null) {
+                column = reader.getAnnotation(Column.class);
+            } else if (prop instanceof FieldDescriptor) {
+                column = ((FieldDescriptor) prop).getField().getAnnotation(Column.class);
+            } else {
+                column = null;
             }
 
-            for (int i = 0; i < props.length; i++) {
-                final PropertyDescriptor prop = props[i];
-                final Method reader = prop.getReadMethod();
+            if (column != null) {
+                propertyColumnNames[i] = column.name();
+            } else {
+                propertyColumnNames[i] = prop.getName();
+            }
+        }
+        final PropertyNameIndex index = new PropertyNameIndex(propertyColumnNames);
 
-                // Check for @Column annotations as explicit marks
-                final Column column;
-                if (reader != null) {
-                    column = reader.getAnnotation(Column.class);
-                } else {
-                    column = null;
-                }
+        final int cols = rsmd.getColumnCount();
+        final int[] columnToProperty = new int[cols + 1];
+        Arrays.fill(columnToProperty, PROPERTY_NOT_FOUND);
 
-                final String propertyColumnName;
-                if (column != null) {
-                    propertyColumnName = column.name();
-                } else {
-                    propertyColumnName = prop.getName();
-                }
-                if (propertyName.equalsIgnoreCase(propertyColumnName)) {
-                    columnToProperty[col] = i;
-                    break;
-                }
-            }
+        for (int col = 1; col <= cols; col++) {
+            columnToProperty[col] = index.indexOf(propertyName(rsmd, col));
         }
 
         return columnToProperty;
     }
 
     /**
-     * Check whether a value is of the same primitive type as {@code targetType}.
+     * Maps the parameters of a {@link BeanConstructor} to columns through {@link #mapColumnsToProperties}; when several
+     * columns match a parameter, the last one is used.
      *
-     * @param targetType The primitive type to target.
-     * @param valueType The value to match to the primitive type.
-     * @return Whether {@code valueType} can be coerced (e.g. autoboxed) into {@code targetType}.
+     * @param rsmd The result set meta data.
+     * @param beanConstructor The constructor.
+     * @return The 1-based column index of each parameter, 0 for parameters without a column.
+     * @throws SQLException Thrown if a database access error occurs
      */
-    private boolean matchesPrimitive(final Class<?> targetType, final Class<?> valueType) {
-        if (!targetType.isPrimitive()) {
-            return false;
+    private int[] mapParametersToColumns(final ResultSetMetaData rsmd, final BeanConstructor beanConstructor) throws SQLException {
+        final int[] columnToProperty = mapColumnsToProperties(rsmd, beanConstructor.getParameters());
+        final int[] parameterColumns = new int[beanConstructor.getParameters().length];
+        for (int col = 1; col < columnToProperty.length; col++) {
+            if (columnToProperty[col] != PROPERTY_NOT_FOUND) {
+                parameterColumns[columnToProperty[col]] = col;
+            }
         }
+        return parameterColumns;
+    }
 
-        try {
-            // see if there is a "TYPE" field.  This is present for primitive wrappers.
-            final Field typeField = valueType.getField("TYPE");
-            final Object primitiveValueType = typeField.get(valueType);
+    /**
+     * Maps the properties of a registered {@link BeanMapper} to columns, matching names the same way
+     * {@link #mapColumnsToProperties} does.
+     *
+     * @param rsmd The result set meta data.
+     * @param beanMapper The bean mapper.
+     * @return The 1-based column index of each mapper property, 0 for properties without a column.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    private int[] mapPropertiesToColumns(final ResultSetMetaData rsmd, final BeanMapper<?> beanMapper) throws SQLException {
+        final String[] columnNames = beanMapper.getColumnNames();
+        final PropertyNameIndex index = new PropertyNameIndex(columnNames);
+        final int[] propertyToColumn = new int[columnNames.length];
+        final int cols = rsmd.getColumnCount();
+        for (int col = 1; col <= cols; col++) {
+            final int i = index.indexOf(propertyName(rsmd, col));
+            if (i != PROPERTY_NOT_FOUND) {
+                // A later column overwrites an earlier one, as when setting properties column by column.
+                propertyToColumn[i] = col;
+            }
+        }
+        return propertyToColumn;
+    }
 
-            if (targetType == primitiveValueType) {
-                return true;
+    /**
+     * Gets the mapping plan for the given bean class and result set, computing and caching it on first use.
+     *
+     * @param rsmd The result set meta data.
+     * @param type The bean class.
+     * @return The mapping plan.
+     * @throws SQLException Thrown if a database access error occurs or introspection failed.
+     */
+    MappingPlan mappingPlan(final ResultSetMetaData rsmd, final Class<?> type) throws SQLException {
+        final MappingPlan.Key key = MappingPlan.Key.of(type, rsmd);
+        final MappingPlan cached = mappingPlans.get(key);
+        if (cached != null) {
+            mappingPlanCacheHits.increment();
+            return cached;
+        }
+        mappingPlanCacheMisses.increment();
+        final BeanConstructor beanConstructor = useConstructors ? BeanConstructor.of(type) : null;
+        final BeanMapper<?> beanMapper = useBeanMappers ? BEAN_MAPPERS.get(type) : null;
+        final MappingPlan plan;
+        if (beanConstructor != null) {
+            plan = new MappingPlan(key, beanConstructor, mapParametersToColumns(rsmd, beanConstructor));
+        } else if (beanMapper != null) {
+            plan = new MappingPlan(key, beanMapper, mapPropertiesToColumns(rsmd, beanMapper));
+        } else {
+            final PropertyDescriptor[] props = propertyDescriptors(type);
+            final int[] columnToProperty = mapColumnsToProperties(rsmd, props);
+            plan = new MappingPlan(key, props, columnToProperty, bindWriters(props, columnToProperty));
+        }
+        if (mappingPlanCacheSize > 0) {
+            // Evict an arbitrary entry rather than track access order on the hot path.
+            final Iterator<MappingPlan.Key> keys = mappingPlans.keySet().iterator();
+            while (mappingPlans.size() >= mappingPlanCacheSize && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+            final MappingPlan previous = mappingPlans.putIfAbsent(key, plan);
+            if (previous != null) {
+                return previous;
             }
-        } catch (final NoSuchFieldException | IllegalAccessException ignored) {
-            // an inaccessible TYPE field is a good sign that we're not working with a primitive wrapper.
-            // nothing to do.  we can't match for compatibility
         }
-        return false;
+        return plan;
+    }
+
+    /**
+     * Prepares the conversion of the rows of one result set into beans.
+     *
+     * @return A new conversion, which is not meant to be shared between threads.
+     */
+    Prepared prepare() {
+        return new Prepared();
     }
 
     /**
@@ -322,11 +860,9 @@ public class BeanProcessor {
      * @throws SQLException Thrown if a database error occurs.
      */
     public <T> T populateBean(final ResultSet resultSet, final T bean) throws SQLException {
-        final PropertyDescriptor[] props = propertyDescriptors(bean.getClass());
-        final ResultSetMetaData rsmd = resultSet.getMetaData();
-        final int[] columnToProperty = mapColumnsToProperties(rsmd, props);
+        final MappingPlan plan = mappingPlan(resultSet.getMetaData(), bean.getClass());
 
-        return populateBean(resultSet, bean, props, columnToProperty);
+        return populateBean(resultSet, bean, plan);
     }
 
     /**
@@ -335,37 +871,67 @@ public class BeanProcessor {
      * @param <T> The type of bean
      * @param resultSet The result set.
      * @param bean The bean to be populated.
-     * @param props The property descriptors.
-     * @param columnToProperty The column indices in the result set.
+     * @param plan The mapping plan for the bean type and result set.
      * @return An initialized object.
      * @throws SQLException Thrown if a database error occurs.
      */
-    private <T> T populateBean(final ResultSet resultSet, final T bean,
-            final PropertyDescriptor[] props, final int[] columnToProperty)
+    <T> T populateBean(final ResultSet resultSet, final T bean, final MappingPlan plan)
             throws SQLException {
 
+        final BeanMapper<Object> beanMapper = plan.getBeanMapper();
+        if (beanMapper != null) {
+            try {
+                beanMapper.populate(resultSet, bean, plan.getBeanMapperColumns());
+            } catch (final RuntimeException e) {
+                throw new SQLException("Cannot populate " + bean.getClass().getName() + ": " + e.getMessage(), e);
+            }
+            return bean;
+        }
+
+        final int[] columnToProperty = plan.getColumnToProperty();
         for (int i = 1; i < columnToProperty.length; i++) {
+            populateColumn(resultSet, bean, plan, i);
+        }
 
-            if (columnToProperty[i] == PROPERTY_NOT_FOUND) {
-                continue;
-            }
+        return bean;
+    }
 
-            final PropertyDescriptor prop = props[columnToProperty[i]];
-            final Class<?> propType = prop.getPropertyType();
+    /**
+     * Sets the property mapped to one column, if any, from the current row.
+     *
+     * @param resultSet The result set.
+     * @param bean The bean to be populated.
+     * @param plan The mapping plan for the bean type and result set.
+     * @param col The column index, 1-based.
+     * @throws SQLException Thrown if a database error occurs.
+     */
+    void populateColumn(final ResultSet resultSet, final Object bean, final MappingPlan plan, final int col)
+            throws SQLException {
 
-            Object value = null;
-            if (propType != null) {
-                value = processColumn(resultSet, i, propType);
+        final int property = plan.getColumnToProperty()[col];
+        if (property == PROPERTY_NOT_FOUND) {
+            return;
+        }
 
-                if (value == null && propType.isPrimitive()) {
-                    value = PRIMITIVE_DEFAULTS.get(propType);
-                }
-            }
+        final PropertyWriter writer = plan.getWriter(col);
+        if (writer != null && writer.isTypedRead()) {
+            writer.copy(resultSet, col, bean);
+            return;
+        }
 
-            callSetter(bean, prop, value);
+        final PropertyDescriptor prop = plan.getProps()[property];
+        final Class<?> propType = prop.getPropertyType();
+
+        Object value = null;
+        if (propType != null) {
+            value = processColumn(resultSet, col, propType);
+
+            if (value == null && propType.isPrimitive()) {
+                value = PRIMITIVE_DEFAULTS.get(propType);
+            }
         }
 
-        return bean;
+        callSetter(bean, prop, writer, value);
     }
 
     /**
@@ -394,17 +960,61 @@ public class BeanProcessor {
      * value was SQL NULL.
      */
     protected Object processColumn(final ResultSet resultSet, final int index, final Class<?> propType) throws SQLException {
-        Object retval = resultSet.getObject(index);
+        final Object retval = resultSet.getObject(index);
         if (!propType.isPrimitive() && retval == null) {
             return null;
         }
-        for (final ColumnHandler<?> handler : COLUMN_HANDLERS) {
-            if (handler.match(propType)) {
-                retval = handler.apply(resultSet, index);
-                break;
+        final ColumnHandler<?> handler = columnHandler(propType);
+        return handler != null ? handler.apply(resultSet, index) : retval;
+    }
+
+    /**
+     * Gets the first {@code PropertyHandler} of this instance that handles setting the given value into a parameter of
+     * the given type, resolved once per parameter type and value class.
+     *
+     * @param parameter The setter's parameter type.
+     * @param value The value to set.
+     * @return The matching handler, or {@code null} if none matches.
+     */
+    PropertyHandler propertyHandler(final Class<?> parameter, final Object value) {
+        final ConcurrentMap<Class<?>, PropertyHandler> byValueClass = resolvedPropertyHandlers.get(parameter);
+        final Class<?> valueClass = value != null ? value.getClass() : Void.class;
+        PropertyHandler handler = byValueClass.get(valueClass);
+        if (handler == null) {
+            handler = NO_PROPERTY_HANDLER;
+            for (final PropertyHandler candidate : propertyHandlers) {
+                if (candidate.match(parameter, value)) {
+                    handler = candidate;
+                    break;
+                }
             }
+            byValueClass.putIfAbsent(valueClass, handler);
         }
-        return retval;
+        return handler != NO_PROPERTY_HANDLER ? handler : null;
+    }
+
+    /**
+     * Gets the property name a column maps to: the column label, or the column name if there is no label, after
+     * applying the column to property overrides.
+     *
+     * @param rsmd The result set meta data.
+     * @param col The column index, 1-based.
+     * @return The property name.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    private String propertyName(final ResultSetMetaData rsmd, final int col) throws SQLException {
+        String columnName = rsmd.getColumnLabel(col);
+        if (columnName == null || 0 == columnName.length()) {
+            columnName = rsmd.getColumnName(col);
+        }
+        String propertyName = columnToPropertyOverrides.get(columnName);
+        if (propertyName == null) {
+            propertyName = columnName;
+        }
+        if (propertyName == null) {
+            propertyName = Integer.toString(col);
+        }
+        return propertyName;
     }
 
     /**
@@ -414,7 +1024,7 @@ public class BeanProcessor {
      * @return A PropertyDescriptor[] describing the Class.
      * @throws SQLException Thrown if introspection failed.
      */
-    private PropertyDescriptor[] propertyDescriptors(final Class<?> c)
+    PropertyDescriptor[] propertyDescriptors(final Class<?> c)
         throws SQLException {
         // Introspector caches BeanInfo classes for better performance
         BeanInfo beanInfo = null;
@@ -464,6 +1074,9 @@ public class BeanProcessor {
      * @return The newly created bean
      */
     public <T> T toBean(final ResultSet rs, final Class<? extends T> type) throws SQLException {
+        if (useConstructors && BeanConstructor.of(type) != null) {
+            return this.createBean(rs, type, mappingPlan(rs.getMetaData(), type));
+        }
         final T bean = this.newInstance(type);
         return this.populateBean(rs, bean);
     }
@@ -507,11 +1120,9 @@ public class BeanProcessor {
         if (!resultSet.next()) {
             return results;
         }
-        final PropertyDescriptor[] props = propertyDescriptors(type);
-        final ResultSetMetaData rsmd = resultSet.getMetaData();
-        final int[] columnToProperty = mapColumnsToProperties(rsmd, props);
+        final MappingPlan plan = mappingPlan(resultSet.getMetaData(), type);
         do {
-            results.add(this.createBean(resultSet, type, props, columnToProperty));
+            results.add(this.createBean(resultSet, type, plan));
         } while (resultSet.next()); // NOPMD False positive CheckResultSet
         return results;
     }
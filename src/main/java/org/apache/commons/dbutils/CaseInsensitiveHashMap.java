@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A Map with case insensitive String keys. This is needed for the toMap() implementation because databases don't
+ * consistently handle the casing of column names.
+ *
+ * <p>
+ * The keys are stored as they are given [BUG #DBUTILS-34] and iterated in insertion order. Keys are hashed and compared
+ * character by character, ignoring case as {@link String#equalsIgnoreCase(String)} does for each character, so lookups
+ * do not allocate. There is a single hash table, whose entries are also linked in insertion order.
+ * </p>
+ *
+ * <p>
+ * Putting a key that is already present replaces the stored key with the given one and moves the entry to the end of
+ * the iteration order. Keys are looked up by their {@code toString()} value; {@code null} keys are not supported.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @param <V> The value type.
+ */
+final class CaseInsensitiveHashMap<V> extends AbstractMap<String, V> implements Serializable {
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, V>> {
+
+        private Node<V> next = head;
+
+        private Node<V> current;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = next.after;
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeNode(current);
+            current = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    private static final class Node<V> implements Map.Entry<String, V> {
+
+        private final int hash;
+
+        private String key;
+
+        private V value;
+
+        /** The next node in the same bucket. */
+        private Node<V> next;
+
+        /** The previous node in insertion order. */
+        private Node<V> before;
+
+        /** The next node in insertion order. */
+        private Node<V> after;
+
+        private Node(final int hash, final String key, final V value, final Node<V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return key.equals(other.getKey()) && Objects.equals(value, other.getValue());
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public V setValue(final V value) {
+            final V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * Required for serialization support.
+     *
+     * @see java.io.Serializable
+     */
+    private static final long serialVersionUID = 6185407394372540541L;
+
+    /**
+     * Folds the case of one character so that two characters are equal ignoring case if and only if their folded forms
+     * are equal, as in {@link String#equalsIgnoreCase(String)}: upper case, then lower case.
+     */
+    private static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Hashes a key ignoring case.
+     */
+    private static int hash(final String key) {
+        int h = 0;
+        final int length = key.length();
+        for (int i = 0; i < length; i++) {
+            final char c = key.charAt(i);
+            // ASCII letters fold to lower case without table lookups
+            h = 31 * h + (c < 128 ? c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c : fold(c));
+        }
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Compares two keys ignoring case, consistently with {@link #hash(String)}.
+     */
+    private static boolean matches(final String a, final String b) {
+        if (a == b) {
+            return true;
+        }
+        final int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c1 = a.charAt(i);
+            final char c2 = b.charAt(i);
+            if (c1 != c2 && fold(c1) != fold(c2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+        final int capacity = Math.max(expectedSize + expectedSize / 3 + 1, 4);
+        return capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private transient Node<V>[] table;
+
+    private transient Node<V> head;
+
+    private transient Node<V> tail;
+
+    private transient int size;
+
+    private transient int modCount;
+
+    /**
+     * Constructs an empty map sized for the given number of keys.
+     *
+     * @param initialCapacity The expected number of keys.
+     */
+    CaseInsensitiveHashMap(final int initialCapacity) {
+        table = newTable(tableSizeFor(Math.max(initialCapacity, 0)));
+    }
+
+    private void append(final Node<V> node) {
+        node.before = tail;
+        node.after = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.after = node;
+        }
+        tail = node;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+            Arrays.fill(table, null);
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return getNode(key.toString()) != null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return new AbstractSet<Map.Entry<String, V>>() {
+
+            @Override
+            public void clear() {
+                CaseInsensitiveHashMap.this.clear();
+            }
+
+            @Override
+            public Iterator<Map.Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public V get(final Object key) {
+        final Node<V> node = getNode(key.toString());
+        return node != null ? node.value : null;
+    }
+
+    private Node<V> getNode(final String key) {
+        final int hash = hash(key);
+        for (Node<V> node = table[hash & table.length - 1]; node != null; node = node.next) {
+            if (node.hash == hash && matches(node.key, key)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<V>[] newTable(final int capacity) {
+        return (Node<V>[]) new Node<?>[capacity];
+    }
+
+    /**
+     * Associates a value with a key. If the map already contains the key, ignoring case, the stored key is replaced by
+     * the given one and the entry moves to the end of the iteration order.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return The previous value, or {@code null} if there was none.
+     */
+    @Override
+    public V put(final String key, final V value) {
+        final int hash = hash(key);
+        final int bucket = hash & table.length - 1;
+        for (Node<V> node = table[bucket]; node != null; node = node.next) {
+            if (node.hash == hash && matches(node.key, key)) {
+                final V old = node.value;
+                node.key = key;
+                node.value = value;
+                if (node != tail) {
+                    unlink(node);
+                    append(node);
+                }
+                modCount++;
+                return old;
+            }
+        }
+        final Node<V> node = new Node<>(hash, key, value, table[bucket]);
+        table[bucket] = node;
+        append(node);
+        modCount++;
+        if (++size > table.length - (table.length >>> 2) && table.length < MAXIMUM_CAPACITY) {
+            resize();
+        }
+        return null;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int count = in.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("Illegal size: " + count);
+        }
+        // Grow through put() rather than trust the size read from the stream.
+        table = newTable(tableSizeFor(0));
+        for (int i = 0; i < count; i++) {
+            final String key = (String) in.readObject();
+            @SuppressWarnings("unchecked")
+            final V value = (V) in.readObject();
+            put(key, value);
+        }
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final Node<V> node = getNode(key.toString());
+        if (node == null) {
+            return null;
+        }
+        removeNode(node);
+        return node.value;
+    }
+
+    private void removeNode(final Node<V> node) {
+        final int bucket = node.hash & table.length - 1;
+        if (table[bucket] == node) {
+            table[bucket] = node.next;
+        } else {
+            Node<V> previous = table[bucket];
+            while (previous.next != node) {
+                previous = previous.next;
+            }
+            previous.next = node.next;
+        }
+        unlink(node);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Replaces the value of a key in place, without changing the stored key or the iteration order.
+     */
+    @Override
+    public V replace(final String key, final V value) {
+        final Node<V> node = getNode(key);
+        return node != null ? node.setValue(value) : null;
+    }
+
+    /**
+     * Replaces the value of a key in place, without changing the stored key or the iteration order.
+     */
+    @Override
+    public boolean replace(final String key, final V oldValue, final V newValue) {
+        final Node<V> node = getNode(key);
+        if (node == null || !Objects.equals(node.value, oldValue)) {
+            return false;
+        }
+        node.value = newValue;
+        return true;
+    }
+
+    private void resize() {
+        final Node<V>[] newTable = newTable(table.length << 1);
+        // Rehash in insertion order, so buckets need no reversal bookkeeping.
+        for (Node<V> node = head; node != null; node = node.after) {
+            final int bucket = node.hash & newTable.length - 1;
+            node.next = newTable[bucket];
+            newTable[bucket] = node;
+        }
+        table = newTable;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void unlink(final Node<V> node) {
+        if (node.before == null) {
+            head = node.after;
+        } else {
+            node.before.after = node.after;
+        }
+        if (node.after == null) {
+            tail = node.before;
+        } else {
+            node.after.before = node.before;
+        }
+        node.before = null;
+        node.after = null;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (Node<V> node = head; node != null; node = node.after) {
+            out.writeObject(node.key);
+            out.writeObject(node.value);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Receives the rows of a {@code ResultSet} in chunks, as they are fetched, and decides whether to continue.
+ *
+ * @param <T> The type of the rows, converted into objects.
+ * @see org.apache.commons.dbutils.handlers.ChunkedBeanHandler
+ * @since 1.9.0
+ */
+@FunctionalInterface
+public interface ChunkCallback<T> {
+
+    /**
+     * Handles one chunk of rows.
+     *
+     * @param chunk The rows, in {@code ResultSet} order. The list is only valid until this method returns.
+     * @return {@code true} to receive the next chunk, {@code false} to stop fetching rows.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    boolean handleChunk(List<T> chunk) throws SQLException;
+}
@@ -22,11 +22,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Annotation for BeanProcessor to receive hints of the field name rather than dissecting the method name.
+ * Annotation for BeanProcessor to receive hints of the field name rather than dissecting the method name. Put it on
+ * the read method of a property, or on the field itself for {@link FieldBeanProcessor}.
  *
  * @since 1.8.0
  */
-@Target({ ElementType.METHOD})
+@Target({ ElementType.METHOD, ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Column {
 
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A {@code BeanProcessor} that generates a dedicated mapper class for each bean class and result shape. The mapper
+ * reads columns with the typed {@code ResultSet} getters ({@code getInt}, {@code getLong}, {@code getString}, ...) and
+ * calls the bean setters directly, so {@link org.apache.commons.dbutils.handlers.BeanListHandler BeanListHandler}
+ * and friends come close to hand-written JDBC code.
+ * </p>
+ *
+ * <p>
+ * Columns mapped to properties of a primitive type, a primitive wrapper, {@code String} or {@code Timestamp} are
+ * compiled, provided the built-in {@code ColumnHandler} for the type is the one in effect and no
+ * {@code PropertyHandler} claims it; {@code PropertyHandler}s are consulted once per column with a representative
+ * value of the column's Java type instead of once per value. All other columns, and beans for which no mapper can be
+ * generated at all, go through the reflective {@code BeanProcessor} path, as do all columns after the first one that
+ * cannot be compiled, so that setters are called in column order as by {@code BeanProcessor}. Subclasses that override
+ * {@link #processColumn(ResultSet, int, Class)} or {@link #getWriteMethod(Object, PropertyDescriptor, Object)} always
+ * use the reflective path.
+ * </p>
+ *
+ * <p>
+ * Mappers are hidden classes, shared by all instances and unloaded with the bean class; on runtimes without hidden
+ * classes (before Java 15), and for instances constructed with a mapping plan cache size of 0, this class behaves like
+ * {@code BeanProcessor}.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+public class CompiledBeanProcessor extends BeanProcessor {
+
+    /**
+     * The mapper generated for a mapping plan.
+     */
+    static final class Mapper {
+
+        /** Used when no column of a plan can be compiled. */
+        static final Mapper NONE = new Mapper(null, null);
+
+        /** The generated {@code populate(Object, ResultSet)} method, or {@code null}. */
+        private final MethodHandle populate;
+
+        /** The mapped columns left to the reflective path, which follow all compiled columns. */
+        private final int[] residualColumns;
+
+        private Mapper(final MethodHandle populate, final int[] residualColumns) {
+            this.populate = populate;
+            this.residualColumns = residualColumns;
+        }
+
+        /**
+         * Gets the generated {@code populate(Object, ResultSet)} method.
+         *
+         * @return The method, or {@code null} if no class was generated for the plan.
+         */
+        MethodHandle getPopulate() {
+            return populate;
+        }
+
+        /**
+         * Tests whether a class was generated for the plan.
+         *
+         * @return Whether a class was generated.
+         */
+        boolean isCompiled() {
+            return populate != null;
+        }
+    }
+
+    /**
+     * Whether this instance may generate mappers; see the class comment.
+     */
+    private final boolean compile = BeanMapperGenerator.isAvailable() && cachesMappingPlans()
+            && !Overrides.isOverridden(this, BeanProcessor.class, "processColumn", ResultSet.class, int.class, Class.class)
+            && !Overrides.isOverridden(this, BeanProcessor.class, "getWriteMethod", Object.class, PropertyDescriptor.class, Object.class);
+
+    /**
+     * Constructs a new instance.
+     */
+    public CompiledBeanProcessor() {
+    }
+
+    /**
+     * Constructs a new instance configured with column to property name overrides.
+     *
+     * @param columnToPropertyOverrides ResultSet column to bean property name overrides
+     */
+    public CompiledBeanProcessor(final Map<String, String> columnToPropertyOverrides) {
+        super(columnToPropertyOverrides);
+    }
+
+    /**
+     * Constructs a new instance configured with column to property name overrides, a bound on the number of cached
+     * mapping plans and its own column and property handlers.
+     *
+     * @param columnToPropertyOverrides ResultSet column to bean property name overrides
+     * @param mappingPlanCacheSize The maximum number of mapping plans to cache.
+     * @param columnHandlers The column handlers.
+     * @param propertyHandlers The property handlers.
+     * @see BeanProcessor#BeanProcessor(Map, int, List, List)
+     */
+    public CompiledBeanProcessor(final Map<String, String> columnToPropertyOverrides, final int mappingPlanCacheSize,
+            final List<ColumnHandler<?>> columnHandlers, final List<PropertyHandler> propertyHandlers) {
+        super(columnToPropertyOverrides, mappingPlanCacheSize, columnHandlers, propertyHandlers);
+    }
+
+    /**
+     * Generates the mapper for a plan.
+     *
+     * @param plan The mapping plan.
+     * @return The mapper, {@link Mapper#NONE} if no column can be compiled.
+     */
+    private Mapper compile(final MappingPlan plan) {
+        if (!compile) {
+            return Mapper.NONE;
+        }
+        final int[] columnToProperty = plan.getColumnToProperty();
+        final PropertyDescriptor[] props = plan.getProps();
+        final boolean[] mapped = new boolean[props.length];
+        final List<Integer> columns = new ArrayList<>();
+        final List<Method> setters = new ArrayList<>();
+        final List<Integer> residual = new ArrayList<>();
+        for (int col = 1; col < columnToProperty.length; col++) {
+            final int property = columnToProperty[col];
+            if (property == PROPERTY_NOT_FOUND) {
+                continue;
+            }
+            if (mapped[property]) {
+                // Several columns write the same property: keep the reflective path's ordering.
+                return Mapper.NONE;
+            }
+            mapped[property] = true;
+            final PropertyDescriptor prop = props[property];
+            final Method setter = prop.getWriteMethod();
+            if (setter == null || setter.getParameterCount() != 1) {
+                // The reflective path ignores the column too.
+                continue;
+            }
+            // Once a column is left to the reflective path, so are the following ones, to keep the setters in order.
+            if (residual.isEmpty() && isCompilable(prop.getPropertyType(), setter.getParameterTypes()[0])) {
+                columns.add(Integer.valueOf(col));
+                setters.add(setter);
+            } else {
+                residual.add(Integer.valueOf(col));
+            }
+        }
+        if (columns.isEmpty()) {
+            return Mapper.NONE;
+        }
+        final MethodHandle populate = BeanMapperGenerator.mapper(plan.getKey().getType(), toIntArray(columns), setters.toArray(new Method[0]));
+        return populate == null ? Mapper.NONE : new Mapper(populate, toIntArray(residual));
+    }
+
+    /**
+     * Tests whether the generated code would behave exactly like the reflective path for a column.
+     *
+     * @param propType The property type.
+     * @param paramType The setter parameter type.
+     * @return Whether the column can be compiled.
+     */
+    private boolean isCompilable(final Class<?> propType, final Class<?> paramType) {
+        return propType == paramType && BeanMapperGenerator.isSupported(paramType) && hasBuiltInConversion(propType);
+    }
+
+    /**
+     * Gets the mapper for a plan, generating it on first use.
+     *
+     * @param plan The mapping plan.
+     * @return The mapper.
+     */
+    Mapper mapper(final MappingPlan plan) {
+        Mapper mapper = plan.getCompiledMapper();
+        if (mapper == null) {
+            mapper = compile(plan);
+            plan.setCompiledMapper(mapper);
+        }
+        return mapper;
+    }
+
+    @Override
+    <T> T populateBean(final ResultSet resultSet, final T bean, final MappingPlan plan) throws SQLException {
+        final Mapper mapper = mapper(plan);
+        if (!mapper.isCompiled()) {
+            return super.populateBean(resultSet, bean, plan);
+        }
+        try {
+            mapper.populate.invokeExact((Object) bean, resultSet);
+        } catch (final SQLException e) {
+            if (!BeanMapperGenerator.SETTER_FAILED.equals(e.getSQLState())) {
+                throw e;
+            }
+            // The mapper reports the column whose setter failed.
+            final String name = plan.getProps()[plan.getColumnToProperty()[e.getErrorCode()]].getName();
+            final Throwable cause = e.getCause();
+            throw new SQLException("Cannot set " + name + ": " + cause.getMessage(), cause);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            // The mapper wraps everything else.
+            throw new SQLException("Cannot populate " + bean.getClass().getName() + ": " + e.getMessage(), e);
+        }
+        for (final int col : mapper.residualColumns) {
+            populateColumn(resultSet, bean, plan, col);
+        }
+        return bean;
+    }
+
+    private static int[] toIntArray(final List<Integer> list) {
+        final int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i).intValue();
+        }
+        return array;
+    }
+}
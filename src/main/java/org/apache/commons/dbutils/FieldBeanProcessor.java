@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A {@code BeanProcessor} that maps columns to fields instead of bean properties, for classes that hold their data in
+ * fields without setters. Every field that is neither static nor final, declared by the class or a superclass, is
+ * mapped to the column with the same name ignoring case, or to the column named by a {@link Column} annotation on the
+ * field. When a class and a superclass declare fields with the same name, the subclass field wins.
+ * </p>
+ *
+ * <p>
+ * Fields are found and their {@link java.lang.invoke.VarHandle VarHandle}s resolved once per class, without
+ * {@link java.beans.Introspector}; columns are then read and converted exactly as for setters. Non-public fields must
+ * be in a package that is open to this library, which is always the case on the class path. Records and classes with a
+ * {@link java.beans.ConstructorProperties ConstructorProperties} constructor are still created through their
+ * constructor.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+public class FieldBeanProcessor extends BeanProcessor {
+
+    private static final ClassValue<PropertyDescriptor[]> FIELDS = new ClassValue<PropertyDescriptor[]>() {
+
+        @Override
+        protected PropertyDescriptor[] computeValue(final Class<?> type) {
+            final List<PropertyDescriptor> fields = new ArrayList<>();
+            try {
+                for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (final Field field : c.getDeclaredFields()) {
+                        final int modifiers = field.getModifiers();
+                        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.isSynthetic()) {
+                            final FieldDescriptor descriptor = FieldDescriptor.of(field);
+                            if (descriptor != null) {
+                                fields.add(descriptor);
+                            }
+                        }
+                    }
+                }
+            } catch (final IntrospectionException e) {
+                throw new IllegalStateException(e);
+            }
+            return fields.toArray(new PropertyDescriptor[0]);
+        }
+    };
+
+    /**
+     * Constructs a new instance.
+     */
+    public FieldBeanProcessor() {
+    }
+
+    /**
+     * Constructs a new instance configured with column to field name overrides.
+     *
+     * @param columnToPropertyOverrides ResultSet column to field name overrides
+     */
+    public FieldBeanProcessor(final Map<String, String> columnToPropertyOverrides) {
+        super(columnToPropertyOverrides);
+    }
+
+    /**
+     * Constructs a new instance configured with column to field name overrides, a bound on the number of cached mapping
+     * plans and its own column and property handlers, see
+     * {@link BeanProcessor#BeanProcessor(Map, int, List, List)}.
+     *
+     * @param columnToPropertyOverrides ResultSet column to field name overrides
+     * @param mappingPlanCacheSize The maximum number of mapping plans to cache.
+     * @param columnHandlers The column handlers.
+     * @param propertyHandlers The property handlers.
+     */
+    public FieldBeanProcessor(final Map<String, String> columnToPropertyOverrides, final int mappingPlanCacheSize,
+            final List<ColumnHandler<?>> columnHandlers, final List<PropertyHandler> propertyHandlers) {
+        super(columnToPropertyOverrides, mappingPlanCacheSize, columnHandlers, propertyHandlers);
+    }
+
+    /**
+     * Describes the mappable fields of the given class, subclass fields first.
+     *
+     * @param c The class.
+     * @return The field descriptors, shared by all instances; callers must not modify the array.
+     */
+    @Override
+    PropertyDescriptor[] propertyDescriptors(final Class<?> c) {
+        return FIELDS.get(c);
+    }
+}
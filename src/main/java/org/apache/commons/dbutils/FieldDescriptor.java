@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+
+/**
+ * Describes a field as a write-only property, so that {@link FieldBeanProcessor} can map columns to fields through the
+ * same mapping plans, column matching and value conversion as {@link BeanProcessor} uses for setters.
+ *
+ * <p>
+ * The field is written through a {@link VarHandle} resolved when the descriptor is created. Instances are immutable
+ * and thread-safe.
+ * </p>
+ */
+final class FieldDescriptor extends PropertyDescriptor {
+
+    /**
+     * Describes a field.
+     *
+     * @param field The field, neither static nor final.
+     * @return The descriptor, or {@code null} if the field is not accessible.
+     * @throws IntrospectionException Never, the field name is a valid property name.
+     */
+    static FieldDescriptor of(final Field field) throws IntrospectionException {
+        VarHandle varHandle;
+        try {
+            varHandle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectVarHandle(field);
+        } catch (final IllegalAccessException e) {
+            // The declaring package is not open to us, public fields of exported packages are still accessible.
+            try {
+                varHandle = MethodHandles.lookup().unreflectVarHandle(field);
+            } catch (final IllegalAccessException e2) {
+                return null;
+            }
+        }
+        return new FieldDescriptor(field, varHandle.toMethodHandle(VarHandle.AccessMode.SET));
+    }
+
+    private final Field field;
+
+    /**
+     * The field setter, {@code (declaring class, field type)void}.
+     */
+    private final MethodHandle setter;
+
+    private FieldDescriptor(final Field field, final MethodHandle setter) throws IntrospectionException {
+        super(field.getName(), null, null);
+        this.field = field;
+        this.setter = setter;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof FieldDescriptor && field.equals(((FieldDescriptor) obj).field);
+    }
+
+    /**
+     * Gets the described field.
+     *
+     * @return The field.
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets the type of the field.
+     *
+     * @return The field type.
+     */
+    @Override
+    public Class<?> getPropertyType() {
+        return field.getType();
+    }
+
+    /**
+     * Gets the field setter.
+     *
+     * @return The setter, {@code (declaring class, field type)void}.
+     */
+    MethodHandle getSetter() {
+        return setter;
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode();
+    }
+}
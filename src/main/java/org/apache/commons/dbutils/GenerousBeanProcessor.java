@@ -39,6 +39,12 @@ public class GenerousBeanProcessor extends BeanProcessor {
     protected int[] mapColumnsToProperties(final ResultSetMetaData rsmd,
             final PropertyDescriptor[] props) throws SQLException {
 
+        final String[] propNames = new String[props.length];
+        for (int i = 0; i < props.length; i++) {
+            propNames[i] = props[i].getName();
+        }
+        final PropertyNameIndex index = new PropertyNameIndex(propNames);
+
         final int cols = rsmd.getColumnCount();
         final int[] columnToProperty = new int[cols + 1];
         Arrays.fill(columnToProperty, PROPERTY_NOT_FOUND);
@@ -54,15 +60,13 @@ public class GenerousBeanProcessor extends BeanProcessor {
                     .replace("_", "")   // more idiomatic to Java
                     .replace(" ", "");  // can't have spaces in property names
 
-            for (int i = 0; i < props.length; i++) {
-                final String propName = props[i].getName();
-
-                // see if either the column name, or the generous one matches
-                if (columnName.equalsIgnoreCase(propName) ||
-                        generousColumnName.equalsIgnoreCase(propName)) {
-                    columnToProperty[col] = i;
-                    break;
-                }
+            // see if either the column name, or the generous one matches, the first property wins
+            final int exact = index.indexOf(columnName);
+            final int generous = index.indexOf(generousColumnName);
+            if (exact == PROPERTY_NOT_FOUND || generous != PROPERTY_NOT_FOUND && generous < exact) {
+                columnToProperty[col] = generous;
+            } else {
+                columnToProperty[col] = exact;
             }
         }
 
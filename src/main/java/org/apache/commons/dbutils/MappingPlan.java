@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.PropertyDescriptor;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The resolved binding of {@code ResultSet} columns to the properties of one bean class, computed once by
+ * {@link BeanProcessor} for each distinct result shape and reused for every row of that shape.
+ *
+ * <p>
+ * Instances are thread-safe. Apart from the mapper that {@link CompiledBeanProcessor} attaches on first use, they are
+ * immutable.
+ * </p>
+ */
+final class MappingPlan {
+
+    /**
+     * Identifies a mapping plan: the bean class plus the column labels and SQL types of the result set.
+     */
+    static final class Key {
+
+        /**
+         * Creates the key for the given bean class and result set meta data.
+         *
+         * @param type The bean class.
+         * @param rsmd The result set meta data.
+         * @return A new key.
+         * @throws SQLException Thrown if a database access error occurs
+         */
+        static Key of(final Class<?> type, final ResultSetMetaData rsmd) throws SQLException {
+            final int cols = rsmd.getColumnCount();
+            final String[] labels = new String[cols];
+            final int[] types = new int[cols];
+            for (int col = 1; col <= cols; col++) {
+                String label = rsmd.getColumnLabel(col);
+                if (label == null || label.isEmpty()) {
+                    label = rsmd.getColumnName(col);
+                }
+                labels[col - 1] = label;
+                types[col - 1] = rsmd.getColumnType(col);
+            }
+            return new Key(type, labels, types);
+        }
+
+        private final Class<?> type;
+
+        private final String[] labels;
+
+        private final int[] types;
+
+        private final int hashCode;
+
+        private Key(final Class<?> type, final String[] labels, final int[] types) {
+            this.type = type;
+            this.labels = labels;
+            this.types = types;
+            this.hashCode = 31 * (31 * type.hashCode() + Arrays.hashCode(labels)) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && type == other.type && Arrays.equals(types, other.types) && Arrays.equals(labels, other.labels);
+        }
+
+        /**
+         * Gets the bean class.
+         *
+         * @return The bean class.
+         */
+        Class<?> getType() {
+            return type;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return type.getName() + Arrays.toString(labels);
+        }
+    }
+
+    private final Key key;
+
+    private final PropertyDescriptor[] props;
+
+    private final int[] columnToProperty;
+
+    private final PropertyWriter[] writers;
+
+    /**
+     * The registered mapper for the bean class, or {@code null} if the bean is populated property by property.
+     */
+    private final BeanMapper<Object> beanMapper;
+
+    /**
+     * The property index to column index mappings passed to {@link #beanMapper}.
+     */
+    private final int[] beanMapperColumns;
+
+    /**
+     * The constructor that creates instances of the bean class, or {@code null} if they are populated through setters.
+     */
+    private final BeanConstructor beanConstructor;
+
+    /**
+     * The column index of each {@link #beanConstructor} parameter.
+     */
+    private final int[] parameterColumns;
+
+    /**
+     * The mapper generated for this plan by {@link CompiledBeanProcessor}, set on first use.
+     */
+    private volatile CompiledBeanProcessor.Mapper compiledMapper;
+
+    /**
+     * Constructs a new plan.
+     *
+     * @param key The key the plan is built for.
+     * @param props The property descriptors of the bean class.
+     * @param columnToProperty The column index to property index mappings.
+     * @param writers The writer bound for each column, {@code null} elements for columns set through reflection.
+     */
+    MappingPlan(final Key key, final PropertyDescriptor[] props, final int[] columnToProperty, final PropertyWriter[] writers) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.props = props;
+        this.columnToProperty = columnToProperty;
+        this.writers = writers;
+        this.beanMapper = null;
+        this.beanMapperColumns = null;
+        this.beanConstructor = null;
+        this.parameterColumns = null;
+    }
+
+    /**
+     * Constructs a new plan that delegates to a registered {@link BeanMapper}.
+     *
+     * @param key The key the plan is built for.
+     * @param beanMapper The mapper for the bean class.
+     * @param beanMapperColumns The column index of each mapper property, 0 if absent.
+     */
+    @SuppressWarnings("unchecked")
+    MappingPlan(final Key key, final BeanMapper<?> beanMapper, final int[] beanMapperColumns) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.props = new PropertyDescriptor[0];
+        this.columnToProperty = new int[key.labels.length + 1];
+        Arrays.fill(columnToProperty, BeanProcessor.PROPERTY_NOT_FOUND);
+        this.writers = new PropertyWriter[columnToProperty.length];
+        this.beanMapper = (BeanMapper<Object>) Objects.requireNonNull(beanMapper, "beanMapper");
+        this.beanMapperColumns = beanMapperColumns;
+        this.beanConstructor = null;
+        this.parameterColumns = null;
+    }
+
+    /**
+     * Constructs a new plan that creates instances through a {@link BeanConstructor}.
+     *
+     * @param key The key the plan is built for.
+     * @param beanConstructor The constructor of the bean class.
+     * @param parameterColumns The column index of each constructor parameter, 0 if absent.
+     */
+    MappingPlan(final Key key, final BeanConstructor beanConstructor, final int[] parameterColumns) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.props = new PropertyDescriptor[0];
+        this.columnToProperty = new int[key.labels.length + 1];
+        Arrays.fill(columnToProperty, BeanProcessor.PROPERTY_NOT_FOUND);
+        this.writers = new PropertyWriter[columnToProperty.length];
+        this.beanMapper = null;
+        this.beanMapperColumns = null;
+        this.beanConstructor = Objects.requireNonNull(beanConstructor, "beanConstructor");
+        this.parameterColumns = parameterColumns;
+    }
+
+    /**
+     * Gets the constructor that creates instances of the bean class.
+     *
+     * @return The constructor, or {@code null} if instances are populated through setters.
+     */
+    BeanConstructor getBeanConstructor() {
+        return beanConstructor;
+    }
+
+    /**
+     * Gets the registered mapper for the bean class.
+     *
+     * @return The mapper, or {@code null} if the bean is populated property by property.
+     */
+    BeanMapper<Object> getBeanMapper() {
+        return beanMapper;
+    }
+
+    /**
+     * Gets the column index of each {@link #getBeanMapper() mapper} property.
+     *
+     * @return The 1-based column indexes, 0 for properties without a column.
+     */
+    int[] getBeanMapperColumns() {
+        return beanMapperColumns;
+    }
+
+    /**
+     * Gets the column index to property index mappings, as computed by {@link BeanProcessor#mapColumnsToProperties}.
+     *
+     * @return The column to property mappings; the 0th element is meaningless.
+     */
+    int[] getColumnToProperty() {
+        return columnToProperty;
+    }
+
+    /**
+     * Gets the mapper generated for this plan.
+     *
+     * @return The mapper, or {@code null} if none has been generated yet.
+     */
+    CompiledBeanProcessor.Mapper getCompiledMapper() {
+        return compiledMapper;
+    }
+
+    /**
+     * Gets the column index of each {@link #getBeanConstructor() constructor} parameter.
+     *
+     * @return The 1-based column indexes, 0 for parameters without a column.
+     */
+    int[] getParameterColumns() {
+        return parameterColumns;
+    }
+
+    /**
+     * Gets the key this plan was built for.
+     *
+     * @return The key.
+     */
+    Key getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the bound writer for the property mapped to the given column.
+     *
+     * @param col The column index, 1-based.
+     * @return The writer, or {@code null} if the property must be set through reflection.
+     */
+    PropertyWriter getWriter(final int col) {
+        return writers[col];
+    }
+
+    /**
+     * Gets the property descriptors of the bean class.
+     *
+     * @return The property descriptors.
+     */
+    PropertyDescriptor[] getProps() {
+        return props;
+    }
+
+    /**
+     * Sets the mapper generated for this plan. Racing threads may each generate a mapper; any of them may be kept.
+     *
+     * @param compiledMapper The mapper.
+     */
+    void setCompiledMapper(final CompiledBeanProcessor.Mapper compiledMapper) {
+        this.compiledMapper = compiledMapper;
+    }
+}
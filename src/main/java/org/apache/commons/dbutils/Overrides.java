@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+/**
+ * Detects subclasses that customize a method of a processor or handler, which the class's fast paths would otherwise
+ * bypass. This class is used by the processors and handlers of DbUtils and is not meant to be used by applications.
+ *
+ * @since 1.9.0
+ */
+public final class Overrides {
+
+    /**
+     * Tests whether the class of an object overrides a method of one of its superclasses.
+     *
+     * @param object The processor or handler.
+     * @param base The class that declares the method.
+     * @param name The method name.
+     * @param parameterTypes The method parameter types.
+     * @return Whether a subclass of {@code base} declares the method.
+     */
+    public static boolean isOverridden(final Object object, final Class<?> base, final String name, final Class<?>... parameterTypes) {
+        for (Class<?> c = object.getClass(); c != base && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // keep looking
+            }
+        }
+        return false;
+    }
+
+    private Overrides() {
+        // no instances
+    }
+}
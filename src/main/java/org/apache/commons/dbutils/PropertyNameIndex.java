@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A case-insensitive hash index of property names, so that resolving the columns of a result set costs one lookup per
+ * column rather than one {@code equalsIgnoreCase} call per column and property.
+ *
+ * <p>
+ * Names are matched exactly as {@link String#equalsIgnoreCase(String)} matches them. When several properties have
+ * names that are equal ignoring case, the index returns the first one.
+ * </p>
+ */
+final class PropertyNameIndex {
+
+    /**
+     * Folds the case of a name so that two names are equal ignoring case if and only if their folded forms are equal.
+     * This applies the per character comparison of {@link String#equalsIgnoreCase(String)}: upper case, then lower case.
+     *
+     * @param name The name.
+     * @return The folded name.
+     */
+    static String fold(final String name) {
+        final char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Indexes the given names.
+     *
+     * @param names The property names, {@code null} elements are skipped.
+     */
+    PropertyNameIndex(final String[] names) {
+        indexes = new HashMap<>(names.length * 4 / 3 + 1);
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] != null) {
+                indexes.putIfAbsent(fold(names[i]), Integer.valueOf(i));
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the first property whose name equals the given name, ignoring case.
+     *
+     * @param name The name to look up.
+     * @return The property index, or {@link BeanProcessor#PROPERTY_NOT_FOUND} if no property matches.
+     */
+    int indexOf(final String name) {
+        final Integer index = indexes.get(fold(name));
+        return index != null ? index.intValue() : BeanProcessor.PROPERTY_NOT_FOUND;
+    }
+}
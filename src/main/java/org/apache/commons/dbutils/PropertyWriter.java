@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes one bean property, or one field described by a {@link FieldDescriptor}, through a {@link MethodHandle} bound
+ * once per {@link MappingPlan}, so setting a value costs neither a reflective lookup nor a {@code Method.invoke} call.
+ *
+ * <p>
+ * Writers for properties of a primitive or primitive wrapper type can also be bound to read their column themselves,
+ * see {@link #copy(ResultSet, int, Object)}: the column is then read once with the typed {@code ResultSet} getter and
+ * primitive values reach the setter without being boxed.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ */
+final class PropertyWriter {
+
+    private static final MethodType GENERIC_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType COPIER = MethodType.methodType(void.class, Object.class, ResultSet.class, int.class);
+
+    /**
+     * Typed column readers, {@code (ResultSet, int)} to the property type, by property type.
+     */
+    private static final Map<Class<?>, MethodHandle> READERS = new HashMap<>();
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            READERS.put(Boolean.TYPE, lookup.findVirtual(ResultSet.class, "getBoolean", MethodType.methodType(boolean.class, int.class)));
+            READERS.put(Byte.TYPE, lookup.findVirtual(ResultSet.class, "getByte", MethodType.methodType(byte.class, int.class)));
+            READERS.put(Short.TYPE, lookup.findVirtual(ResultSet.class, "getShort", MethodType.methodType(short.class, int.class)));
+            READERS.put(Integer.TYPE, lookup.findVirtual(ResultSet.class, "getInt", MethodType.methodType(int.class, int.class)));
+            READERS.put(Long.TYPE, lookup.findVirtual(ResultSet.class, "getLong", MethodType.methodType(long.class, int.class)));
+            READERS.put(Float.TYPE, lookup.findVirtual(ResultSet.class, "getFloat", MethodType.methodType(float.class, int.class)));
+            READERS.put(Double.TYPE, lookup.findVirtual(ResultSet.class, "getDouble", MethodType.methodType(double.class, int.class)));
+            READERS.put(Boolean.class, lookup.findStatic(PropertyWriter.class, "getBoolean", MethodType.methodType(Boolean.class, ResultSet.class, int.class)));
+            READERS.put(Byte.class, lookup.findStatic(PropertyWriter.class, "getByte", MethodType.methodType(Byte.class, ResultSet.class, int.class)));
+            READERS.put(Short.class, lookup.findStatic(PropertyWriter.class, "getShort", MethodType.methodType(Short.class, ResultSet.class, int.class)));
+            READERS.put(Integer.class, lookup.findStatic(PropertyWriter.class, "getInteger", MethodType.methodType(Integer.class, ResultSet.class, int.class)));
+            READERS.put(Long.class, lookup.findStatic(PropertyWriter.class, "getLong", MethodType.methodType(Long.class, ResultSet.class, int.class)));
+            READERS.put(Float.class, lookup.findStatic(PropertyWriter.class, "getFloat", MethodType.methodType(Float.class, ResultSet.class, int.class)));
+            READERS.put(Double.class, lookup.findStatic(PropertyWriter.class, "getDouble", MethodType.methodType(Double.class, ResultSet.class, int.class)));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static Boolean getBoolean(final ResultSet resultSet, final int index) throws SQLException {
+        final boolean value = resultSet.getBoolean(index);
+        return resultSet.wasNull() ? null : Boolean.valueOf(value);
+    }
+
+    private static Byte getByte(final ResultSet resultSet, final int index) throws SQLException {
+        final byte value = resultSet.getByte(index);
+        return resultSet.wasNull() ? null : Byte.valueOf(value);
+    }
+
+    private static Double getDouble(final ResultSet resultSet, final int index) throws SQLException {
+        final double value = resultSet.getDouble(index);
+        return resultSet.wasNull() ? null : Double.valueOf(value);
+    }
+
+    private static Float getFloat(final ResultSet resultSet, final int index) throws SQLException {
+        final float value = resultSet.getFloat(index);
+        return resultSet.wasNull() ? null : Float.valueOf(value);
+    }
+
+    private static Integer getInteger(final ResultSet resultSet, final int index) throws SQLException {
+        final int value = resultSet.getInt(index);
+        return resultSet.wasNull() ? null : Integer.valueOf(value);
+    }
+
+    private static Long getLong(final ResultSet resultSet, final int index) throws SQLException {
+        final long value = resultSet.getLong(index);
+        return resultSet.wasNull() ? null : Long.valueOf(value);
+    }
+
+    private static Short getShort(final ResultSet resultSet, final int index) throws SQLException {
+        final short value = resultSet.getShort(index);
+        return resultSet.wasNull() ? null : Short.valueOf(value);
+    }
+
+    /**
+     * Tests whether a writer for a property of the given type can read its column itself.
+     *
+     * @param type The property type.
+     * @return Whether {@link #of(PropertyDescriptor, boolean)} can bind a typed read.
+     */
+    static boolean isTypedReadSupported(final Class<?> type) {
+        return READERS.containsKey(type);
+    }
+
+    /**
+     * Binds the write method of the given property.
+     *
+     * @param prop The property to bind.
+     * @return A writer, or {@code null} if the property has no single argument write method or the write method is not
+     *         accessible, in which case callers fall back to reflection.
+     */
+    static PropertyWriter of(final PropertyDescriptor prop) {
+        return of(prop, false);
+    }
+
+    /**
+     * Binds the write method of the given property and, if requested and supported, a typed read of its column.
+     *
+     * @param prop The property to bind.
+     * @param typedRead Whether to bind a typed read, see {@link #copy(ResultSet, int, Object)}.
+     * @return A writer, or {@code null} if the property has no single argument write method or the write method is not
+     *         accessible, in which case callers fall back to reflection.
+     */
+    static PropertyWriter of(final PropertyDescriptor prop, final boolean typedRead) {
+        if (prop instanceof FieldDescriptor) {
+            return of(prop.getName(), prop.getPropertyType(), ((FieldDescriptor) prop).getSetter(), typedRead);
+        }
+        final Method setter = prop.getWriteMethod();
+        if (setter == null || setter.getParameterCount() != 1) {
+            return null;
+        }
+        final Class<?> type = setter.getParameterTypes()[0];
+        try {
+            return of(prop.getName(), type, MethodHandles.lookup().unreflect(setter), typedRead && type == prop.getPropertyType());
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Binds a setter handle and, if requested and supported, a typed read of its column.
+     *
+     * @param name The property name.
+     * @param type The type of the value the setter takes.
+     * @param handle The setter, taking the bean and the value.
+     * @param typedRead Whether to bind a typed read, see {@link #copy(ResultSet, int, Object)}.
+     * @return A writer.
+     */
+    private static PropertyWriter of(final String name, final Class<?> type, final MethodHandle handle, final boolean typedRead) {
+        MethodHandle copier = null;
+        if (typedRead && isTypedReadSupported(type)) {
+            // (Object bean, ResultSet rs, int index) -> bean.setX(rs.getX(index))
+            copier = MethodHandles.collectArguments(handle.asType(MethodType.methodType(void.class, Object.class, type)), 1, READERS.get(type))
+                    .asType(COPIER);
+        }
+        return new PropertyWriter(name, type, handle.asType(GENERIC_SETTER), copier);
+    }
+
+    private final String name;
+
+    private final Class<?> type;
+
+    /**
+     * The setter, adapted to {@code (Object, Object)void}.
+     */
+    private final MethodHandle setter;
+
+    /**
+     * Reads the column and calls the setter, adapted to {@code (Object, ResultSet, int)void}, or {@code null}.
+     */
+    private final MethodHandle copier;
+
+    private PropertyWriter(final String name, final Class<?> type, final MethodHandle setter, final MethodHandle copier) {
+        this.name = name;
+        this.type = type;
+        this.setter = setter;
+        this.copier = copier;
+    }
+
+    /**
+     * Reads a column of the current row with the typed {@code ResultSet} getter for the property type and sets the
+     * property. Primitive properties are set to the getter's default for SQL NULL, wrapper properties to {@code null}.
+     *
+     * @param resultSet The result set, positioned on a valid row.
+     * @param index The column index, 1-based.
+     * @param bean The bean to set the property on.
+     * @throws SQLException Thrown if a database access error occurs or the write method fails.
+     */
+    void copy(final ResultSet resultSet, final int index, final Object bean) throws SQLException {
+        try {
+            copier.invokeExact(bean, resultSet, index);
+        } catch (final SQLException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new SQLException("Cannot set " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the property name.
+     *
+     * @return The property name.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the write method parameter.
+     *
+     * @return The parameter type.
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Tests whether this writer reads its column itself.
+     *
+     * @return Whether {@link #copy(ResultSet, int, Object)} may be called.
+     */
+    boolean isTypedRead() {
+        return copier != null;
+    }
+
+    /**
+     * Sets the property on the given bean. The value must be compatible with {@link #getType()}.
+     *
+     * @param bean The bean to set the property on.
+     * @param value The value, may be {@code null} for non-primitive properties.
+     * @throws SQLException Thrown if the write method fails.
+     */
+    void set(final Object bean, final Object value) throws SQLException {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new SQLException("Cannot set " + name + ": " + e.getMessage(), e);
+        }
+    }
+}
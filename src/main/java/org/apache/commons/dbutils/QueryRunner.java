@@ -25,9 +25,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.dbutils.handlers.BeanCallbackHandler;
+import org.apache.commons.dbutils.handlers.RowCallbackHandler;
+
 /**
  * Executes SQL queries with pluggable strategies for handling
  * {@code ResultSet}s.  This class is thread safe.
@@ -36,6 +41,11 @@ import javax.sql.DataSource;
  */
 public class QueryRunner extends AbstractQueryRunner {
 
+    /**
+     * The processor that converts the rows of {@code stream} queries into beans when none is given.
+     */
+    private static final RowProcessor ROW_PROCESSOR = new BasicRowProcessor();
+
     /**
      * Constructor for QueryRunner.
      */
@@ -352,6 +362,93 @@ public class QueryRunner extends AbstractQueryRunner {
         }
     }
 
+    /**
+     * Executes an SQL SELECT query with replacement parameters and converts
+     * each row into a bean, which it passes to the callback as the row is
+     * fetched, without keeping it. The callback stops the query by returning
+     * {@code false}, after which no more rows are fetched and the statement
+     * is closed. The caller is responsible for closing the connection.
+     *
+     * @param <T> The type of the beans
+     * @param conn The connection to execute the query in.
+     * @param sql The query to execute.
+     * @param type The class of the beans.
+     * @param callback The callback that receives the bean of each row.
+     * @param params The replacement parameters.
+     * @return The number of beans passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see BeanCallbackHandler
+     * @since 1.9.0
+     */
+    public <T> long forEachRow(final Connection conn, final String sql, final Class<? extends T> type, final RowCallback<? super T> callback,
+            final Object... params) throws SQLException {
+        return this.query(conn, sql, new BeanCallbackHandler<T>(type, callback), params).longValue();
+    }
+
+    /**
+     * Executes an SQL SELECT query with replacement parameters and passes
+     * the {@code ResultSet}, positioned on each row in turn, to the callback,
+     * without keeping any row. The callback stops the query by returning
+     * {@code false}, after which no more rows are fetched and the statement
+     * is closed. The caller is responsible for closing the connection.
+     *
+     * @param conn The connection to execute the query in.
+     * @param sql The query to execute.
+     * @param callback The callback that receives the {@code ResultSet} positioned on each row.
+     * @param params The replacement parameters.
+     * @return The number of rows passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see RowCallbackHandler
+     * @since 1.9.0
+     */
+    public long forEachRow(final Connection conn, final String sql, final RowCallback<? super ResultSet> callback, final Object... params)
+            throws SQLException {
+        return this.query(conn, sql, new RowCallbackHandler(callback), params).longValue();
+    }
+
+    /**
+     * Executes the given SELECT SQL query and converts each row into a bean,
+     * which it passes to the callback as the row is fetched, without keeping
+     * it. The callback stops the query by returning {@code false}, after which
+     * no more rows are fetched. The {@code Connection} is retrieved from the
+     * {@code DataSource} set in the constructor.
+     *
+     * @param <T> The type of the beans
+     * @param sql The SQL statement to execute.
+     * @param type The class of the beans.
+     * @param callback The callback that receives the bean of each row.
+     * @param params Initialize the PreparedStatement's IN parameters with
+     * this array.
+     * @return The number of beans passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see BeanCallbackHandler
+     * @since 1.9.0
+     */
+    public <T> long forEachRow(final String sql, final Class<? extends T> type, final RowCallback<? super T> callback, final Object... params)
+            throws SQLException {
+        return this.query(sql, new BeanCallbackHandler<T>(type, callback), params).longValue();
+    }
+
+    /**
+     * Executes the given SELECT SQL query and passes the {@code ResultSet},
+     * positioned on each row in turn, to the callback, without keeping any
+     * row. The callback stops the query by returning {@code false}, after
+     * which no more rows are fetched. The {@code Connection} is retrieved
+     * from the {@code DataSource} set in the constructor.
+     *
+     * @param sql The SQL statement to execute.
+     * @param callback The callback that receives the {@code ResultSet} positioned on each row.
+     * @param params Initialize the PreparedStatement's IN parameters with
+     * this array.
+     * @return The number of rows passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see RowCallbackHandler
+     * @since 1.9.0
+     */
+    public long forEachRow(final String sql, final RowCallback<? super ResultSet> callback, final Object... params) throws SQLException {
+        return this.query(sql, new RowCallbackHandler(callback), params).longValue();
+    }
+
     /**
      * Execute an SQL INSERT query without replacement parameters.
      *
@@ -736,6 +833,232 @@ public class QueryRunner extends AbstractQueryRunner {
         }
     }
 
+    /**
+     * Executes an SQL SELECT query with replacement parameters and returns
+     * its rows as a lazy {@code Stream} of beans, converted one at a time by
+     * a {@code BasicRowProcessor} as the stream is consumed. The caller is
+     * responsible for closing the connection.
+     *
+     * @param <T> The type of the beans
+     * @param conn The connection to execute the query in.
+     * @param sql The query to execute.
+     * @param type The class of the beans.
+     * @param params The replacement parameters.
+     * @return The rows, see {@link #stream(Connection, String, RowMapper, Object...)}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final Connection conn, final String sql, final Class<? extends T> type, final Object... params) throws SQLException {
+        return this.<T>stream(conn, false, sql, ROW_PROCESSOR, type, params);
+    }
+
+    /**
+     * Executes an SQL SELECT query with replacement parameters and returns
+     * its rows as a lazy {@code Stream} of beans, converted one at a time by
+     * the given {@code RowProcessor} as the stream is consumed. The caller is
+     * responsible for closing the connection.
+     *
+     * @param <T> The type of the beans
+     * @param conn The connection to execute the query in.
+     * @param sql The query to execute.
+     * @param convert The processor that converts each row into a bean.
+     * @param type The class of the beans.
+     * @param params The replacement parameters.
+     * @return The rows, see {@link #stream(Connection, String, RowMapper, Object...)}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final Connection conn, final String sql, final RowProcessor convert, final Class<? extends T> type,
+            final Object... params) throws SQLException {
+        return this.<T>stream(conn, false, sql, convert, type, params);
+    }
+
+    /**
+     * Executes an SQL SELECT query with replacement parameters and returns
+     * its rows as a lazy {@code Stream}, each converted by the given mapper
+     * as the stream is consumed, so that results of any size can be processed
+     * in constant memory. The caller is responsible for closing the connection.
+     *
+     * <p>
+     * The mapper is called once per row, with the {@code ResultSet}
+     * positioned on that row, and must neither move the cursor nor return
+     * {@code null}. For example, to stream the values of the first column:
+     * </p>
+     *
+     * <pre>
+     * try (Stream&lt;String&gt; names = runner.stream(conn, "SELECT name FROM person", rs -&gt; rs.getString(1))) {
+     *     ...
+     * }
+     * </pre>
+     *
+     * <p>
+     * The statement is prepared by {@link #prepareStatement(Connection, String)},
+     * so that the {@code StatementConfiguration} of this runner, notably its
+     * fetch size, applies to it. The {@code ResultSet} and the statement stay
+     * open until the stream is exhausted, a row cannot be read, or the stream
+     * is closed; close it, with try-with-resources, when it may not be fully
+     * consumed. They are also released when a row cannot be read or mapped;
+     * an {@code SQLException} thrown while the rows are read is rethrown as
+     * an {@code IllegalStateException} whose cause it is.
+     * </p>
+     *
+     * @param <T> The type of the rows
+     * @param conn The connection to execute the query in.
+     * @param sql The query to execute.
+     * @param rowMapper The mapper that converts the current row.
+     * @param params The replacement parameters.
+     * @return The rows, a sequential stream that must be consumed by one thread.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final Connection conn, final String sql, final RowMapper<? extends T> rowMapper, final Object... params)
+            throws SQLException {
+        return this.<T>stream(conn, false, sql, rowMapper == null ? null : resultSet -> rowMapper, params);
+    }
+
+    /**
+     * Executes the query and returns its rows as beans, converted by the
+     * processor prepared for the {@code ResultSet}.
+     */
+    private <T> Stream<T> stream(final Connection conn, final boolean closeConn, final String sql, final RowProcessor convert,
+            final Class<? extends T> type, final Object... params) throws SQLException {
+        if (convert == null || type == null) {
+            if (closeConn) {
+                close(conn);
+            }
+            throw new SQLException(convert == null ? "Null RowProcessor" : "Null bean type");
+        }
+        return this.<T>stream(conn, closeConn, sql, resultSet -> {
+            final RowProcessor prepared = convert.prepare(resultSet);
+            return row -> prepared.toBean(row, type);
+        }, params);
+    }
+
+    /**
+     * Executes the query and returns its rows as a stream, which releases
+     * the resources of the query, including the connection if
+     * {@code closeConn} is true, when it is exhausted or closed. The
+     * {@code rowMappers} handler is called once, before the first row, to
+     * create the mapper that converts each row.
+     */
+    private <T> Stream<T> stream(final Connection conn, final boolean closeConn, final String sql,
+            final ResultSetHandler<? extends RowMapper<? extends T>> rowMappers, final Object... params) throws SQLException {
+        if (conn == null) {
+            throw new SQLException("Null connection");
+        }
+
+        if (sql == null) {
+            if (closeConn) {
+                close(conn);
+            }
+            throw new SQLException("Null SQL statement");
+        }
+
+        if (rowMappers == null) {
+            if (closeConn) {
+                close(conn);
+            }
+            throw new SQLException("Null RowMapper");
+        }
+
+        PreparedStatement stmt = null;
+        ResultSet resultSet = null;
+        RowMapper<? extends T> rowMapper = null;
+
+        try {
+            stmt = this.prepareStatement(conn, sql);
+            this.fillStatement(stmt, params);
+            resultSet = wrap(stmt.executeQuery());
+            rowMapper = rowMappers.handle(resultSet);
+
+        } catch (final SQLException e) {
+            closeQuietly(resultSet);
+            closeQuietly(stmt);
+            if (closeConn) {
+                closeQuietly(conn);
+            }
+            rethrow(e, sql, params);
+        }
+
+        final ResultSet rs = resultSet;
+        final Statement st = stmt;
+        final ResultSetSpliterator<T> rows = new ResultSetSpliterator<>(rs, rowMapper, () -> {
+            closeQuietly(rs);
+            closeQuietly(st);
+            if (closeConn) {
+                closeQuietly(conn);
+            }
+        });
+        return StreamSupport.stream(rows, false).onClose(rows::close);
+    }
+
+    /**
+     * Executes the given SELECT SQL query and returns its rows as a lazy
+     * {@code Stream} of beans, converted one at a time by a
+     * {@code BasicRowProcessor}. The {@code Connection} is retrieved from the
+     * {@code DataSource} set in the constructor, and closed with the
+     * {@code ResultSet} and the statement.
+     *
+     * @param <T> The type of the beans
+     * @param sql The SQL statement to execute.
+     * @param type The class of the beans.
+     * @param params Initialize the PreparedStatement's IN parameters with
+     * this array.
+     * @return The rows, see {@link #stream(String, RowMapper, Object...)}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final String sql, final Class<? extends T> type, final Object... params) throws SQLException {
+        return this.<T>stream(prepareConnection(), true, sql, ROW_PROCESSOR, type, params);
+    }
+
+    /**
+     * Executes the given SELECT SQL query and returns its rows as a lazy
+     * {@code Stream} of beans, converted one at a time by the given
+     * {@code RowProcessor}. The {@code Connection} is retrieved from the
+     * {@code DataSource} set in the constructor, and closed with the
+     * {@code ResultSet} and the statement.
+     *
+     * @param <T> The type of the beans
+     * @param sql The SQL statement to execute.
+     * @param convert The processor that converts each row into a bean.
+     * @param type The class of the beans.
+     * @param params Initialize the PreparedStatement's IN parameters with
+     * this array.
+     * @return The rows, see {@link #stream(String, RowMapper, Object...)}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final String sql, final RowProcessor convert, final Class<? extends T> type, final Object... params) throws SQLException {
+        return this.<T>stream(prepareConnection(), true, sql, convert, type, params);
+    }
+
+    /**
+     * Executes the given SELECT SQL query and returns its rows as a lazy
+     * {@code Stream}, each converted by the given mapper. The
+     * {@code Connection} is retrieved from the {@code DataSource} set in the
+     * constructor.
+     *
+     * <p>
+     * The connection, statement and {@code ResultSet} stay open until the
+     * stream is exhausted, a row cannot be read or mapped, or the stream is closed;
+     * close it, with try-with-resources, when it may not be fully consumed.
+     * See {@link #stream(Connection, String, RowMapper, Object...)}.
+     * </p>
+     *
+     * @param <T> The type of the rows
+     * @param sql The SQL statement to execute.
+     * @param rowMapper The mapper that converts the current row.
+     * @param params Initialize the PreparedStatement's IN parameters with
+     * this array.
+     * @return The rows, a sequential stream that must be consumed by one thread.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final String sql, final RowMapper<? extends T> rowMapper, final Object... params) throws SQLException {
+        return this.<T>stream(prepareConnection(), true, sql, rowMapper == null ? null : resultSet -> rowMapper, params);
+    }
+
     /**
      * Execute an SQL INSERT, UPDATE, or DELETE query without replacement
      * parameters.
@@ -20,6 +20,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <p>
@@ -29,11 +37,138 @@ import java.util.NoSuchElementException;
  * </p>
  *
  * <p>
- * This implementation requires the {@code ResultSet.isLast()} method
- * to be implemented.
+ * The iterator looks one row ahead: {@link #hasNext()} advances the {@code ResultSet}
+ * with {@code next()} if it has not done so since the last row was returned, and
+ * {@link #next()} converts the row it advanced to. It does not call
+ * {@code ResultSet.isLast()}, which some drivers do not support on forward only
+ * result sets, or answer by fetching rows ahead.
+ * </p>
+ *
+ * <p>
+ * An iterator constructed with a prefetch buffer instead reads and converts the rows
+ * on a background task, which stays up to that many rows ahead of the caller, so that
+ * fetching and converting rows overlaps with processing them. The {@code ResultSet} is
+ * then used only by the background task until the rows are exhausted or the iterator is
+ * {@link #close() closed}; close the iterator before closing the {@code ResultSet} if
+ * not all rows are read.
  * </p>
  */
-public class ResultSetIterator implements Iterator<Object[]> {
+public class ResultSetIterator implements Iterator<Object[]>, AutoCloseable {
+
+    /**
+     * Reads and converts rows into a bounded queue on a background task.
+     */
+    private static final class Prefetcher implements Runnable {
+
+        /**
+         * Follows the last row in the queue.
+         */
+        private static final Object END = new Object();
+
+        /**
+         * How long the background task waits for room in the queue before checking whether it is closed.
+         */
+        private static final long OFFER_MILLIS = 100;
+
+        private final ResultSet resultSet;
+
+        private final RowProcessor convert;
+
+        /**
+         * Rows, followed by {@link #END} or the {@code Throwable} that stopped the background task.
+         */
+        private final BlockingQueue<Object> queue;
+
+        /**
+         * Set by the first of {@link #run()} and {@link #close()}, so that a task closed before it runs never starts.
+         */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        private volatile boolean closed;
+
+        Prefetcher(final ResultSet resultSet, final RowProcessor convert, final int size) {
+            this.resultSet = resultSet;
+            this.convert = convert;
+            this.queue = new ArrayBlockingQueue<>(size);
+        }
+
+        /**
+         * Stops the background task and waits for it to stop using the {@code ResultSet}.
+         */
+        void close() {
+            closed = true;
+            if (claimed.compareAndSet(false, true)) {
+                return;
+            }
+            // make room for a blocked row, and for the end
+            queue.clear();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    stopped.await();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Adds an item to the queue, unless the prefetcher is closed first.
+         */
+        private void put(final Object item) throws InterruptedException {
+            while (!closed) {
+                if (queue.offer(item, OFFER_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                Object last = END;
+                try {
+                    final RowProcessor prepared = convert.prepare(resultSet);
+                    while (!closed && resultSet.next()) {
+                        put(prepared.toArray(resultSet));
+                    }
+                } catch (final SQLException | RuntimeException | Error e) {
+                    last = e;
+                }
+                put(last);
+            } catch (final InterruptedException e) {
+                // the end is lost: take() finds the task stopped
+                Thread.currentThread().interrupt();
+            } finally {
+                stopped.countDown();
+            }
+        }
+
+        /**
+         * Takes the next item from the queue, waiting for the background task to add it.
+         */
+        Object take() throws InterruptedException {
+            while (true) {
+                final Object item = queue.poll(OFFER_MILLIS, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    return item;
+                }
+                if (stopped.getCount() == 0) {
+                    final Object last = queue.poll();
+                    return last != null ? last : new InterruptedException("Prefetching interrupted");
+                }
+            }
+        }
+    }
 
     /**
      * Generates an {@code Iterable}, suitable for use in for-each loops.
@@ -55,6 +190,32 @@ public class ResultSetIterator implements Iterator<Object[]> {
      */
     private final RowProcessor convert;
 
+    /**
+     * The processor prepared for {@link #resultSet}, on the first call to {@link #next()}.
+     */
+    private RowProcessor prepared;
+
+    /**
+     * Whether {@link #resultSet} is on a row that {@link #next()} has not returned yet, or {@code null} if it has not
+     * been advanced since.
+     */
+    private Boolean ahead;
+
+    /**
+     * Reads rows ahead on a background task, or {@code null}.
+     */
+    private final Prefetcher prefetcher;
+
+    /**
+     * The row taken from {@link #prefetcher} that {@link #next()} has not returned yet.
+     */
+    private Object[] nextRow;
+
+    /**
+     * Whether {@link #prefetcher} has no more rows.
+     */
+    private boolean exhausted;
+
     /**
      * Constructor for ResultSetIterator.
      *
@@ -75,6 +236,44 @@ public class ResultSetIterator implements Iterator<Object[]> {
     public ResultSetIterator(final ResultSet resultSet, final RowProcessor convert) {
         this.resultSet = resultSet;
         this.convert = convert;
+        this.prefetcher = null;
+    }
+
+    /**
+     * Constructor for a ResultSetIterator that reads and converts rows on a
+     * background task, up to {@code prefetch} rows ahead of the caller.
+     *
+     * @param resultSet Wrap this {@code ResultSet} in an {@code Iterator}.
+     * @param convert The processor to use when converting a row into an
+     * {@code Object[]}.
+     * @param prefetch The maximum number of converted rows waiting to be returned.
+     * @param executor Runs the background task.
+     * @throws IllegalArgumentException if {@code prefetch} is less than 1.
+     * @since 1.9.0
+     */
+    public ResultSetIterator(final ResultSet resultSet, final RowProcessor convert, final int prefetch, final Executor executor) {
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+        }
+        this.resultSet = resultSet;
+        this.convert = convert;
+        this.prefetcher = new Prefetcher(resultSet, convert, prefetch);
+        executor.execute(prefetcher);
+    }
+
+    /**
+     * Stops reading rows ahead on the background task, if any, and waits for it to stop using the
+     * {@code ResultSet}. The {@code ResultSet} is not closed.
+     *
+     * @since 1.9.0
+     */
+    @Override
+    public void close() {
+        if (prefetcher != null) {
+            prefetcher.close();
+            exhausted = true;
+            nextRow = null;
+        }
     }
 
     /**
@@ -85,12 +284,50 @@ public class ResultSetIterator implements Iterator<Object[]> {
      */
     @Override
     public boolean hasNext() {
-        try {
-            return !resultSet.isLast();
-        } catch (final SQLException e) {
-            rethrow(e);
+        if (prefetcher != null) {
+            return hasPrefetched();
+        }
+        if (ahead == null) {
+            try {
+                ahead = Boolean.valueOf(resultSet.next());
+            } catch (final SQLException e) {
+                ahead = Boolean.FALSE;
+                rethrow(e);
+                return false;
+            }
+        }
+        return ahead.booleanValue();
+    }
+
+    private boolean hasPrefetched() {
+        if (nextRow != null) {
+            return true;
+        }
+        if (exhausted) {
             return false;
         }
+        final Object item;
+        try {
+            item = prefetcher.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        if (item instanceof Object[]) {
+            nextRow = (Object[]) item;
+            return true;
+        }
+        exhausted = true;
+        if (item instanceof SQLException) {
+            rethrow((SQLException) item);
+        } else if (item instanceof RuntimeException) {
+            throw (RuntimeException) item;
+        } else if (item instanceof Error) {
+            throw (Error) item;
+        } else if (item instanceof InterruptedException) {
+            throw new IllegalStateException(((Exception) item).getMessage(), (Exception) item);
+        }
+        return false;
     }
 
     /**
@@ -104,28 +341,43 @@ public class ResultSetIterator implements Iterator<Object[]> {
      */
     @Override
     public Object[] next() {
-        if (hasNext()) {
-            try {
-                if (resultSet.next()) {
-                    return convert.toArray(resultSet);
-                }
-                throw new NoSuchElementException("No more rows in the ResultSet");
-            } catch (final SQLException e) {
-                rethrow(e);
-                return null;
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in the ResultSet");
+        }
+        if (prefetcher != null) {
+            final Object[] row = nextRow;
+            nextRow = null;
+            return row;
+        }
+        ahead = null;
+        try {
+            if (prepared == null) {
+                prepared = convert.prepare(resultSet);
             }
+            return prepared.toArray(resultSet);
+        } catch (final SQLException e) {
+            rethrow(e);
+            return null;
         }
-        throw new NoSuchElementException("No more rows in the ResultSet");
     }
 
     /**
-     * Deletes the current row from the {@code ResultSet}.
+     * Deletes the current row from the {@code ResultSet}. This must be called before {@link #hasNext()}, which moves
+     * the {@code ResultSet} past the row that {@link #next()} returned.
      *
      * @see java.util.Iterator#remove()
      * @throws RuntimeException if an SQLException occurs.
+     * @throws IllegalStateException if {@link #hasNext()} was called since the last call to {@link #next()}.
+     * @throws UnsupportedOperationException if the iterator reads rows on a background task.
      */
     @Override
     public void remove() {
+        if (prefetcher != null) {
+            throw new UnsupportedOperationException("remove() with prefetching");
+        }
+        if (ahead != null) {
+            throw new IllegalStateException("remove() after hasNext() would delete the next row");
+        }
         try {
             this.resultSet.deleteRow();
         } catch (final SQLException e) {
@@ -144,4 +396,16 @@ public class ResultSetIterator implements Iterator<Object[]> {
         throw new IllegalStateException(e.getMessage());
     }
 
+    /**
+     * Creates a {@code Spliterator} over the remaining rows, with the {@link Spliterator#ORDERED ORDERED} and
+     * {@link Spliterator#NONNULL NONNULL} characteristics, for example to stream them with
+     * {@code StreamSupport.stream(iterator.spliterator(), false)}.
+     *
+     * @return A {@code Spliterator} over the remaining rows.
+     * @since 1.9.0
+     */
+    public Spliterator<Object[]> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@code Spliterator} over the rows of an open {@code ResultSet}, which converts each row with a mapper as it is
+ * reached and releases the result set's resources once, when the rows are exhausted, a row fails, or the spliterator
+ * is closed.
+ *
+ * @param <T> The type of the rows.
+ */
+final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private final ResultSet resultSet;
+
+    private final RowMapper<? extends T> rowMapper;
+
+    private final Runnable release;
+
+    private boolean closed;
+
+    /**
+     * Constructs a spliterator over the rows of a result set.
+     *
+     * @param resultSet The result set, positioned before its first row.
+     * @param rowMapper Converts the current row of the result set.
+     * @param release Releases the resources of the result set.
+     */
+    ResultSetSpliterator(final ResultSet resultSet, final RowMapper<? extends T> rowMapper, final Runnable release) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+        this.release = release;
+    }
+
+    /**
+     * Releases the resources of the result set, if they have not been released yet.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            release.run();
+        }
+    }
+
+    /**
+     * Converts the next row and passes it to the action.
+     *
+     * @throws IllegalStateException if an SQLException occurs, with the SQLException as its cause, or if the mapper
+     *         returns {@code null}.
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        final T row;
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            row = rowMapper.map(resultSet);
+        } catch (final SQLException e) {
+            close();
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (final RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+        if (row == null) {
+            close();
+            throw new IllegalStateException("RowMapper returned null");
+        }
+        action.accept(row);
+        return true;
+    }
+}
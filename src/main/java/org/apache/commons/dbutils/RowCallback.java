@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the rows of a {@code ResultSet} one at a time, as they are fetched, without any of them being kept, and
+ * decides whether to continue.
+ *
+ * @param <T> The type of the rows: the {@code ResultSet} itself, positioned on the row, or the row converted into an
+ *        object.
+ * @see org.apache.commons.dbutils.handlers.RowCallbackHandler
+ * @see org.apache.commons.dbutils.handlers.BeanCallbackHandler
+ * @since 1.9.0
+ */
+@FunctionalInterface
+public interface RowCallback<T> {
+
+    /**
+     * Handles one row.
+     *
+     * @param row The row. A {@code ResultSet} row is only valid until this method returns.
+     * @return {@code true} to receive the next row, {@code false} to stop fetching rows.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    boolean handleRow(T row) throws SQLException;
+}
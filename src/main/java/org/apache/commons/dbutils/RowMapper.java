@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Converts the current row of a {@code ResultSet} into an object. Unlike a {@link ResultSetHandler}, which handles a
+ * whole {@code ResultSet}, a mapper is called once per row and must not move the cursor.
+ *
+ * @param <T> The type of the rows, converted into objects.
+ * @see QueryRunner#stream(java.sql.Connection, String, RowMapper, Object...)
+ * @since 1.9.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Converts the current row.
+     *
+     * @param resultSet The {@code ResultSet}, positioned on the row.
+     * @return The row, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    T map(ResultSet resultSet) throws SQLException;
+}
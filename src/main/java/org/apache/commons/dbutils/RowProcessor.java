@@ -18,6 +18,7 @@ package org.apache.commons.dbutils;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,24 @@ import java.util.Map;
  */
 public interface RowProcessor {
 
+    /**
+     * Prepares this processor for the rows of one {@code ResultSet}, so that work that only depends on the result set,
+     * such as reading its meta data, is done once rather than for each row.  The returned processor must only be
+     * passed rows of that {@code ResultSet}, for as long as it is open, and is not meant to be shared between threads.
+     *
+     * <p>
+     * This default implementation returns this processor.
+     * </p>
+     *
+     * @param resultSet The result set whose rows will be processed.
+     * @return A processor for the rows of {@code resultSet}, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    default RowProcessor prepare(final ResultSet resultSet) throws SQLException {
+        return this;
+    }
+
     /**
      * Create an {@code Object[]} from the column values in one
      * {@code ResultSet} row.  The {@code ResultSet} should be
@@ -85,4 +104,27 @@ public interface RowProcessor {
      */
     Map<String, Object> toMap(ResultSet resultSet) throws SQLException;
 
+    /**
+     * Create a {@code List} of {@code Map}s from the column values in all
+     * {@code ResultSet} rows.  {@code ResultSet.next()} should
+     * <strong>not</strong> be called before passing it to this method.
+     *
+     * <p>
+     * This default implementation calls {@link #toMap(ResultSet)} for each row.
+     * </p>
+     *
+     * @param resultSet ResultSet that supplies the map data
+     * @throws SQLException Thrown if a database access error occurs
+     * @return A {@code List} of maps in the order they were returned by the
+     * {@code ResultSet}.
+     * @since 1.9.0
+     */
+    default List<Map<String, Object>> toMapList(final ResultSet resultSet) throws SQLException {
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            rows.add(toMap(resultSet));
+        }
+        return rows;
+    }
+
 }
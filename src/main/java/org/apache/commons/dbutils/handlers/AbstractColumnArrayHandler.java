@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * Base of the handlers that read one {@code ResultSet} column into a primitive array, which grows as rows are read and
+ * is trimmed to the number of rows.
+ *
+ * @param <A> The array type.
+ */
+abstract class AbstractColumnArrayHandler<A> implements ResultSetHandler<A> {
+
+    /**
+     * The initial length of the array if the number of rows is unknown.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The maximum length of an array that some virtual machines can allocate.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the length to grow a full array to, by half of its length.
+     *
+     * @param length The length of the full array.
+     * @return The new length.
+     */
+    static int grow(final int length) {
+        if (length >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Too many rows: " + length);
+        }
+        return (int) Math.min(length + (long) (length >> 1) + 1, MAX_CAPACITY);
+    }
+
+    /**
+     * The column number to retrieve.
+     */
+    private final int columnIndex;
+
+    /**
+     * The column name to retrieve.  Either columnName or columnIndex
+     * will be used but never both.
+     */
+    private final String columnName;
+
+    /**
+     * Estimates the number of rows, or {@code null} to start with a default capacity.
+     */
+    private final ExpectedRows expectedRows;
+
+    AbstractColumnArrayHandler(final int columnIndex, final String columnName, final ExpectedRows expectedRows) {
+        this.columnIndex = columnIndex;
+        this.columnName = columnName;
+        this.expectedRows = expectedRows;
+    }
+
+    /**
+     * Returns the initial length of the array for a {@code ResultSet}.
+     *
+     * @param resultSet {@code ResultSet} to process, positioned before its first row.
+     * @return The initial length.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    int capacity(final ResultSet resultSet) throws SQLException {
+        final int rows = expectedRows == null ? 0 : expectedRows.estimate(resultSet);
+        return rows > 0 ? Math.min(rows, MAX_CAPACITY) : DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Returns the number of the column to retrieve, looking its name up once rather than for each row.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The column number.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    int column(final ResultSet resultSet) throws SQLException {
+        return columnName == null ? columnIndex : resultSet.findColumn(columnName);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * <p>
+ * {@code ResultSetHandler} implementation that returns a {@link IntObjectMap}.
+ * {@code ResultSet} rows are converted into objects (Vs) which are then stored
+ * in the map under {@code int} keys, which are never boxed. This is the
+ * primitive counterpart of {@link AbstractKeyedHandler}, for tables keyed by
+ * {@code INTEGER} columns.
+ * </p>
+ *
+ * @param <V> The type of mapped values
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public abstract class AbstractIntKeyedHandler<V> implements ResultSetHandler<IntObjectMap<V>> {
+
+    /**
+     * Reads a key with {@code getInt} from the column with the given name, or at the given index if the name is
+     * {@code null}.
+     *
+     * @param resultSet ResultSet to read the key from
+     * @param columnIndex The index of the key column.
+     * @param columnName The name of the key column, or {@code null}.
+     * @return The key.
+     * @throws SQLException if the key is null, or a database access error occurs
+     */
+    static int getKey(final ResultSet resultSet, final int columnIndex, final String columnName) throws SQLException {
+        final int key = columnName == null ? resultSet.getInt(columnIndex) : resultSet.getInt(columnName);
+        if (key == 0 && resultSet.wasNull()) {
+            throw new SQLException("Null key in column " + (columnName == null ? Integer.toString(columnIndex) : columnName));
+        }
+        return key;
+    }
+
+    /**
+     * Constructs a new instance for subclasses.
+     */
+    public AbstractIntKeyedHandler() {
+        // empty
+    }
+
+    /**
+     * This factory method is called by {@code handle()} to retrieve the
+     * key value from the current {@code ResultSet} row.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    protected abstract int createKey(ResultSet resultSet) throws SQLException;
+
+    /**
+     * This factory method is called by {@code handle()} to create the map
+     * to store records in.  This implementation returns an empty
+     * {@code IntObjectMap}.
+     *
+     * @return The map to store records in
+     */
+    protected IntObjectMap<V> createMap() {
+        return new IntObjectMap<>();
+    }
+
+    /**
+     * This factory method is called by {@code handle()} to store the
+     * current {@code ResultSet} row in some object.
+     *
+     * @param resultSet ResultSet to create a row from
+     * @return V object created from the current row
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    protected abstract V createRow(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Convert each row into an object and store them
+     * in a {@code IntObjectMap} under the row's key.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return A {@code IntObjectMap}, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @see org.apache.commons.dbutils.ResultSetHandler#handle(java.sql.ResultSet)
+     */
+    @Override
+    public IntObjectMap<V> handle(final ResultSet resultSet) throws SQLException {
+        final IntObjectMap<V> result = createMap();
+        final int keyColumn = keyColumn(resultSet);
+        while (resultSet.next()) {
+            result.put(keyColumn > 0 ? getKey(resultSet, keyColumn, null) : createKey(resultSet), createRow(resultSet));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of the column that {@code handle()} reads keys from, resolved once per {@code ResultSet}.
+     * This implementation returns 0, so that {@link #createKey(ResultSet)} is called for each row instead.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The key column number, or 0 to call {@code createKey}.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    int keyColumn(final ResultSet resultSet) throws SQLException {
+        return 0;
+    }
+
+}
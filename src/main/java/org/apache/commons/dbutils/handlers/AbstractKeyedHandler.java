@@ -20,6 +20,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.commons.dbutils.ResultSetHandler;
 
@@ -37,11 +38,27 @@ import org.apache.commons.dbutils.ResultSetHandler;
  */
 public abstract class AbstractKeyedHandler<K, V> implements ResultSetHandler<Map<K, V>> {
 
+    /**
+     * Estimates the number of rows, or {@code null} to start with a default capacity.
+     */
+    private final ExpectedRows expectedRows;
+
     /**
      * Constructs a new instance for subclasses.
      */
     public AbstractKeyedHandler() {
-        // empty
+        this.expectedRows = null;
+    }
+
+    /**
+     * Constructs a new instance for subclasses that allocates its maps at the capacity estimated for each
+     * {@code ResultSet}.
+     *
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    protected AbstractKeyedHandler(final ExpectedRows expectedRows) {
+        this.expectedRows = Objects.requireNonNull(expectedRows, "expectedRows");
     }
 
     /**
@@ -65,6 +82,64 @@ public abstract class AbstractKeyedHandler<K, V> implements ResultSetHandler<Map
         return new HashMap<>();
     }
 
+    /**
+     * This factory method is called by {@code handle()} instead of {@link #createMap()} when this handler was
+     * constructed with an {@code ExpectedRows}, to create the Map to store records in. This implementation returns a
+     * {@code HashMap} that holds the expected number of records without rehashing, or calls {@code createMap()} if
+     * the number is unknown.
+     *
+     * @param expectedSize The expected number of records, or 0 if it is unknown.
+     * @return Map to store records in
+     * @since 1.9.0
+     */
+    protected Map<K, V> createMap(final int expectedSize) {
+        if (expectedSize <= 0) {
+            return createMap();
+        }
+        // the capacity at which the default load factor of 0.75 is not exceeded
+        return new HashMap<>((int) Math.min((long) expectedSize * 4 / 3 + 1, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Creates the Map to store the records of a {@code ResultSet} in.
+     *
+     * @param resultSet {@code ResultSet} to process, positioned before its first row.
+     * @return Map to store records in
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    Map<K, V> newMap(final ResultSet resultSet) throws SQLException {
+        return expectedRows == null ? createMap() : createMap(expectedRows.estimate(resultSet));
+    }
+
+    /**
+     * Returns the number of the column that {@code handle()} reads keys from with {@code getObject}, resolved once
+     * per {@code ResultSet}. This implementation returns 0, so that {@link #createKey(ResultSet)} is called for each
+     * row instead.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The key column number, or 0 to call {@code createKey}.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    int keyColumn(final ResultSet resultSet) throws SQLException {
+        return 0;
+    }
+
+    /**
+     * Reads the key of the current row from the column returned by {@link #keyColumn(ResultSet)}, or with
+     * {@link #createKey(ResultSet)} if it is 0.
+     *
+     * @param resultSet {@code ResultSet} to create a key from
+     * @param keyColumn The key column number, or 0.
+     * @return The key.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    // We assume that the user has picked the correct type to match the column
+    // so getObject will return the appropriate type and the cast will succeed.
+    @SuppressWarnings("unchecked")
+    K readKey(final ResultSet resultSet, final int keyColumn) throws SQLException {
+        return keyColumn > 0 ? (K) resultSet.getObject(keyColumn) : createKey(resultSet);
+    }
+
     /**
      * This factory method is called by {@code handle()} to store the
      * current {@code ResultSet} row in some object.
@@ -86,9 +161,10 @@ public abstract class AbstractKeyedHandler<K, V> implements ResultSetHandler<Map
      */
     @Override
     public Map<K, V> handle(final ResultSet resultSet) throws SQLException {
-        final Map<K, V> result = createMap();
+        final Map<K, V> result = newMap(resultSet);
+        final int keyColumn = keyColumn(resultSet);
         while (resultSet.next()) {
-            result.put(createKey(resultSet), createRow(resultSet));
+            result.put(readKey(resultSet, keyColumn), createRow(resultSet));
         }
         return result;
     }
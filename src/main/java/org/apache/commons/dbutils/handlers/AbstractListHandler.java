@@ -20,6 +20,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.commons.dbutils.ResultSetHandler;
 
@@ -32,11 +33,51 @@ import org.apache.commons.dbutils.ResultSetHandler;
  */
 public abstract class AbstractListHandler<T> implements ResultSetHandler<List<T>> {
 
+    /**
+     * Estimates the number of rows, or {@code null} to start with a default capacity.
+     */
+    private final ExpectedRows expectedRows;
+
     /**
      * Constructs a new instance for subclasses.
      */
     public AbstractListHandler() {
-        // empty
+        this.expectedRows = null;
+    }
+
+    /**
+     * Constructs a new instance for subclasses that allocates its lists at the capacity estimated for each
+     * {@code ResultSet}.
+     *
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    protected AbstractListHandler(final ExpectedRows expectedRows) {
+        this.expectedRows = Objects.requireNonNull(expectedRows, "expectedRows");
+    }
+
+    /**
+     * This factory method is called by {@code handle()} to create the list to store rows in. This implementation
+     * returns an {@code ArrayList} of the capacity given by the {@code ExpectedRows} this handler was constructed with,
+     * if any, and of the default capacity otherwise.
+     *
+     * @param resultSet {@code ResultSet} to process, positioned before its first row.
+     * @return The list to store rows in.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    protected List<T> createList(final ResultSet resultSet) throws SQLException {
+        final int rows = expectedRows == null ? 0 : expectedRows.estimate(resultSet);
+        return rows > 0 ? new ArrayList<>(rows) : new ArrayList<>();
+    }
+
+    /**
+     * Tests whether this handler was constructed with an {@code ExpectedRows}.
+     *
+     * @return Whether this handler presizes its lists.
+     */
+    boolean isPresized() {
+        return expectedRows != null;
     }
 
     /**
@@ -51,7 +92,7 @@ public abstract class AbstractListHandler<T> implements ResultSetHandler<List<T>
      */
     @Override
     public List<T> handle(final ResultSet resultSet) throws SQLException {
-        final List<T> rows = new ArrayList<>();
+        final List<T> rows = createList(resultSet);
         while (resultSet.next()) {
             rows.add(this.handleRow(resultSet));
         }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * Base of the handlers that convert the first rows of a {@code ResultSet} into a {@link SpilledList} and write the
+ * column values of the other rows, read with {@code getObject}, to a temporary file. Each spilled row is stored as the
+ * tagged values of its columns; the list keeps the offset of each row in the file.
+ *
+ * @param <T> The type of the rows.
+ */
+abstract class AbstractSpillingListHandler<T> implements ResultSetHandler<SpilledList<T>> {
+
+    /**
+     * The size of the segments of the file that a list maps at once, unless a single row is larger.
+     */
+    static final int SEGMENT_SIZE = 256 << 20;
+
+    /**
+     * Deletes the file of a failed spill.
+     */
+    private static void delete(final Path file, final Throwable failure) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * The RowProcessor implementation to use when converting rows.
+     */
+    final RowProcessor convert;
+
+    /**
+     * The number of rows held in memory.
+     */
+    private final int maxInMemoryRows;
+
+    /**
+     * The directory of the files, or {@code null} for the default temporary-file directory.
+     */
+    private final Path directory;
+
+    private final int segmentSize;
+
+    AbstractSpillingListHandler(final RowProcessor convert, final int maxInMemoryRows, final Path directory, final int segmentSize) {
+        if (maxInMemoryRows < 0) {
+            throw new IllegalArgumentException("maxInMemoryRows must not be negative: " + maxInMemoryRows);
+        }
+        this.convert = convert;
+        this.maxInMemoryRows = maxInMemoryRows;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Converts the first rows of the {@code ResultSet}, and spills the others to a temporary file if there are more.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return A list of all rows in the result set, which must be closed if it spilled rows.
+     * @throws SQLException Thrown if a database access error occurs, or a value cannot be spilled, or the file cannot be
+     * written, in which case it is deleted.
+     */
+    @Override
+    public SpilledList<T> handle(final ResultSet resultSet) throws SQLException {
+        final RowProcessor prepared = convert.prepare(resultSet);
+        final List<T> head = new ArrayList<>();
+        while (head.size() < maxInMemoryRows && resultSet.next()) {
+            head.add(handleRow(prepared, resultSet));
+        }
+        if (head.size() < maxInMemoryRows || !resultSet.next()) {
+            return new SpilledList<>(head);
+        }
+        final ResultSetMetaData metaData = DetachedResultSet.snapshot(resultSet.getMetaData());
+        final int cols = metaData.getColumnCount();
+        final Path file;
+        try {
+            file = directory == null ? Files.createTempFile("dbutils-", ".rows") : Files.createTempFile(directory, "dbutils-", ".rows");
+        } catch (final IOException e) {
+            throw new SQLException("Cannot create a file to spill rows to", e);
+        }
+        long[] offsets = new long[1024];
+        int[] segmentRows = { 0 };
+        int spilled = 0;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream row = new DataOutputStream(bytes);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            do {
+                if (spilled == Integer.MAX_VALUE - 1 - head.size()) {
+                    throw new SQLException("Too many rows to spill");
+                }
+                bytes.reset();
+                for (int i = 1; i <= cols; i++) {
+                    SpillCodec.write(row, resultSet.getObject(i));
+                }
+                final long segmentStart = offsets[segmentRows[segmentRows.length - 1]];
+                if (offsets[spilled] - segmentStart + bytes.size() > segmentSize && spilled > segmentRows[segmentRows.length - 1]) {
+                    // the row would not fit, so it starts a new segment; no row straddles two
+                    segmentRows = Arrays.copyOf(segmentRows, segmentRows.length + 1);
+                    segmentRows[segmentRows.length - 1] = spilled;
+                }
+                if (spilled + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, AbstractColumnArrayHandler.grow(offsets.length));
+                }
+                bytes.writeTo(out);
+                offsets[spilled + 1] = offsets[spilled] + bytes.size();
+                spilled++;
+            } while (resultSet.next());
+        } catch (final IOException e) {
+            delete(file, e);
+            throw new SQLException("Cannot spill rows to " + file, e);
+        } catch (final SQLException | RuntimeException | Error e) {
+            delete(file, e);
+            throw e;
+        }
+        return new SpilledList<>(head, metaData, this::readRow, file, offsets, spilled, segmentRows);
+    }
+
+    /**
+     * Converts the current row of the {@code ResultSet}, for the rows held in memory.
+     *
+     * @param prepared The processor, prepared for the result set.
+     * @param resultSet {@code ResultSet} to process.
+     * @return The row.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    abstract T handleRow(RowProcessor prepared, ResultSet resultSet) throws SQLException;
+
+    /**
+     * Converts a spilled row, the current row of a detached {@code ResultSet}.
+     *
+     * @param resultSet The detached {@code ResultSet}.
+     * @return The row.
+     * @throws SQLException Thrown if the row cannot be converted
+     */
+    abstract T readRow(ResultSet resultSet) throws SQLException;
+}
@@ -18,7 +18,9 @@ package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
+import org.apache.commons.dbutils.Overrides;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -36,6 +38,12 @@ public class ArrayListHandler extends AbstractListHandler<Object[]> {
      */
     private final RowProcessor convert;
 
+    /**
+     * Whether a subclass overrides {@link #handleRow(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row.
+     */
+    private final boolean customHandleRow = Overrides.isOverridden(this, ArrayListHandler.class, "handleRow", ResultSet.class);
+
     /**
      * Creates a new instance of ArrayListHandler using a
      * {@code BasicRowProcessor} for conversions.
@@ -54,6 +62,43 @@ public class ArrayListHandler extends AbstractListHandler<Object[]> {
         this.convert = convert;
     }
 
+    /**
+     * Creates a new instance of ArrayListHandler that allocates its lists at the capacity estimated for each
+     * {@code ResultSet}.
+     *
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into Object[]s.
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public ArrayListHandler(final RowProcessor convert, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.convert = convert;
+    }
+
+    /**
+     * Converts the {@code ResultSet} into a {@code List} of {@code Object[]}s with a {@code RowProcessor}
+     * {@link RowProcessor#prepare(ResultSet) prepared} for it, so that its meta data is read once rather than for each
+     * row. If a subclass overrides {@link #handleRow(ResultSet)}, it is called for each row instead.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return A list of all rows in the result set
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    @Override
+    public List<Object[]> handle(final ResultSet resultSet) throws SQLException {
+        if (customHandleRow) {
+            return super.handle(resultSet);
+        }
+        final RowProcessor prepared = this.convert.prepare(resultSet);
+        final List<Object[]> rows = createList(resultSet);
+        while (resultSet.next()) {
+            rows.add(prepared.toArray(resultSet));
+        }
+        return rows;
+    }
+
     /**
      * Convert row's columns into an {@code Object[]}.
      *
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowCallback;
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * {@code ResultSetHandler} implementation that converts each row of a {@code ResultSet} into a bean and passes it to a
+ * {@link RowCallback}, without keeping any bean, so that its memory use does not depend on the number of rows. The
+ * callback stops the fetching of rows by returning {@code false}.
+ *
+ * <p>
+ * This class is thread safe if its callback is.
+ * </p>
+ *
+ * @param <T> The target bean type
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @see org.apache.commons.dbutils.QueryRunner#forEachRow(String, Class, RowCallback, Object...)
+ * @since 1.9.0
+ */
+public class BeanCallbackHandler<T> implements ResultSetHandler<Long> {
+
+    /**
+     * The Class of beans produced by this handler.
+     */
+    private final Class<? extends T> type;
+
+    /**
+     * The RowProcessor implementation to use when converting rows
+     * into beans.
+     */
+    private final RowProcessor convert;
+
+    /**
+     * The callback that receives the beans.
+     */
+    private final RowCallback<? super T> callback;
+
+    /**
+     * Creates a new instance of BeanCallbackHandler.
+     *
+     * @param type The Class that the beans passed to the callback are created from.
+     * @param callback The callback that receives the bean of each row.
+     */
+    public BeanCallbackHandler(final Class<? extends T> type, final RowCallback<? super T> callback) {
+        this(type, ArrayHandler.ROW_PROCESSOR, callback);
+    }
+
+    /**
+     * Creates a new instance of BeanCallbackHandler.
+     *
+     * @param type The Class that the beans passed to the callback are created from.
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into beans.
+     * @param callback The callback that receives the bean of each row.
+     */
+    public BeanCallbackHandler(final Class<? extends T> type, final RowProcessor convert, final RowCallback<? super T> callback) {
+        this.type = type;
+        this.convert = convert;
+        this.callback = callback;
+    }
+
+    /**
+     * Converts each row into a bean with a {@code RowProcessor} {@link RowProcessor#prepare(ResultSet) prepared} for
+     * the {@code ResultSet} and passes it to the callback, until there are no more rows or the callback returns
+     * {@code false}.
+     *
+     * @param resultSet The {@code ResultSet} to handle.
+     * @return The number of beans passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        final RowProcessor prepared = this.convert.prepare(resultSet);
+        long rows = 0;
+        while (resultSet.next()) {
+            rows++;
+            if (!callback.handleRow(prepared.toBean(resultSet, type))) {
+                break;
+            }
+        }
+        return Long.valueOf(rows);
+    }
+}
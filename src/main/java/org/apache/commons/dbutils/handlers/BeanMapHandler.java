@@ -19,6 +19,7 @@ package org.apache.commons.dbutils.handlers;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.apache.commons.dbutils.Overrides;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -78,6 +79,12 @@ public class BeanMapHandler<K, V> extends AbstractKeyedHandler<K, V> {
      */
     private final String columnName;
 
+    /**
+     * Whether a subclass overrides {@link #createKey(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row instead of reading the key column, whose name is otherwise looked up once per {@code ResultSet}.
+     */
+    private final boolean customCreateKey = Overrides.isOverridden(this, BeanMapHandler.class, "createKey", ResultSet.class);
+
     /**
      * Creates a new instance of BeanMapHandler. The value of the first column
      * of each row will be a key in the Map.
@@ -104,6 +111,28 @@ public class BeanMapHandler<K, V> extends AbstractKeyedHandler<K, V> {
         this(type, ArrayHandler.ROW_PROCESSOR, columnIndex, null);
     }
 
+    /**
+     * Creates a new instance of BeanMapHandler that allocates its Maps at the
+     * capacity estimated for each {@code ResultSet}.
+     *
+     * @param type
+     *            The Class that objects returned from {@code createRow()}
+     *            are created from.
+     * @param columnIndex
+     *            The values to use as keys in the Map are retrieved from the
+     *            column at this index.
+     * @param expectedRows
+     *            Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public BeanMapHandler(final Class<V> type, final int columnIndex, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.type = type;
+        this.convert = ArrayHandler.ROW_PROCESSOR;
+        this.columnIndex = columnIndex;
+        this.columnName = null;
+    }
+
     /**
      * Creates a new instance of BeanMapHandler. The value of the first column
      * of each row will be a key in the Map.
@@ -154,6 +183,28 @@ public class BeanMapHandler<K, V> extends AbstractKeyedHandler<K, V> {
         this(type, ArrayHandler.ROW_PROCESSOR, 1, columnName);
     }
 
+    /**
+     * Creates a new instance of BeanMapHandler that allocates its Maps at the
+     * capacity estimated for each {@code ResultSet}.
+     *
+     * @param type
+     *            The Class that objects returned from {@code createRow()}
+     *            are created from.
+     * @param columnName
+     *            The values to use as keys in the Map are retrieved from the
+     *            column with this name.
+     * @param expectedRows
+     *            Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public BeanMapHandler(final Class<V> type, final String columnName, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.type = type;
+        this.convert = ArrayHandler.ROW_PROCESSOR;
+        this.columnIndex = 1;
+        this.columnName = columnName;
+    }
+
     /**
      * This factory method is called by {@code handle()} to retrieve the
      * key value from the current {@code ResultSet} row.
@@ -179,4 +230,12 @@ public class BeanMapHandler<K, V> extends AbstractKeyedHandler<K, V> {
         return this.convert.toBean(resultSet, type);
     }
 
+    @Override
+    int keyColumn(final ResultSet resultSet) throws SQLException {
+        if (customCreateKey) {
+            return 0;
+        }
+        return columnName == null ? columnIndex : resultSet.findColumn(columnName);
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.dbutils.ChunkCallback;
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * {@code ResultSetHandler} implementation that converts the rows of a {@code ResultSet} into beans and passes them to
+ * a {@link ChunkCallback} in chunks of a fixed size, the last of which may be smaller, for example to write them to
+ * another store in batches. At most one chunk of beans is held at a time, whatever the number of rows.
+ *
+ * <p>
+ * The same {@code List} is passed for every chunk of a {@code ResultSet}: it is cleared and refilled once the callback
+ * returns, so the callback must copy the list, not keep it, if it needs the beans later. The callback stops the
+ * fetching of rows by returning {@code false}.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe if its callback is.
+ * </p>
+ *
+ * @param <T> The target bean type
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class ChunkedBeanHandler<T> implements ResultSetHandler<Long> {
+
+    /**
+     * The Class of beans produced by this handler.
+     */
+    private final Class<? extends T> type;
+
+    /**
+     * The RowProcessor implementation to use when converting rows
+     * into beans.
+     */
+    private final RowProcessor convert;
+
+    /**
+     * The number of beans in each chunk but the last.
+     */
+    private final int chunkSize;
+
+    /**
+     * The callback that receives the chunks.
+     */
+    private final ChunkCallback<T> callback;
+
+    /**
+     * Creates a new instance of ChunkedBeanHandler.
+     *
+     * @param type The Class that the beans are created from.
+     * @param chunkSize The number of beans in each chunk but the last.
+     * @param callback The callback that receives each chunk.
+     * @throws IllegalArgumentException if {@code chunkSize} is less than 1.
+     */
+    public ChunkedBeanHandler(final Class<? extends T> type, final int chunkSize, final ChunkCallback<T> callback) {
+        this(type, ArrayHandler.ROW_PROCESSOR, chunkSize, callback);
+    }
+
+    /**
+     * Creates a new instance of ChunkedBeanHandler.
+     *
+     * @param type The Class that the beans are created from.
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into beans.
+     * @param chunkSize The number of beans in each chunk but the last.
+     * @param callback The callback that receives each chunk.
+     * @throws IllegalArgumentException if {@code chunkSize} is less than 1.
+     */
+    public ChunkedBeanHandler(final Class<? extends T> type, final RowProcessor convert, final int chunkSize, final ChunkCallback<T> callback) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.type = type;
+        this.convert = convert;
+        this.chunkSize = chunkSize;
+        this.callback = callback;
+    }
+
+    /**
+     * Converts the rows into beans with a {@code RowProcessor} {@link RowProcessor#prepare(ResultSet) prepared} for the
+     * {@code ResultSet}, and passes them to the callback each time a chunk is full, then the remaining beans, if any,
+     * until there are no more rows or the callback returns {@code false}.
+     *
+     * @param resultSet The {@code ResultSet} to handle.
+     * @return The number of beans passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        final RowProcessor prepared = this.convert.prepare(resultSet);
+        // a small result set does not need a full chunk
+        final List<T> chunk = new ArrayList<>(Math.min(chunkSize, 1024));
+        long rows = 0;
+        while (resultSet.next()) {
+            chunk.add(prepared.toBean(resultSet, type));
+            if (chunk.size() == chunkSize) {
+                rows += chunkSize;
+                if (!callback.handleChunk(chunk)) {
+                    return Long.valueOf(rows);
+                }
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            rows += chunk.size();
+            callback.handleChunk(chunk);
+        }
+        return Long.valueOf(rows);
+    }
+}
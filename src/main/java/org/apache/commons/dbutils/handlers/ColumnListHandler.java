@@ -18,6 +18,9 @@ package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.commons.dbutils.Overrides;
 
 /**
  * {@code ResultSetHandler} implementation that converts one
@@ -41,12 +44,18 @@ public class ColumnListHandler<T> extends AbstractListHandler<T> {
      */
     private final String columnName;
 
+    /**
+     * Whether a subclass overrides {@link #handleRow(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row.
+     */
+    private final boolean customHandleRow = Overrides.isOverridden(this, ColumnListHandler.class, "handleRow", ResultSet.class);
+
     /**
      * Creates a new instance of ColumnListHandler.  The first column of each
      * row will be returned from {@code handle()}.
      */
     public ColumnListHandler() {
-        this(1, null);
+        this(1, (String) null);
     }
 
     /**
@@ -56,7 +65,7 @@ public class ColumnListHandler<T> extends AbstractListHandler<T> {
      * {@code ResultSet}.
      */
     public ColumnListHandler(final int columnIndex) {
-        this(columnIndex, null);
+        this(columnIndex, (String) null);
     }
 
     /** Private Helper
@@ -70,6 +79,21 @@ public class ColumnListHandler<T> extends AbstractListHandler<T> {
         this.columnName = columnName;
     }
 
+    /**
+     * Creates a new instance of ColumnListHandler that allocates its lists at the capacity estimated for each
+     * {@code ResultSet}.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public ColumnListHandler(final int columnIndex, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.columnIndex = columnIndex;
+        this.columnName = null;
+    }
+
     /**
      * Creates a new instance of ColumnListHandler.
      *
@@ -80,6 +104,47 @@ public class ColumnListHandler<T> extends AbstractListHandler<T> {
         this(1, columnName);
     }
 
+    /**
+     * Creates a new instance of ColumnListHandler that allocates its lists at the capacity estimated for each
+     * {@code ResultSet}.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public ColumnListHandler(final String columnName, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.columnIndex = 1;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Reads the column of each row with {@code getObject}, looking the column name up once rather than for each row.
+     * If a subclass overrides {@link #handleRow(ResultSet)}, it is called for each row instead.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return A list of the column values of all rows in the result set
+     * @throws SQLException Thrown if a database access error occurs
+     * @throws ClassCastException if the class datatype does not match the column type
+     * @since 1.9.0
+     */
+    // We assume that the user has picked the correct type to match the column
+    // so getObject will return the appropriate type and the cast will succeed.
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<T> handle(final ResultSet resultSet) throws SQLException {
+        if (customHandleRow) {
+            return super.handle(resultSet);
+        }
+        final List<T> rows = createList(resultSet);
+        final int column = this.columnName == null ? this.columnIndex : resultSet.findColumn(this.columnName);
+        while (resultSet.next()) {
+            rows.add((T) resultSet.getObject(column));
+        }
+        return rows;
+    }
+
     /**
      * Returns one {@code ResultSet} column value as {@code Object}.
      *
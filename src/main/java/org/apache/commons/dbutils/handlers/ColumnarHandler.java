@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * {@code ResultSetHandler} implementation that converts the {@code ResultSet} into a {@link ColumnarTable}, which
+ * stores each column in a single array instead of an object per row. How a column is stored is chosen from its
+ * {@link ResultSetMetaData#getColumnType(int) SQL type}:
+ * <ul>
+ * <li>{@code TINYINT}, {@code SMALLINT} and signed {@code INTEGER} columns are read with {@code getInt} into an
+ * {@code int[]},</li>
+ * <li>{@code BIGINT} and unsigned {@code INTEGER} columns with {@code getLong} into a {@code long[]},</li>
+ * <li>{@code REAL}, {@code FLOAT} and {@code DOUBLE} columns with {@code getDouble} into a {@code double[]},</li>
+ * <li>{@code CHAR}, {@code VARCHAR} and {@code LONGVARCHAR} columns, and their national variants, with
+ * {@code getString} into an {@code int[]} of codes into a dictionary that holds each distinct value once,</li>
+ * <li>other columns with {@code getObject} into an {@code Object[]}.</li>
+ * </ul>
+ * Nulls are recorded in a {@code BitSet} for each column.
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class ColumnarHandler implements ResultSetHandler<ColumnarTable> {
+
+    /**
+     * Gets the label of a column: its label, or its name if it has no label, or its number if it has neither.
+     *
+     * @param rsmd The result set meta data.
+     * @param column The column number, from 1.
+     * @return The column label.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    static String columnLabel(final ResultSetMetaData rsmd, final int column) throws SQLException {
+        String label = rsmd.getColumnLabel(column);
+        if (label == null || label.isEmpty()) {
+            label = rsmd.getColumnName(column);
+        }
+        return label == null || label.isEmpty() ? Integer.toString(column) : label;
+    }
+
+    /**
+     * The number of rows the column arrays are first sized for if the number of rows is unknown.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Estimates the number of rows the column arrays are first sized for.
+     */
+    private final ExpectedRows expectedRows;
+
+    /**
+     * Creates a new instance of ColumnarHandler.
+     */
+    public ColumnarHandler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of ColumnarHandler that sizes its column arrays for the given number of rows, to avoid
+     * growing them when the size of the result set is known in advance. The arrays still grow as needed.
+     *
+     * @param expectedRows The expected number of rows.
+     * @throws IllegalArgumentException if {@code expectedRows} is negative.
+     */
+    public ColumnarHandler(final int expectedRows) {
+        if (expectedRows < 0) {
+            throw new IllegalArgumentException("expectedRows must not be negative: " + expectedRows);
+        }
+        this.expectedRows = ExpectedRows.of(expectedRows);
+    }
+
+    /**
+     * Creates a new instance of ColumnarHandler that sizes its column arrays for the number of rows estimated for each
+     * {@code ResultSet}, or for a default number of rows if the estimate is unknown. The arrays still grow as needed.
+     *
+     * @param expectedRows Estimates the number of rows.
+     */
+    public ColumnarHandler(final ExpectedRows expectedRows) {
+        this.expectedRows = Objects.requireNonNull(expectedRows, "expectedRows");
+    }
+
+    /**
+     * Chooses how a column is stored from its SQL type.
+     *
+     * @param rsmd The result set meta data.
+     * @param column The column number, from 1.
+     * @return The column storage.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    static ColumnarTable.ColumnType columnType(final ResultSetMetaData rsmd, final int column) throws SQLException {
+        switch (rsmd.getColumnType(column)) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+            return ColumnarTable.ColumnType.INT;
+        case Types.INTEGER:
+            // unsigned values may not fit in an int
+            return rsmd.isSigned(column) ? ColumnarTable.ColumnType.INT : ColumnarTable.ColumnType.LONG;
+        case Types.BIGINT:
+            return ColumnarTable.ColumnType.LONG;
+        case Types.REAL:
+        case Types.FLOAT:
+        case Types.DOUBLE:
+            return ColumnarTable.ColumnType.DOUBLE;
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGNVARCHAR:
+            return ColumnarTable.ColumnType.STRING;
+        default:
+            return ColumnarTable.ColumnType.OBJECT;
+        }
+    }
+
+    /**
+     * Creates the storage of a column.
+     *
+     * @param type How the column is stored.
+     * @param capacity The number of rows the column is first sized for.
+     * @return The column storage.
+     */
+    private static ColumnarTable.Column createColumn(final ColumnarTable.ColumnType type, final int capacity) {
+        switch (type) {
+        case INT:
+            return new ColumnarTable.IntColumn(capacity);
+        case LONG:
+            return new ColumnarTable.LongColumn(capacity);
+        case DOUBLE:
+            return new ColumnarTable.DoubleColumn(capacity);
+        case STRING:
+            return new ColumnarTable.StringColumn(capacity);
+        default:
+            return new ColumnarTable.ObjectColumn(capacity);
+        }
+    }
+
+    /**
+     * Converts the {@code ResultSet} into a {@code ColumnarTable}.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The table, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    public ColumnarTable handle(final ResultSet resultSet) throws SQLException {
+        final ResultSetMetaData rsmd = resultSet.getMetaData();
+        final int cols = rsmd.getColumnCount();
+        final String[] labels = new String[cols];
+        final ColumnarTable.Column[] columns = new ColumnarTable.Column[cols];
+        final int expected = expectedRows.estimate(resultSet);
+        final int capacity = expected > 0 ? expected : DEFAULT_CAPACITY;
+        for (int i = 0; i < cols; i++) {
+            labels[i] = columnLabel(rsmd, i + 1);
+            columns[i] = createColumn(columnType(rsmd, i + 1), capacity);
+        }
+        int rows = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < cols; i++) {
+                columns[i].read(resultSet, i + 1, rows);
+            }
+            rows++;
+        }
+        for (final ColumnarTable.Column column : columns) {
+            column.trim(rows);
+        }
+        return new ColumnarTable(labels, columns, rows);
+    }
+}
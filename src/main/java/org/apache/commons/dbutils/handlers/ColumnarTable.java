@@ -0,0 +1,559 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rows of a {@code ResultSet} stored column by column, as returned by {@link ColumnarHandler}. Integer and floating
+ * point columns are stored in {@code int[]}, {@code long[]} or {@code double[]} arrays, character columns as codes into
+ * a dictionary of their distinct values, and other columns as objects. Nulls are recorded in a {@link BitSet} for each
+ * column, where the arrays hold {@code 0}.
+ *
+ * <p>
+ * Columns are numbered from 1, as in {@code ResultSet}, and rows from 0. The arrays returned by {@link #getInts(int)},
+ * {@link #getLongs(int)}, {@link #getDoubles(int)}, {@link #getCodes(int)}, {@link #getDictionary(int)} and
+ * {@link #getNulls(int)} are the table's own, exactly as long as the table, so that they can be scanned without copies;
+ * callers must not modify them.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe as long as the arrays are not modified.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+public final class ColumnarTable {
+
+    /**
+     * Stores the values of one column.
+     */
+    abstract static class Column {
+
+        final BitSet nulls = new BitSet();
+
+        abstract ColumnType getType();
+
+        abstract Object getObject(int row);
+
+        /**
+         * Reads the value of the column in the current row of the result set.
+         */
+        abstract void read(ResultSet resultSet, int column, int row) throws SQLException;
+
+        /**
+         * Trims the storage to the given number of rows.
+         */
+        abstract void trim(int rows);
+    }
+
+    /**
+     * The storage of a column.
+     */
+    public enum ColumnType {
+
+        /** {@code TINYINT}, {@code SMALLINT} and signed {@code INTEGER} columns, stored as {@code int[]}. */
+        INT,
+
+        /** {@code BIGINT} and unsigned {@code INTEGER} columns, stored as {@code long[]}. */
+        LONG,
+
+        /** {@code REAL}, {@code FLOAT} and {@code DOUBLE} columns, stored as {@code double[]}. */
+        DOUBLE,
+
+        /** Character columns, stored as {@code int[]} codes into a {@code String[]} dictionary. */
+        STRING,
+
+        /** Other columns, stored as {@code Object[]}. */
+        OBJECT,
+
+        /**
+         * Binary columns, stored as bytes by {@link DirectColumnarTable}; {@link ColumnarTable} stores them as
+         * {@link #OBJECT}.
+         */
+        BYTES
+    }
+
+    static final class DoubleColumn extends Column {
+
+        private double[] values;
+
+        DoubleColumn(final int capacity) {
+            values = new double[capacity];
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.DOUBLE;
+        }
+
+        @Override
+        Object getObject(final int row) {
+            return nulls.get(row) ? null : Double.valueOf(values[row]);
+        }
+
+        @Override
+        void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getDouble(column);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(final int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    static final class IntColumn extends Column {
+
+        private int[] values;
+
+        IntColumn(final int capacity) {
+            values = new int[capacity];
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.INT;
+        }
+
+        @Override
+        Object getObject(final int row) {
+            return nulls.get(row) ? null : Integer.valueOf(values[row]);
+        }
+
+        @Override
+        void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getInt(column);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(final int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    static final class LongColumn extends Column {
+
+        private long[] values;
+
+        LongColumn(final int capacity) {
+            values = new long[capacity];
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.LONG;
+        }
+
+        @Override
+        Object getObject(final int row) {
+            return nulls.get(row) ? null : Long.valueOf(values[row]);
+        }
+
+        @Override
+        void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getLong(column);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(final int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    static final class ObjectColumn extends Column {
+
+        private Object[] values;
+
+        ObjectColumn(final int capacity) {
+            values = new Object[capacity];
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.OBJECT;
+        }
+
+        @Override
+        Object getObject(final int row) {
+            return values[row];
+        }
+
+        @Override
+        void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            final Object value = resultSet.getObject(column);
+            values[row] = value;
+            if (value == null) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(final int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    static final class StringColumn extends Column {
+
+        private int[] codes;
+
+        private final Map<String, Integer> index = new HashMap<>();
+
+        private final List<String> values = new ArrayList<>();
+
+        private String[] dictionary;
+
+        StringColumn(final int capacity) {
+            codes = new int[capacity];
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.STRING;
+        }
+
+        @Override
+        Object getObject(final int row) {
+            return nulls.get(row) ? null : dictionary[codes[row]];
+        }
+
+        @Override
+        void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == codes.length) {
+                codes = Arrays.copyOf(codes, grow(row));
+            }
+            final String value = resultSet.getString(column);
+            if (value == null) {
+                nulls.set(row);
+                return;
+            }
+            Integer code = index.get(value);
+            if (code == null) {
+                code = Integer.valueOf(values.size());
+                index.put(value, code);
+                values.add(value);
+            }
+            codes[row] = code.intValue();
+        }
+
+        @Override
+        void trim(final int rows) {
+            if (codes.length != rows) {
+                codes = Arrays.copyOf(codes, rows);
+            }
+            dictionary = values.toArray(new String[0]);
+            index.clear();
+            values.clear();
+        }
+    }
+
+    /**
+     * Grows an array by half of its length.
+     */
+    private static int grow(final int length) {
+        final int newLength = length + Math.max(length >> 1, 16);
+        if (newLength < 0) {
+            throw new OutOfMemoryError("Too many rows: " + length);
+        }
+        return newLength;
+    }
+
+    private final String[] labels;
+
+    private final Column[] columns;
+
+    private final int rowCount;
+
+    /**
+     * Constructs a table from columns already trimmed to the given number of rows.
+     */
+    ColumnarTable(final String[] labels, final Column[] columns, final int rowCount) {
+        this.labels = labels;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    private Column column(final int column) {
+        if (column < 1 || column > columns.length) {
+            throw new IndexOutOfBoundsException("Column " + column + " out of range 1.." + columns.length);
+        }
+        return columns[column - 1];
+    }
+
+    private Column column(final int column, final ColumnType type) {
+        final Column c = column(column);
+        if (c.getType() != type) {
+            throw new IllegalArgumentException("Column " + column + " is stored as " + c.getType() + ", not " + type);
+        }
+        return c;
+    }
+
+    private void checkRow(final int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range 0.." + (rowCount - 1));
+        }
+    }
+
+    /**
+     * Returns the number of the column with the given label, ignoring case.
+     *
+     * @param label The column label.
+     * @return The column number, from 1.
+     * @throws IllegalArgumentException if there is no such column.
+     */
+    public int findColumn(final String label) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("No column " + label);
+    }
+
+    /**
+     * Returns the dictionary codes of a {@link ColumnType#STRING STRING} column: the value of each row is the
+     * dictionary entry at its code. The codes of null rows are {@code 0}.
+     *
+     * @param column The column number, from 1.
+     * @return The codes, one per row.
+     * @throws IllegalArgumentException if the column is not stored as {@code STRING}.
+     * @see #getDictionary(int)
+     */
+    public int[] getCodes(final int column) {
+        return ((StringColumn) column(column, ColumnType.STRING)).codes;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the label of a column: its label in the {@code ResultSet}, or its name if it has no label, or its
+     * number if it has neither.
+     *
+     * @param column The column number, from 1.
+     * @return The column label.
+     */
+    public String getColumnLabel(final int column) {
+        column(column);
+        return labels[column - 1];
+    }
+
+    /**
+     * Returns how a column is stored.
+     *
+     * @param column The column number, from 1.
+     * @return The column storage.
+     */
+    public ColumnType getColumnType(final int column) {
+        return column(column).getType();
+    }
+
+    /**
+     * Returns the distinct values of a {@link ColumnType#STRING STRING} column, in order of appearance.
+     *
+     * @param column The column number, from 1.
+     * @return The dictionary.
+     * @throws IllegalArgumentException if the column is not stored as {@code STRING}.
+     * @see #getCodes(int)
+     */
+    public String[] getDictionary(final int column) {
+        return ((StringColumn) column(column, ColumnType.STRING)).dictionary;
+    }
+
+    /**
+     * Returns the value of a numeric column as a {@code double}.
+     *
+     * @param row The row number, from 0.
+     * @param column The column number, from 1.
+     * @return The value, {@code 0} if it is null.
+     * @throws IllegalArgumentException if the column is not stored as {@code INT}, {@code LONG} or {@code DOUBLE}.
+     */
+    public double getDouble(final int row, final int column) {
+        checkRow(row);
+        final Column c = column(column);
+        switch (c.getType()) {
+        case INT:
+            return ((IntColumn) c).values[row];
+        case LONG:
+            return ((LongColumn) c).values[row];
+        default:
+            return ((DoubleColumn) column(column, ColumnType.DOUBLE)).values[row];
+        }
+    }
+
+    /**
+     * Returns the values of a {@link ColumnType#DOUBLE DOUBLE} column.
+     *
+     * @param column The column number, from 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column is not stored as {@code DOUBLE}.
+     */
+    public double[] getDoubles(final int column) {
+        return ((DoubleColumn) column(column, ColumnType.DOUBLE)).values;
+    }
+
+    /**
+     * Returns the value of an {@link ColumnType#INT INT} column.
+     *
+     * @param row The row number, from 0.
+     * @param column The column number, from 1.
+     * @return The value, {@code 0} if it is null.
+     * @throws IllegalArgumentException if the column is not stored as {@code INT}.
+     */
+    public int getInt(final int row, final int column) {
+        checkRow(row);
+        return getInts(column)[row];
+    }
+
+    /**
+     * Returns the values of an {@link ColumnType#INT INT} column.
+     *
+     * @param column The column number, from 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column is not stored as {@code INT}.
+     */
+    public int[] getInts(final int column) {
+        return ((IntColumn) column(column, ColumnType.INT)).values;
+    }
+
+    /**
+     * Returns the value of an {@link ColumnType#INT INT} or {@link ColumnType#LONG LONG} column as a {@code long}.
+     *
+     * @param row The row number, from 0.
+     * @param column The column number, from 1.
+     * @return The value, {@code 0} if it is null.
+     * @throws IllegalArgumentException if the column is not stored as {@code INT} or {@code LONG}.
+     */
+    public long getLong(final int row, final int column) {
+        checkRow(row);
+        final Column c = column(column);
+        if (c.getType() == ColumnType.INT) {
+            return ((IntColumn) c).values[row];
+        }
+        return ((LongColumn) column(column, ColumnType.LONG)).values[row];
+    }
+
+    /**
+     * Returns the values of a {@link ColumnType#LONG LONG} column.
+     *
+     * @param column The column number, from 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column is not stored as {@code LONG}.
+     */
+    public long[] getLongs(final int column) {
+        return ((LongColumn) column(column, ColumnType.LONG)).values;
+    }
+
+    /**
+     * Returns the rows in which a column is null.
+     *
+     * @param column The column number, from 1.
+     * @return The null rows.
+     */
+    public BitSet getNulls(final int column) {
+        return column(column).nulls;
+    }
+
+    /**
+     * Returns the value of any column as an object, boxing primitive values.
+     *
+     * @param row The row number, from 0.
+     * @param column The column number, from 1.
+     * @return The value, or {@code null}.
+     */
+    public Object getObject(final int row, final int column) {
+        checkRow(row);
+        return column(column).getObject(row);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the value of a {@link ColumnType#STRING STRING} column.
+     *
+     * @param row The row number, from 0.
+     * @param column The column number, from 1.
+     * @return The value, or {@code null}.
+     * @throws IllegalArgumentException if the column is not stored as {@code STRING}.
+     */
+    public String getString(final int row, final int column) {
+        checkRow(row);
+        return (String) column(column, ColumnType.STRING).getObject(row);
+    }
+
+    /**
+     * Tests whether a column is null in a row.
+     *
+     * @param row The row number, from 0.
+     * @param column The column number, from 1.
+     * @return Whether the value is null.
+     */
+    public boolean isNull(final int row, final int column) {
+        checkRow(row);
+        return column(column).nulls.get(row);
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A forward only {@code ResultSet} over rows of column values already read from another {@code ResultSet} with
+ * {@code getObject}, which can be read on any thread. The typed getters convert values of the standard Java types
+ * between each other as the getters of common drivers do. {@code getString} reads the contents of {@code Clob} and
+ * {@code SQLXML} values, and only converts other values whose string form is their value, such as numbers, booleans,
+ * dates and times; it fails for byte arrays, {@code Blob}s and driver specific objects rather than returning their
+ * {@code toString()}. {@code getBytes} reads the contents of {@code Blob} values. Methods that need the database, such as updates, are not supported.
+ */
+final class DetachedResultSet implements InvocationHandler {
+
+    /**
+     * The meta data of a detached result set: the column count, labels, names and types of another
+     * {@code ResultSet}, which is what mapping rows to beans reads.
+     */
+    private static final class MetaData implements InvocationHandler {
+
+        private final String[] labels;
+        private final String[] names;
+        private final int[] types;
+
+        MetaData(final ResultSetMetaData rsmd) throws SQLException {
+            final int cols = rsmd.getColumnCount();
+            labels = new String[cols];
+            names = new String[cols];
+            types = new int[cols];
+            for (int i = 0; i < cols; i++) {
+                final int col = i + 1;
+                labels[i] = rsmd.getColumnLabel(col);
+                names[i] = rsmd.getColumnName(col);
+                types[i] = rsmd.getColumnType(col);
+            }
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws SQLException {
+            final String name = method.getName();
+            switch (name) {
+            case "getColumnCount":
+                return Integer.valueOf(labels.length);
+            case "equals":
+                return Boolean.valueOf(proxy == args[0]);
+            case "hashCode":
+                return Integer.valueOf(System.identityHashCode(proxy));
+            case "toString":
+                return "DetachedResultSetMetaData" + Arrays.toString(labels);
+            default:
+                break;
+            }
+            if (args == null || args.length != 1 || !(args[0] instanceof Integer)) {
+                throw new SQLFeatureNotSupportedException(name);
+            }
+            final int col = ((Integer) args[0]).intValue();
+            if (col < 1 || col > labels.length) {
+                throw new SQLException("Column " + col + " out of range 1.." + labels.length);
+            }
+            final int i = col - 1;
+            switch (name) {
+            case "getColumnLabel":
+                return labels[i];
+            case "getColumnName":
+                return names[i];
+            case "getColumnType":
+                return Integer.valueOf(types[i]);
+            default:
+                throw new SQLFeatureNotSupportedException(name);
+            }
+        }
+    }
+
+    /**
+     * Creates a detached result set, positioned before its first row.
+     *
+     * @param metaData The meta data, from {@link #snapshot(ResultSetMetaData)}.
+     * @param rows The column values of each row.
+     * @return A new result set.
+     */
+    static ResultSet create(final ResultSetMetaData metaData, final List<Object[]> rows) {
+        return (ResultSet) Proxy.newProxyInstance(DetachedResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                new DetachedResultSet(metaData, rows));
+    }
+
+    /**
+     * Copies the column count, labels, names and types of the meta data of a {@code ResultSet}, so that they can be
+     * read on any thread.
+     *
+     * @param rsmd The meta data.
+     * @return A copy of the meta data.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    static ResultSetMetaData snapshot(final ResultSetMetaData rsmd) throws SQLException {
+        return (ResultSetMetaData) Proxy.newProxyInstance(DetachedResultSet.class.getClassLoader(), new Class<?>[] { ResultSetMetaData.class },
+                new MetaData(rsmd));
+    }
+
+    private static SQLException cannotConvert(final Object value, final Class<?> type) {
+        return new SQLException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+    private static Number toNumber(final Object value, final Class<?> type) throws SQLException {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof Boolean) {
+            return Integer.valueOf(((Boolean) value).booleanValue() ? 1 : 0);
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Cannot convert '" + value + "' to " + type.getName(), e);
+            }
+        }
+        throw cannotConvert(value, type);
+    }
+
+    /**
+     * Converts a non-null column value to a type, as a typed getter would.
+     */
+    private static Object convert(final Object value, final Class<?> type) throws SQLException {
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (type == String.class) {
+            return asString(value);
+        }
+        if (type == byte[].class && value instanceof Blob) {
+            final Blob blob = (Blob) value;
+            return blob.getBytes(1, Math.toIntExact(blob.length()));
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            if (value instanceof String) {
+                final String s = ((String) value).trim();
+                return Boolean.valueOf("1".equals(s) || "true".equalsIgnoreCase(s));
+            }
+            return Boolean.valueOf(toNumber(value, type).intValue() != 0);
+        }
+        if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(toNumber(value, type).intValue());
+        }
+        if (type == Long.class || type == long.class) {
+            return Long.valueOf(toNumber(value, type).longValue());
+        }
+        if (type == Double.class || type == double.class) {
+            return Double.valueOf(toNumber(value, type).doubleValue());
+        }
+        if (type == Float.class || type == float.class) {
+            return Float.valueOf(toNumber(value, type).floatValue());
+        }
+        if (type == Short.class || type == short.class) {
+            return Short.valueOf(toNumber(value, type).shortValue());
+        }
+        if (type == Byte.class || type == byte.class) {
+            return Byte.valueOf(toNumber(value, type).byteValue());
+        }
+        if (type == BigDecimal.class) {
+            final Number n = toNumber(value, type);
+            if (n instanceof BigDecimal) {
+                return n;
+            }
+            if (n instanceof BigInteger) {
+                return new BigDecimal((BigInteger) n);
+            }
+            return n instanceof Double || n instanceof Float ? BigDecimal.valueOf(n.doubleValue()) : BigDecimal.valueOf(n.longValue());
+        }
+        if (type == Timestamp.class) {
+            if (value instanceof java.util.Date) {
+                return new Timestamp(((java.util.Date) value).getTime());
+            }
+            if (value instanceof LocalDateTime) {
+                return Timestamp.valueOf((LocalDateTime) value);
+            }
+            if (value instanceof LocalDate) {
+                return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+            }
+            if (value instanceof String) {
+                return Timestamp.valueOf((String) value);
+            }
+        } else if (type == Date.class) {
+            if (value instanceof java.util.Date) {
+                return new Date(((java.util.Date) value).getTime());
+            }
+            if (value instanceof LocalDate) {
+                return Date.valueOf((LocalDate) value);
+            }
+            if (value instanceof LocalDateTime) {
+                return Date.valueOf(((LocalDateTime) value).toLocalDate());
+            }
+            if (value instanceof String) {
+                return Date.valueOf((String) value);
+            }
+        } else if (type == Time.class) {
+            if (value instanceof java.util.Date) {
+                return new Time(((java.util.Date) value).getTime());
+            }
+            if (value instanceof LocalTime) {
+                return Time.valueOf((LocalTime) value);
+            }
+            if (value instanceof String) {
+                return Time.valueOf((String) value);
+            }
+        } else if (type == LocalDate.class && value instanceof Date) {
+            return ((Date) value).toLocalDate();
+        } else if (type == LocalDateTime.class && value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        } else if (type == LocalTime.class && value instanceof Time) {
+            return ((Time) value).toLocalTime();
+        }
+        throw cannotConvert(value, type);
+    }
+
+    /**
+     * Converts a non-null column value to a string, as {@code getString} would.
+     *
+     * @param value The value, as returned by {@code getObject}.
+     * @return The string form of the value.
+     * @throws SQLException if the value has no string form that is its value.
+     */
+    static String asString(final Object value) throws SQLException {
+        if (value instanceof Clob) {
+            final Clob clob = (Clob) value;
+            return clob.getSubString(1, Math.toIntExact(clob.length()));
+        }
+        if (value instanceof SQLXML) {
+            return ((SQLXML) value).getString();
+        }
+        // only JDK classes, as driver specific subclasses may not print their value
+        final ClassLoader loader = value.getClass().getClassLoader();
+        if ((loader == null || loader == ClassLoader.getPlatformClassLoader()) && (value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof java.util.Date || value instanceof TemporalAccessor || value instanceof UUID)) {
+            return value.toString();
+        }
+        throw cannotConvert(value, String.class);
+    }
+
+    /**
+     * Returns the type that a getter returns, or {@code null} if it is not a typed getter.
+     */
+    private static Class<?> getterType(final String name) {
+        switch (name) {
+        case "getString":
+        case "getNString":
+            return String.class;
+        case "getBoolean":
+            return boolean.class;
+        case "getByte":
+            return byte.class;
+        case "getShort":
+            return short.class;
+        case "getInt":
+            return int.class;
+        case "getLong":
+            return long.class;
+        case "getFloat":
+            return float.class;
+        case "getDouble":
+            return double.class;
+        case "getBigDecimal":
+            return BigDecimal.class;
+        case "getBytes":
+            return byte[].class;
+        case "getDate":
+            return Date.class;
+        case "getTime":
+            return Time.class;
+        case "getTimestamp":
+            return Timestamp.class;
+        case "getArray":
+            return java.sql.Array.class;
+        case "getBlob":
+            return java.sql.Blob.class;
+        case "getClob":
+            return java.sql.Clob.class;
+        case "getNClob":
+            return java.sql.NClob.class;
+        case "getSQLXML":
+            return java.sql.SQLXML.class;
+        case "getObject":
+            return Object.class;
+        default:
+            return null;
+        }
+    }
+
+    private final ResultSetMetaData metaData;
+
+    private final List<Object[]> rows;
+
+    private int row = -1;
+
+    private boolean wasNull;
+
+    private boolean closed;
+
+    private DetachedResultSet(final ResultSetMetaData metaData, final List<Object[]> rows) {
+        this.metaData = metaData;
+        this.rows = rows;
+    }
+
+    private int findColumn(final String label) throws SQLException {
+        final int cols = metaData.getColumnCount();
+        for (int col = 1; col <= cols; col++) {
+            if (label.equalsIgnoreCase(metaData.getColumnLabel(col))) {
+                return col;
+            }
+        }
+        for (int col = 1; col <= cols; col++) {
+            if (label.equalsIgnoreCase(metaData.getColumnName(col))) {
+                return col;
+            }
+        }
+        throw new SQLException("No column " + label);
+    }
+
+    private Object get(final Object column) throws SQLException {
+        if (row < 0 || row >= rows.size()) {
+            throw new SQLException("No current row");
+        }
+        final int col = column instanceof String ? findColumn((String) column) : ((Integer) column).intValue();
+        final Object[] values = rows.get(row);
+        if (col < 1 || col > values.length) {
+            throw new SQLException("Column " + col + " out of range 1.." + values.length);
+        }
+        final Object value = values[col - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws SQLException {
+        final String name = method.getName();
+        switch (name) {
+        case "next":
+            if (row < rows.size()) {
+                row++;
+            }
+            return Boolean.valueOf(row < rows.size());
+        case "getMetaData":
+            return metaData;
+        case "wasNull":
+            return Boolean.valueOf(wasNull);
+        case "findColumn":
+            return Integer.valueOf(findColumn((String) args[0]));
+        case "getRow":
+            return Integer.valueOf(row >= 0 && row < rows.size() ? row + 1 : 0);
+        case "getType":
+            return Integer.valueOf(ResultSet.TYPE_FORWARD_ONLY);
+        case "getConcurrency":
+            return Integer.valueOf(ResultSet.CONCUR_READ_ONLY);
+        case "getStatement":
+        case "getWarnings":
+            return null;
+        case "clearWarnings":
+            return null;
+        case "close":
+            closed = true;
+            return null;
+        case "isClosed":
+            return Boolean.valueOf(closed);
+        case "isWrapperFor":
+            return Boolean.FALSE;
+        case "equals":
+            return Boolean.valueOf(proxy == args[0]);
+        case "hashCode":
+            return Integer.valueOf(System.identityHashCode(proxy));
+        case "toString":
+            return "DetachedResultSet[" + rows.size() + " rows]";
+        default:
+            break;
+        }
+        final Class<?> type = getterType(name);
+        if (type == null || args == null || args.length == 0 || args.length > 2 || args.length == 2 && !(args[1] instanceof Class)) {
+            // updates, streams, and getters with a Calendar or a type map
+            throw new SQLFeatureNotSupportedException(name);
+        }
+        final Object value = get(args[0]);
+        final Class<?> target = args.length == 2 ? (Class<?>) args[1] : type;
+        if (value == null) {
+            // the primitive getters return 0 or false for SQL NULL
+            return target.isPrimitive() ? convert(Integer.valueOf(0), target) : null;
+        }
+        return convert(value, target);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.handlers.ColumnarTable.ColumnType;
+
+/**
+ * {@code ResultSetHandler} implementation that converts the {@code ResultSet} into a {@link DirectColumnarTable},
+ * which stores each column in direct {@code ByteBuffer}s outside of the Java heap, so that very large results put
+ * neither their values nor per row objects on the heap. Numeric columns are stored as by {@link ColumnarHandler}. The
+ * columns that {@code ColumnarHandler} stores as strings or objects go into a heap of bytes for each column:
+ * <ul>
+ * <li>{@code BINARY}, {@code VARBINARY}, {@code LONGVARBINARY} and {@code BLOB} columns are read with
+ * {@code getBytes} and stored as {@link ColumnType#BYTES BYTES},</li>
+ * <li>character, {@code CLOB}, {@code NCLOB} and {@code SQLXML} columns are read with {@code getString},</li>
+ * <li>other columns are read with {@code getObject} and stored as the string form of their values, which must be
+ * numbers, booleans, dates, times or other values of JDK classes whose string form is their value, such as the exact
+ * digits of a {@code BigDecimal} or the nanoseconds of a {@code Timestamp}; any other value fails the whole
+ * result.</li>
+ * </ul>
+ * The last two are stored as UTF-8 {@link ColumnType#STRING STRING}s. Result sets with {@code ARRAY}, {@code STRUCT},
+ * {@code REF}, {@code DATALINK} or {@code JAVA_OBJECT} columns are rejected before any row is read.
+ *
+ * <p>
+ * The buffers grow by half of their size as rows are read, copying their contents; they are then trimmed to the size
+ * of their contents without copying. Give the expected number of rows, when it is known, to allocate them once. The
+ * total size of one column's data or heap is limited to 2 GiB.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class DirectColumnarHandler implements ResultSetHandler<DirectColumnarTable> {
+
+    /**
+     * The number of rows the column buffers are first sized for if the number of rows is unknown.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The maximum initial size of a heap.
+     */
+    private static final int MAX_INITIAL_HEAP = 64 << 20;
+
+    private static ByteBuffer allocate(final long capacity) {
+        if (capacity > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Column too large: " + capacity + " bytes");
+        }
+        return ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Copies the contents of a buffer, up to its position, into a new buffer of at least the given capacity.
+     */
+    private static ByteBuffer grow(final ByteBuffer buffer, final long minCapacity) {
+        final ByteBuffer grown = allocate(Math.max(minCapacity, Math.min(buffer.capacity() + (long) (buffer.capacity() >> 1), Integer.MAX_VALUE)));
+        grown.put(buffer.duplicate().flip());
+        return grown;
+    }
+
+    /**
+     * Limits a buffer to the given size, without copying it.
+     */
+    private static ByteBuffer trim(final ByteBuffer buffer, final int size) {
+        return buffer.duplicate().position(0).limit(size).slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Chooses how a column is stored from its SQL type.
+     */
+    private static ColumnType columnType(final ResultSetMetaData rsmd, final int column) throws SQLException {
+        final int sqlType = rsmd.getColumnType(column);
+        switch (sqlType) {
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+        case Types.BLOB:
+            return ColumnType.BYTES;
+        case Types.ARRAY:
+        case Types.STRUCT:
+        case Types.REF:
+        case Types.DATALINK:
+        case Types.JAVA_OBJECT:
+            throw new SQLException("Cannot store column " + ColumnarHandler.columnLabel(rsmd, column) + " of SQL type " + sqlType);
+        default:
+            return ColumnarHandler.columnType(rsmd, column);
+        }
+    }
+
+    /**
+     * Tests whether a column stored as a string is read with {@code getString}, rather than {@code getObject}.
+     */
+    private static boolean isCharacter(final ResultSetMetaData rsmd, final int column) throws SQLException {
+        switch (rsmd.getColumnType(column)) {
+        case Types.CLOB:
+        case Types.NCLOB:
+        case Types.SQLXML:
+            return true;
+        default:
+            return ColumnarHandler.columnType(rsmd, column) == ColumnType.STRING;
+        }
+    }
+
+    /**
+     * Reads the bytes stored in the heap for a value.
+     *
+     * @return The bytes, or {@code null} if the value is null.
+     */
+    private static byte[] readBytes(final ResultSet resultSet, final int column, final ColumnType type, final boolean character) throws SQLException {
+        if (type == ColumnType.BYTES) {
+            return resultSet.getBytes(column);
+        }
+        final String value;
+        if (character) {
+            value = resultSet.getString(column);
+        } else {
+            final Object object = resultSet.getObject(column);
+            value = object == null || object instanceof String ? (String) object : DetachedResultSet.asString(object);
+        }
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int width(final ColumnType type) {
+        return type == ColumnType.INT ? 4 : 8;
+    }
+
+    /**
+     * Estimates the number of rows the column buffers are first sized for.
+     */
+    private final ExpectedRows expectedRows;
+
+    /**
+     * Creates a new instance of DirectColumnarHandler.
+     */
+    public DirectColumnarHandler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of DirectColumnarHandler that sizes its column buffers for the given number of rows. The
+     * buffers still grow as needed.
+     *
+     * @param expectedRows The expected number of rows.
+     * @throws IllegalArgumentException if {@code expectedRows} is negative.
+     */
+    public DirectColumnarHandler(final int expectedRows) {
+        if (expectedRows < 0) {
+            throw new IllegalArgumentException("expectedRows must not be negative: " + expectedRows);
+        }
+        this.expectedRows = ExpectedRows.of(expectedRows);
+    }
+
+    /**
+     * Creates a new instance of DirectColumnarHandler that sizes its column buffers for the number of rows estimated
+     * for each {@code ResultSet}, or for a default number of rows if the estimate is unknown. The buffers still grow
+     * as needed.
+     *
+     * @param expectedRows Estimates the number of rows.
+     */
+    public DirectColumnarHandler(final ExpectedRows expectedRows) {
+        this.expectedRows = Objects.requireNonNull(expectedRows, "expectedRows");
+    }
+
+    /**
+     * Converts the {@code ResultSet} into a {@code DirectColumnarTable}.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The table, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs, or a column or value cannot be stored.
+     */
+    @Override
+    public DirectColumnarTable handle(final ResultSet resultSet) throws SQLException {
+        final ResultSetMetaData rsmd = resultSet.getMetaData();
+        final int cols = rsmd.getColumnCount();
+        final String[] labels = new String[cols];
+        final ColumnType[] types = new ColumnType[cols];
+        final ByteBuffer[] data = new ByteBuffer[cols];
+        final ByteBuffer[] nulls = new ByteBuffer[cols];
+        final ByteBuffer[] heaps = new ByteBuffer[cols];
+        final boolean[] character = new boolean[cols];
+        final int expected = expectedRows.estimate(resultSet);
+        int capacity = Math.max(expected > 0 ? expected : DEFAULT_CAPACITY, 8);
+        for (int i = 0; i < cols; i++) {
+            labels[i] = ColumnarHandler.columnLabel(rsmd, i + 1);
+            final ColumnType type = columnType(rsmd, i + 1);
+            types[i] = type == ColumnType.OBJECT ? ColumnType.STRING : type;
+            character[i] = isCharacter(rsmd, i + 1);
+        }
+        for (int i = 0; i < cols; i++) {
+            data[i] = allocate((long) capacity * width(types[i]));
+            nulls[i] = allocate((capacity + 7) >>> 3);
+            if (types[i] == ColumnType.STRING || types[i] == ColumnType.BYTES) {
+                // values vary in length, so the heap starts smaller for very large results and grows as needed
+                heaps[i] = allocate(Math.min((long) capacity * 16, MAX_INITIAL_HEAP));
+            }
+        }
+        int rows = 0;
+        while (resultSet.next()) {
+            if (rows == capacity) {
+                capacity = capacity + (capacity >> 1);
+                for (int i = 0; i < cols; i++) {
+                    data[i].position(rows * width(types[i]));
+                    data[i] = grow(data[i], (long) capacity * width(types[i]));
+                    nulls[i].position((rows + 7) >>> 3);
+                    nulls[i] = grow(nulls[i], (capacity + 7) >>> 3);
+                }
+            }
+            for (int i = 0; i < cols; i++) {
+                final int column = i + 1;
+                boolean isNull = false;
+                switch (types[i]) {
+                case INT:
+                    data[i].putInt(rows << 2, resultSet.getInt(column));
+                    isNull = resultSet.wasNull();
+                    break;
+                case LONG:
+                    data[i].putLong(rows << 3, resultSet.getLong(column));
+                    isNull = resultSet.wasNull();
+                    break;
+                case DOUBLE:
+                    data[i].putDouble(rows << 3, resultSet.getDouble(column));
+                    isNull = resultSet.wasNull();
+                    break;
+                default:
+                    final byte[] bytes = readBytes(resultSet, column, types[i], character[i]);
+                    if (bytes == null) {
+                        isNull = true;
+                        break;
+                    }
+                    if (heaps[i].remaining() < bytes.length) {
+                        heaps[i] = grow(heaps[i], (long) heaps[i].position() + bytes.length);
+                    }
+                    data[i].putInt(rows << 3, heaps[i].position());
+                    data[i].putInt((rows << 3) + 4, bytes.length);
+                    heaps[i].put(bytes);
+                    break;
+                }
+                if (isNull) {
+                    // the data of null rows is left as allocated, zero
+                    nulls[i].put(rows >>> 3, (byte) (nulls[i].get(rows >>> 3) | 1 << (rows & 7)));
+                }
+            }
+            rows++;
+        }
+        for (int i = 0; i < cols; i++) {
+            data[i] = trim(data[i], rows * width(types[i]));
+            nulls[i] = trim(nulls[i], (rows + 7) >>> 3);
+            if (heaps[i] != null) {
+                heaps[i] = trim(heaps[i], heaps[i].position());
+            }
+        }
+        return new DirectColumnarTable(labels, types, data, nulls, heaps, rows);
+    }
+}
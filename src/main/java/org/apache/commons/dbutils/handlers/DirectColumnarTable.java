@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.dbutils.handlers.ColumnarTable.ColumnType;
+
+/**
+ * The rows of a {@code ResultSet} stored column by column in direct {@code ByteBuffer}s, outside of the Java heap, as
+ * returned by {@link DirectColumnarHandler}. Each column has a fixed-width data buffer and a null bitmap:
+ * <ul>
+ * <li>{@link ColumnType#INT INT} columns store a 4 byte {@code int} per row,</li>
+ * <li>{@link ColumnType#LONG LONG} columns an 8 byte {@code long} per row,</li>
+ * <li>{@link ColumnType#DOUBLE DOUBLE} columns an 8 byte {@code double} per row,</li>
+ * <li>{@link ColumnType#STRING STRING} columns a 4 byte offset and a 4 byte length per row, of the UTF-8 bytes of the
+ * value in the column's heap,</li>
+ * <li>{@link ColumnType#BYTES BYTES} columns a 4 byte offset and a 4 byte length per row, of the bytes of the value in
+ * the column's heap.</li>
+ * </ul>
+ * The data buffers are in {@link ByteOrder#nativeOrder() native byte order}. Bit {@code row % 8} of byte
+ * {@code row / 8} of the null bitmap is set if the column is null in the row, in which case the data holds zeros.
+ *
+ * <p>
+ * Columns are numbered from 1, as in {@code ResultSet}, and rows from 0. The buffers returned by
+ * {@link #getData(int)}, {@link #getNulls(int)}, {@link #getStringHeap(int)} and {@link #getBytesHeap(int)} are
+ * read-only views of the table's memory, which can be handed to other components without copying it. The memory is
+ * released when the table and all of its views are garbage collected.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe; its cursors are not.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+public final class DirectColumnarTable {
+
+    /**
+     * Reads the rows of a table one at a time. A cursor is positioned before the first row when it is created.
+     */
+    public final class Cursor {
+
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        private int check(final int column, final ColumnType type) {
+            final int index = DirectColumnarTable.this.check(column, type);
+            if (row < 0 || row >= rowCount) {
+                throw new IllegalStateException("No current row");
+            }
+            return index;
+        }
+
+        /**
+         * Returns the value of a {@link ColumnType#BYTES BYTES} column, copying it from the column's heap.
+         *
+         * @param column The column number, from 1.
+         * @return The value, or {@code null}.
+         * @throws IllegalArgumentException if the column is not stored as {@code BYTES}.
+         */
+        public byte[] getBytes(final int column) {
+            final int index = check(column, ColumnType.BYTES);
+            if (isNull(column)) {
+                return null;
+            }
+            final byte[] bytes = new byte[data[index].getInt((row << 3) + 4)];
+            heaps[index].duplicate().position(data[index].getInt(row << 3)).get(bytes);
+            return bytes;
+        }
+
+        /**
+         * Returns the value of a numeric column as a {@code double}.
+         *
+         * @param column The column number, from 1.
+         * @return The value, {@code 0} if it is null.
+         * @throws IllegalArgumentException if the column is not stored as {@code INT}, {@code LONG} or {@code DOUBLE}.
+         */
+        public double getDouble(final int column) {
+            final int index = index(column);
+            switch (types[index]) {
+            case INT:
+                return getInt(column);
+            case LONG:
+                return getLong(column);
+            default:
+                return data[check(column, ColumnType.DOUBLE)].getDouble(row << 3);
+            }
+        }
+
+        /**
+         * Returns the value of an {@link ColumnType#INT INT} column.
+         *
+         * @param column The column number, from 1.
+         * @return The value, {@code 0} if it is null.
+         * @throws IllegalArgumentException if the column is not stored as {@code INT}.
+         */
+        public int getInt(final int column) {
+            return data[check(column, ColumnType.INT)].getInt(row << 2);
+        }
+
+        /**
+         * Returns the value of an {@link ColumnType#INT INT} or {@link ColumnType#LONG LONG} column as a {@code long}.
+         *
+         * @param column The column number, from 1.
+         * @return The value, {@code 0} if it is null.
+         * @throws IllegalArgumentException if the column is not stored as {@code INT} or {@code LONG}.
+         */
+        public long getLong(final int column) {
+            if (types[index(column)] == ColumnType.INT) {
+                return getInt(column);
+            }
+            return data[check(column, ColumnType.LONG)].getLong(row << 3);
+        }
+
+        /**
+         * Returns the current row number.
+         *
+         * @return The row number, from 0, or -1 before the first row.
+         */
+        public int getRow() {
+            return row;
+        }
+
+        /**
+         * Returns the value of a {@link ColumnType#STRING STRING} column, decoding it from the column's heap.
+         *
+         * @param column The column number, from 1.
+         * @return The value, or {@code null}.
+         * @throws IllegalArgumentException if the column is not stored as {@code STRING}.
+         */
+        public String getString(final int column) {
+            final int index = check(column, ColumnType.STRING);
+            if (isNull(column)) {
+                return null;
+            }
+            final int offset = data[index].getInt(row << 3);
+            final int length = data[index].getInt((row << 3) + 4);
+            final ByteBuffer bytes = heaps[index].duplicate();
+            bytes.limit(offset + length).position(offset);
+            return StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+
+        /**
+         * Tests whether a column is null in the current row.
+         *
+         * @param column The column number, from 1.
+         * @return Whether the value is null.
+         */
+        public boolean isNull(final int column) {
+            final int index = index(column);
+            if (row < 0 || row >= rowCount) {
+                throw new IllegalStateException("No current row");
+            }
+            return (nulls[index].get(row >>> 3) & 1 << (row & 7)) != 0;
+        }
+
+        /**
+         * Moves to the next row.
+         *
+         * @return Whether there is a next row.
+         */
+        public boolean next() {
+            if (row < rowCount) {
+                row++;
+            }
+            return row < rowCount;
+        }
+
+        /**
+         * Moves to the given row.
+         *
+         * @param row The row number, from 0.
+         * @throws IndexOutOfBoundsException if there is no such row.
+         */
+        public void setRow(final int row) {
+            if (row < 0 || row >= rowCount) {
+                throw new IndexOutOfBoundsException("Row " + row + " out of range 0.." + (rowCount - 1));
+            }
+            this.row = row;
+        }
+    }
+
+    private static ByteBuffer view(final ByteBuffer buffer) {
+        return buffer.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    private final String[] labels;
+
+    private final ColumnType[] types;
+
+    private final ByteBuffer[] data;
+
+    private final ByteBuffer[] nulls;
+
+    private final ByteBuffer[] heaps;
+
+    private final int rowCount;
+
+    /**
+     * Constructs a table from buffers whose limits are the sizes of their contents.
+     */
+    DirectColumnarTable(final String[] labels, final ColumnType[] types, final ByteBuffer[] data, final ByteBuffer[] nulls, final ByteBuffer[] heaps,
+            final int rowCount) {
+        this.labels = labels;
+        this.types = types;
+        this.data = data;
+        this.nulls = nulls;
+        this.heaps = heaps;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Returns a read-only view of the heap of a {@link ColumnType#BYTES BYTES} column, positioned at 0.
+     *
+     * @param column The column number, from 1.
+     * @return The bytes of the column values.
+     * @throws IllegalArgumentException if the column is not stored as {@code BYTES}.
+     */
+    public ByteBuffer getBytesHeap(final int column) {
+        return view(heaps[check(column, ColumnType.BYTES)]);
+    }
+
+    /**
+     * Creates a cursor positioned before the first row.
+     *
+     * @return A new cursor.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Returns the number of the column with the given label, ignoring case.
+     *
+     * @param label The column label.
+     * @return The column number, from 1.
+     * @throws IllegalArgumentException if there is no such column.
+     */
+    public int findColumn(final String label) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("No column " + label);
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return types.length;
+    }
+
+    /**
+     * Returns the label of a column: its label in the {@code ResultSet}, or its name if it has no label, or its
+     * number if it has neither.
+     *
+     * @param column The column number, from 1.
+     * @return The column label.
+     */
+    public String getColumnLabel(final int column) {
+        return labels[index(column)];
+    }
+
+    /**
+     * Returns how a column is stored. No column is stored as {@link ColumnType#OBJECT OBJECT}.
+     *
+     * @param column The column number, from 1.
+     * @return The column storage.
+     */
+    public ColumnType getColumnType(final int column) {
+        return types[index(column)];
+    }
+
+    /**
+     * Returns a read-only view of the fixed-width data of a column, positioned at 0, in native byte order.
+     *
+     * @param column The column number, from 1.
+     * @return The column data.
+     */
+    public ByteBuffer getData(final int column) {
+        return view(data[index(column)]);
+    }
+
+    /**
+     * Returns a read-only view of the null bitmap of a column, positioned at 0.
+     *
+     * @param column The column number, from 1.
+     * @return The null bitmap.
+     */
+    public ByteBuffer getNulls(final int column) {
+        return view(nulls[index(column)]);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns a read-only view of the heap of a {@link ColumnType#STRING STRING} column, positioned at 0.
+     *
+     * @param column The column number, from 1.
+     * @return The UTF-8 bytes of the column values.
+     * @throws IllegalArgumentException if the column is not stored as {@code STRING}.
+     */
+    public ByteBuffer getStringHeap(final int column) {
+        return view(heaps[check(column, ColumnType.STRING)]);
+    }
+
+    private int check(final int column, final ColumnType type) {
+        final int index = index(column);
+        if (types[index] != type) {
+            throw new IllegalArgumentException("Column " + column + " is stored as " + types[index] + ", not " + type);
+        }
+        return index;
+    }
+
+    private int index(final int column) {
+        if (column < 1 || column > types.length) {
+            throw new IndexOutOfBoundsException("Column " + column + " out of range 1.." + types.length);
+        }
+        return column - 1;
+    }
+}
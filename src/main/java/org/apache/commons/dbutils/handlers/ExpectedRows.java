@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Estimates the number of rows of a {@code ResultSet} before it is read, so that handlers can allocate the
+ * {@code List} or {@code Map} they return once at the right capacity instead of growing it row by row.
+ *
+ * <p>
+ * For example, to size a map for the rows of a scrollable {@code ResultSet}, or for at most as many rows as the
+ * {@link org.apache.commons.dbutils.StatementConfiguration StatementConfiguration} of a {@code QueryRunner} allows if
+ * the {@code ResultSet} is forward only:
+ * </p>
+ *
+ * <pre>
+ * KeyedHandler&lt;Long&gt; h = new KeyedHandler&lt;&gt;("id", ExpectedRows.scrollable().orElse(ExpectedRows.maxRows()));
+ * </pre>
+ *
+ * @see AbstractListHandler#AbstractListHandler(ExpectedRows)
+ * @see AbstractKeyedHandler#AbstractKeyedHandler(ExpectedRows)
+ * @see ColumnarHandler#ColumnarHandler(ExpectedRows)
+ * @see DirectColumnarHandler#DirectColumnarHandler(ExpectedRows)
+ * @since 1.9.0
+ */
+@FunctionalInterface
+public interface ExpectedRows {
+
+    /**
+     * Returns the maximum number of rows of the statement that produced the {@code ResultSet}, as set by
+     * {@link org.apache.commons.dbutils.StatementConfiguration#getMaxRows() StatementConfiguration} or
+     * {@link Statement#setMaxRows(int)}, but at most 65536. The estimate is unknown if the statement has no limit. The
+     * limit is only an upper bound, so the estimate is capped to keep a query that returns few rows from allocating
+     * for millions; handlers grow their containers past it as needed.
+     *
+     * @return The estimator.
+     */
+    static ExpectedRows maxRows() {
+        return resultSet -> {
+            final Statement statement = resultSet.getStatement();
+            return statement == null ? 0 : Math.min(statement.getMaxRows(), 1 << 16);
+        };
+    }
+
+    /**
+     * Returns the given number of rows.
+     *
+     * @param rows The expected number of rows.
+     * @return The estimator.
+     * @throws IllegalArgumentException if {@code rows} is negative.
+     */
+    static ExpectedRows of(final int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("rows must not be negative: " + rows);
+        }
+        return resultSet -> rows;
+    }
+
+    /**
+     * Returns the exact number of rows of a scrollable {@code ResultSet}, which the driver reports after moving to its
+     * last row; the {@code ResultSet} is then moved back before its first row. The estimate is unknown for
+     * {@link ResultSet#TYPE_FORWARD_ONLY forward only} result sets. Depending on the driver, moving to the last row may
+     * fetch all of the rows.
+     *
+     * @return The estimator.
+     */
+    static ExpectedRows scrollable() {
+        return resultSet -> {
+            if (resultSet.getType() == ResultSet.TYPE_FORWARD_ONLY || !resultSet.last()) {
+                return 0;
+            }
+            final int rows = resultSet.getRow();
+            resultSet.beforeFirst();
+            return rows;
+        };
+    }
+
+    /**
+     * Estimates the number of rows of a {@code ResultSet} positioned before its first row, without reading any of
+     * them.
+     *
+     * @param resultSet The {@code ResultSet}.
+     * @return The expected number of rows, or 0 if it is unknown.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    int estimate(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Returns an estimator that uses this estimate if it is known, and the other one if it is not.
+     *
+     * @param other The estimator to fall back on.
+     * @return The estimator.
+     */
+    default ExpectedRows orElse(final ExpectedRows other) {
+        return resultSet -> {
+            final int rows = estimate(resultSet);
+            return rows > 0 ? rows : other.estimate(resultSet);
+        };
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.apache.commons.dbutils.Overrides;
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * <p>
+ * {@code ResultSetHandler} implementation that returns a {@link IntObjectMap}
+ * of Maps. {@code ResultSet} rows are converted into Maps which are then
+ * stored in the map under the {@code int} value of the key column, read with
+ * {@code getInt}. Unlike {@link KeyedHandler}, keys are never boxed.
+ * </p>
+ * <p>
+ * If you had a Person table with a primary key column called ID, you could
+ * retrieve rows from the table like this:
+ * <pre>
+ * IntKeyedHandler h = new IntKeyedHandler("id");
+ * IntObjectMap&lt;Map&lt;String, Object&gt;&gt; found = queryRunner.query("select id, name, age from person", h);
+ * Map&lt;String, Object&gt; jane = found.get(1); // jane's id is 1
+ * </pre>
+ * A null key is an error.
+ * </p>
+ * <p>This class is thread safe.</p>
+ *
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class IntKeyedHandler extends AbstractIntKeyedHandler<Map<String, Object>> {
+
+    /**
+     * The RowProcessor implementation to use when converting rows
+     * into Objects.
+     */
+    private final RowProcessor convert;
+
+    /**
+     * The column index to retrieve key values from.  Defaults to 1.
+     */
+    private final int columnIndex;
+
+    /**
+     * The column name to retrieve key values from.  Either columnName or
+     * columnIndex will be used but never both.
+     */
+    private final String columnName;
+
+    /**
+     * Whether a subclass overrides {@link #createKey(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row instead of reading the key column, whose name is otherwise looked up once per {@code ResultSet}.
+     */
+    private final boolean customCreateKey = Overrides.isOverridden(this, IntKeyedHandler.class, "createKey", ResultSet.class);
+
+    /**
+     * Creates a new instance of IntKeyedHandler.  The value of the first column
+     * of each row will be a key in the map.
+     */
+    public IntKeyedHandler() {
+        this(ArrayHandler.ROW_PROCESSOR, 1, null);
+    }
+
+    /**
+     * Creates a new instance of IntKeyedHandler.
+     *
+     * @param columnIndex The values to use as keys in the map are
+     * retrieved from the column at this index.
+     */
+    public IntKeyedHandler(final int columnIndex) {
+        this(ArrayHandler.ROW_PROCESSOR, columnIndex, null);
+    }
+
+    /**
+     * Creates a new instance of IntKeyedHandler.  The value of the first column
+     * of each row will be a key in the map.
+     *
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into Maps
+     */
+    public IntKeyedHandler(final RowProcessor convert) {
+        this(convert, 1, null);
+    }
+
+    /** Private Helper
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into Maps
+     * @param columnIndex The values to use as keys in the map are
+     * retrieved from the column at this index.
+     * @param columnName The values to use as keys in the map are
+     * retrieved from the column with this name.
+     */
+    private IntKeyedHandler(final RowProcessor convert, final int columnIndex,
+            final String columnName) {
+        this.convert = convert;
+        this.columnIndex = columnIndex;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Creates a new instance of IntKeyedHandler.
+     *
+     * @param columnName The values to use as keys in the map are
+     * retrieved from the column with this name.
+     */
+    public IntKeyedHandler(final String columnName) {
+        this(ArrayHandler.ROW_PROCESSOR, 1, columnName);
+    }
+
+    /**
+     * This factory method is called by {@code handle()} to retrieve the
+     * key value from the current {@code ResultSet} row.  This
+     * implementation returns {@code ResultSet.getInt()} for the
+     * configured key column name or index.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException if the key is null, or a database access error occurs
+     */
+    @Override
+    protected int createKey(final ResultSet resultSet) throws SQLException {
+        return getKey(resultSet, columnIndex, columnName);
+    }
+
+    @Override
+    int keyColumn(final ResultSet resultSet) throws SQLException {
+        if (customCreateKey) {
+            return 0;
+        }
+        return columnName == null ? columnIndex : resultSet.findColumn(columnName);
+    }
+
+    /**
+     * This factory method is called by {@code handle()} to store the
+     * current {@code ResultSet} row in some object. This
+     * implementation returns a {@code Map} with case insensitive column
+     * names as keys.
+     *
+     * @param resultSet ResultSet to create a row from
+     * @return Object typed Map containing column names to values
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    protected Map<String, Object> createRow(final ResultSet resultSet) throws SQLException {
+        return this.convert.toMap(resultSet);
+    }
+
+}
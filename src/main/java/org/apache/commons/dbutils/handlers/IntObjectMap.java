@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A map from {@code int} keys to objects, as returned by {@link AbstractIntKeyedHandler}. Keys are stored unboxed
+ * in a {@code int[]} next to an {@code Object[]} of values, in a hash table with open addressing and linear probing,
+ * so that an entry costs two array slots rather than a boxed key and a node object. All keys and {@code null} values
+ * are supported.
+ *
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @param <V> The type of the values.
+ * @since 1.9.0
+ */
+public final class IntObjectMap<V> {
+
+    /**
+     * Marks a slot whose value is {@code null}, since empty slots have no value.
+     */
+    private static final Object NULL = new Object();
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static int hash(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+        final long capacity = Math.max(4, (long) expectedSize * 4 / 3 + 1);
+        return capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+    private int[] keys;
+
+    /**
+     * The values, {@code null} for empty slots and {@link #NULL} for {@code null} values.
+     */
+    private Object[] values;
+
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map sized for the given number of entries.
+     *
+     * @param expectedSize The expected number of entries.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative.
+     */
+    public IntObjectMap(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        final int capacity = tableSizeFor(expectedSize);
+        keys = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Tests whether the map contains a key.
+     *
+     * @param key The key.
+     * @return Whether the map contains the key.
+     */
+    public boolean containsKey(final int key) {
+        return slot(key) >= 0;
+    }
+
+    /**
+     * Passes each entry to the action, in no particular order.
+     *
+     * @param action The action, which receives the value and the key of each entry.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final ObjIntConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            final Object value = values[i];
+            if (value != null) {
+                action.accept(value == NULL ? null : (V) value, keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key The key.
+     * @return The value, or {@code null} if the map does not contain the key.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        final int slot = slot(key);
+        return slot < 0 || values[slot] == NULL ? null : (V) values[slot];
+    }
+
+    /**
+     * Tests whether the map is empty.
+     *
+     * @return Whether the map is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the keys, in the order of {@link #forEach(ObjIntConsumer)}.
+     *
+     * @return A new array of the keys.
+     */
+    public int[] keys() {
+        final int[] result = new int[size];
+        int j = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[j++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param key The key.
+     * @param value The value, which may be {@code null}.
+     * @return The previous value of the key, or {@code null} if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final int key, final V value) {
+        final Object stored = value == null ? NULL : value;
+        final int mask = values.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                final Object old = values[i];
+                values[i] = stored;
+                return old == NULL ? null : (V) old;
+            }
+            i = i + 1 & mask;
+        }
+        keys[i] = key;
+        values[i] = stored;
+        if (++size > values.length - (values.length >>> 2)) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key.
+     * @return The value of the key, or {@code null} if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final int key) {
+        int slot = slot(key);
+        if (slot < 0) {
+            return null;
+        }
+        final Object old = values[slot];
+        // shift back the entries that follow in the same run, so that probes never stop at the removed slot
+        final int mask = values.length - 1;
+        for (int i = slot + 1 & mask; values[i] != null; i = i + 1 & mask) {
+            final int home = hash(keys[i]) & mask;
+            if ((i - home & mask) >= (i - slot & mask)) {
+                keys[slot] = keys[i];
+                values[slot] = values[i];
+                slot = i;
+            }
+        }
+        values[slot] = null;
+        size--;
+        return old == NULL ? null : (V) old;
+    }
+
+    private void resize() {
+        if (values.length == MAXIMUM_CAPACITY) {
+            if (size == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Map full");
+            }
+            return;
+        }
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        final int mask = values.length - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = i + 1 & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @return The slot, or -1 if the map does not contain the key.
+     */
+    private int slot(final int key) {
+        final int mask = values.length - 1;
+        for (int i = hash(key) & mask; values[i] != null; i = i + 1 & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((value, key) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.commons.dbutils.handlers;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.Objects;
 
+import org.apache.commons.dbutils.Overrides;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -68,6 +70,18 @@ public class KeyedHandler<K> extends AbstractKeyedHandler<K, Map<String, Object>
      */
     protected final String columnName;
 
+    /**
+     * Whether a subclass overrides {@link #createRow(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row.
+     */
+    private final boolean customCreateRow = Overrides.isOverridden(this, KeyedHandler.class, "createRow", ResultSet.class);
+
+    /**
+     * Whether a subclass overrides {@link #createKey(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row.
+     */
+    private final boolean customCreateKey = Overrides.isOverridden(this, KeyedHandler.class, "createKey", ResultSet.class);
+
     /**
      * Creates a new instance of KeyedHandler.  The value of the first column
      * of each row will be a key in the Map.
@@ -86,6 +100,22 @@ public class KeyedHandler<K> extends AbstractKeyedHandler<K, Map<String, Object>
         this(ArrayHandler.ROW_PROCESSOR, columnIndex, null);
     }
 
+    /**
+     * Creates a new instance of KeyedHandler that allocates its Maps at the
+     * capacity estimated for each {@code ResultSet}.
+     *
+     * @param columnIndex The values to use as keys in the Map are
+     * retrieved from the column at this index.
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public KeyedHandler(final int columnIndex, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.convert = ArrayHandler.ROW_PROCESSOR;
+        this.columnIndex = columnIndex;
+        this.columnName = null;
+    }
+
     /**
      * Creates a new instance of KeyedHandler.  The value of the first column
      * of each row will be a key in the Map.
@@ -122,6 +152,22 @@ public class KeyedHandler<K> extends AbstractKeyedHandler<K, Map<String, Object>
         this(ArrayHandler.ROW_PROCESSOR, 1, columnName);
     }
 
+    /**
+     * Creates a new instance of KeyedHandler that allocates its Maps at the
+     * capacity estimated for each {@code ResultSet}.
+     *
+     * @param columnName The values to use as keys in the Map are
+     * retrieved from the column with this name.
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public KeyedHandler(final String columnName, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.convert = ArrayHandler.ROW_PROCESSOR;
+        this.columnIndex = 1;
+        this.columnName = columnName;
+    }
+
     /**
      * This factory method is called by {@code handle()} to retrieve the
      * key value from the current {@code ResultSet} row.  This
@@ -143,6 +189,39 @@ public class KeyedHandler<K> extends AbstractKeyedHandler<K, Map<String, Object>
                (K) rs.getObject(columnName);
     }
 
+    /**
+     * Converts each row into a {@code Map} with a {@code RowProcessor} {@link RowProcessor#prepare(ResultSet) prepared}
+     * for the {@code ResultSet}, so that its meta data is read once rather than for each row, and stores it under the
+     * row's key, read from the key column whose name is looked up once. If a subclass overrides
+     * {@link #createRow(ResultSet)} or {@link #createKey(ResultSet)}, it is called for each row instead.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return A {@code Map}, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    @Override
+    public Map<K, Map<String, Object>> handle(final ResultSet resultSet) throws SQLException {
+        if (customCreateRow) {
+            return super.handle(resultSet);
+        }
+        final RowProcessor prepared = this.convert.prepare(resultSet);
+        final Map<K, Map<String, Object>> result = newMap(resultSet);
+        final int keyColumn = keyColumn(resultSet);
+        while (resultSet.next()) {
+            result.put(readKey(resultSet, keyColumn), prepared.toMap(resultSet));
+        }
+        return result;
+    }
+
+    @Override
+    int keyColumn(final ResultSet resultSet) throws SQLException {
+        if (customCreateKey) {
+            return 0;
+        }
+        return columnName == null ? columnIndex : resultSet.findColumn(columnName);
+    }
+
     /**
      * This factory method is called by {@code handle()} to store the
      * current {@code ResultSet} row in some object. This
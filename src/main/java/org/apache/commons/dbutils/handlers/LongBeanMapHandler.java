@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.Overrides;
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * <p>
+ * {@code ResultSetHandler} implementation that returns a {@link LongObjectMap}
+ * of Beans. {@code ResultSet} rows are converted into Beans which are then
+ * stored in the map under the {@code long} value of the key column, read with
+ * {@code getLong}. Unlike {@link BeanMapHandler}, keys are never boxed, which
+ * suits large reference tables keyed by {@code BIGINT} ids.
+ * </p>
+ * <p>
+ * If you had a Person table with a primary key column called ID, you could
+ * retrieve rows from the table like this:
+ *
+ * <pre>
+ * LongBeanMapHandler&lt;Person&gt; h = new LongBeanMapHandler&lt;&gt;(Person.class, &quot;id&quot;);
+ * LongObjectMap&lt;Person&gt; found = queryRunner.query(&quot;select id, name, age from person&quot;, h);
+ * Person jane = found.get(1L); // jane's id is 1
+ * </pre>
+ *
+ * A null key is an error.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @param <V>
+ *            the type of the bean
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class LongBeanMapHandler<V> extends AbstractLongKeyedHandler<V> {
+
+    /**
+     * The Class of beans produced by this handler.
+     */
+    private final Class<V> type;
+
+    /**
+     * The RowProcessor implementation to use when converting rows into Objects.
+     */
+    private final RowProcessor convert;
+
+    /**
+     * The column index to retrieve key values from. Defaults to 1.
+     */
+    private final int columnIndex;
+
+    /**
+     * The column name to retrieve key values from. Either columnName or
+     * columnIndex will be used but never both.
+     */
+    private final String columnName;
+
+    /**
+     * Whether a subclass overrides {@link #createKey(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row instead of reading the key column, whose name is otherwise looked up once per {@code ResultSet}.
+     */
+    private final boolean customCreateKey = Overrides.isOverridden(this, LongBeanMapHandler.class, "createKey", ResultSet.class);
+
+    /**
+     * Creates a new instance of LongBeanMapHandler. The value of the first column
+     * of each row will be a key in the map.
+     *
+     * @param type
+     *            The Class that objects returned from {@code createRow()}
+     *            are created from.
+     */
+    public LongBeanMapHandler(final Class<V> type) {
+        this(type, ArrayHandler.ROW_PROCESSOR, 1, null);
+    }
+
+    /**
+     * Creates a new instance of LongBeanMapHandler.
+     *
+     * @param type
+     *            The Class that objects returned from {@code createRow()}
+     *            are created from.
+     * @param columnIndex
+     *            The values to use as keys in the map are retrieved from the
+     *            column at this index.
+     */
+    public LongBeanMapHandler(final Class<V> type, final int columnIndex) {
+        this(type, ArrayHandler.ROW_PROCESSOR, columnIndex, null);
+    }
+
+    /**
+     * Creates a new instance of LongBeanMapHandler. The value of the first column
+     * of each row will be a key in the map.
+     *
+     * @param type
+     *            The Class that objects returned from {@code createRow()}
+     *            are created from.
+     * @param convert
+     *            The {@code RowProcessor} implementation to use when
+     *            converting rows into Beans
+     */
+    public LongBeanMapHandler(final Class<V> type, final RowProcessor convert) {
+        this(type, convert, 1, null);
+    }
+
+    /**
+     * Private Helper
+     *
+     * @param convert
+     *            The {@code RowProcessor} implementation to use when
+     *            converting rows into Beans
+     * @param columnIndex
+     *            The values to use as keys in the map are retrieved from the
+     *            column at this index.
+     * @param columnName
+     *            The values to use as keys in the map are retrieved from the
+     *            column with this name.
+     */
+    private LongBeanMapHandler(final Class<V> type, final RowProcessor convert,
+            final int columnIndex, final String columnName) {
+        this.type = type;
+        this.convert = convert;
+        this.columnIndex = columnIndex;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Creates a new instance of LongBeanMapHandler.
+     *
+     * @param type
+     *            The Class that objects returned from {@code createRow()}
+     *            are created from.
+     * @param columnName
+     *            The values to use as keys in the map are retrieved from the
+     *            column with this name.
+     */
+    public LongBeanMapHandler(final Class<V> type, final String columnName) {
+        this(type, ArrayHandler.ROW_PROCESSOR, 1, columnName);
+    }
+
+    /**
+     * This factory method is called by {@code handle()} to retrieve the
+     * key value from the current {@code ResultSet} row with
+     * {@code getLong}.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException if the key is null, or a database access error occurs
+     * @see org.apache.commons.dbutils.handlers.AbstractLongKeyedHandler#createKey(ResultSet)
+     */
+    @Override
+    protected long createKey(final ResultSet resultSet) throws SQLException {
+        return getKey(resultSet, columnIndex, columnName);
+    }
+
+    @Override
+    int keyColumn(final ResultSet resultSet) throws SQLException {
+        if (customCreateKey) {
+            return 0;
+        }
+        return columnName == null ? columnIndex : resultSet.findColumn(columnName);
+    }
+
+    @Override
+    protected V createRow(final ResultSet resultSet) throws SQLException {
+        return this.convert.toBean(resultSet, type);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@code ResultSetHandler} implementation that converts one
+ * {@code ResultSet} column into a {@code long[]}, reading each row with
+ * {@code getLong} so that no value is boxed. SQL {@code NULL} values are read
+ * as {@code 0}. This class is thread safe.
+ *
+ * <p>
+ * For example, to fetch the ids of a large table:
+ * </p>
+ *
+ * <pre>
+ * long[] ids = queryRunner.query("select id from person", new LongColumnArrayHandler());
+ * </pre>
+ *
+ * @see ColumnListHandler
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class LongColumnArrayHandler extends AbstractColumnArrayHandler<long[]> {
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.  The first column of each
+     * row will be returned from {@code handle()}.
+     */
+    public LongColumnArrayHandler() {
+        super(1, null, null);
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongColumnArrayHandler(final int columnIndex) {
+        super(columnIndex, null, null);
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler that allocates its arrays at
+     * the length estimated for each {@code ResultSet}.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param expectedRows Estimates the number of rows.
+     */
+    public LongColumnArrayHandler(final int columnIndex, final ExpectedRows expectedRows) {
+        super(columnIndex, null, Objects.requireNonNull(expectedRows, "expectedRows"));
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongColumnArrayHandler(final String columnName) {
+        super(1, columnName, null);
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler that allocates its arrays at
+     * the length estimated for each {@code ResultSet}.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param expectedRows Estimates the number of rows.
+     */
+    public LongColumnArrayHandler(final String columnName, final ExpectedRows expectedRows) {
+        super(1, columnName, Objects.requireNonNull(expectedRows, "expectedRows"));
+    }
+
+    /**
+     * Reads the column of each row into an array.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The values of the column, one per row, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    public long[] handle(final ResultSet resultSet) throws SQLException {
+        long[] values = new long[capacity(resultSet)];
+        final int column = column(resultSet);
+        int size = 0;
+        while (resultSet.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = resultSet.getLong(column);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
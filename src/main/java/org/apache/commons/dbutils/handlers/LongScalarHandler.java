@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * {@code ResultSetHandler} implementation that converts one
+ * {@code ResultSet} column into a {@code Long}, reading it with
+ * {@code getLong} rather than {@code getObject}, so that the driver converts
+ * whatever numeric type it returns, such as the {@code BigDecimal} of a
+ * {@code COUNT(*)} on some databases, and no intermediate object is created.
+ * This class is thread safe.
+ *
+ * @see ScalarHandler
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class LongScalarHandler implements ResultSetHandler<Long> {
+
+    /**
+     * The column number to retrieve.
+     */
+    private final int columnIndex;
+
+    /**
+     * The column name to retrieve.  Either columnName or columnIndex
+     * will be used but never both.
+     */
+    private final String columnName;
+
+    /**
+     * Creates a new instance of LongScalarHandler.  The first column will
+     * be returned from {@code handle()}.
+     */
+    public LongScalarHandler() {
+        this(1, null);
+    }
+
+    /**
+     * Creates a new instance of LongScalarHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongScalarHandler(final int columnIndex) {
+        this(columnIndex, null);
+    }
+
+    /** Private Helper
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    private LongScalarHandler(final int columnIndex, final String columnName) {
+        this.columnIndex = columnIndex;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Creates a new instance of LongScalarHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongScalarHandler(final String columnName) {
+        this(1, columnName);
+    }
+
+    /**
+     * Returns the column value of the first row with {@code getLong}.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The column, or {@code null} if there are no rows in
+     * the {@code ResultSet} or the column is SQL {@code NULL}.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        final long value = this.columnName == null ? resultSet.getLong(this.columnIndex) : resultSet.getLong(this.columnName);
+        return resultSet.wasNull() ? null : Long.valueOf(value);
+    }
+}
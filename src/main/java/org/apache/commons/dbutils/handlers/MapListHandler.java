@@ -18,8 +18,10 @@ package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.dbutils.Overrides;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -37,6 +39,12 @@ public class MapListHandler extends AbstractListHandler<Map<String, Object>> {
      */
     private final RowProcessor convert;
 
+    /**
+     * Whether a subclass overrides {@link #handleRow(ResultSet)}, which {@link #handle(ResultSet)} then calls for each
+     * row.
+     */
+    private final boolean customHandleRow = Overrides.isOverridden(this, MapListHandler.class, "handleRow", ResultSet.class);
+
     /**
      * Creates a new instance of MapListHandler using a
      * {@code BasicRowProcessor} for conversion.
@@ -55,6 +63,49 @@ public class MapListHandler extends AbstractListHandler<Map<String, Object>> {
         this.convert = convert;
     }
 
+    /**
+     * Creates a new instance of MapListHandler that allocates its lists at the capacity estimated for each
+     * {@code ResultSet}.
+     *
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into Maps.
+     * @param expectedRows Estimates the number of rows.
+     * @since 1.9.0
+     */
+    public MapListHandler(final RowProcessor convert, final ExpectedRows expectedRows) {
+        super(expectedRows);
+        this.convert = convert;
+    }
+
+    /**
+     * Converts the {@code ResultSet} into a {@code List} of {@code Map}s through
+     * {@link RowProcessor#toMapList(ResultSet)}, so that the {@code RowProcessor} can share per result set state, such
+     * as the column keys, between rows. If a subclass overrides {@link #handleRow(ResultSet)}, it is called for each
+     * row instead. If this handler was constructed with an {@code ExpectedRows}, the rows are converted with a
+     * {@code RowProcessor} {@link RowProcessor#prepare(ResultSet) prepared} for the result set into a list of the
+     * expected capacity.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return A list of all rows in the result set
+     * @throws SQLException Thrown if a database access error occurs
+     * @since 1.9.0
+     */
+    @Override
+    public List<Map<String, Object>> handle(final ResultSet resultSet) throws SQLException {
+        if (customHandleRow) {
+            return super.handle(resultSet);
+        }
+        if (!isPresized()) {
+            return this.convert.toMapList(resultSet);
+        }
+        final RowProcessor prepared = this.convert.prepare(resultSet);
+        final List<Map<String, Object>> rows = createList(resultSet);
+        while (resultSet.next()) {
+            rows.add(prepared.toMap(resultSet));
+        }
+        return rows;
+    }
+
     /**
      * Converts the {@code ResultSet} row into a {@code Map} object.
      *
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * {@code ResultSetHandler} implementation that converts a {@code ResultSet} into a {@code List} of beans, like
+ * {@link BeanListHandler}, converting the rows on the worker threads of a {@code ForkJoinPool} while the calling
+ * thread keeps fetching. The calling thread only reads the column values of each row with {@code getObject} into an
+ * {@code Object[]}; batches of these rows are then converted with {@link RowProcessor#toBeanList(ResultSet, Class)}
+ * through a detached {@code ResultSet} over the batch, whose getters convert values of the standard Java types as those
+ * of common drivers do, and read {@code String} properties from {@code Clob} and {@code SQLXML} values; a property that
+ * would receive the {@code toString()} of another kind of object, such as a byte array, fails the conversion instead.
+ * The beans are returned in the order of the rows.
+ *
+ * <p>
+ * This pays off when converting rows, with many properties or costly {@code PropertyHandler}s, takes longer than
+ * fetching them. The {@code RowProcessor} must be thread safe, as {@code BasicRowProcessor} and {@code BeanProcessor}
+ * are, and large object columns must stay readable after the cursor has moved on, as they do with most drivers.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @param <T> the target bean type
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class ParallelBeanListHandler<T> implements ResultSetHandler<List<T>> {
+
+    /**
+     * Converts a batch of rows into beans.
+     */
+    private final class ConvertBatch extends RecursiveTask<List<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ResultSetMetaData metaData;
+
+        private transient List<Object[]> rows;
+
+        private transient SQLException failure;
+
+        ConvertBatch(final ResultSetMetaData metaData, final List<Object[]> rows) {
+            this.metaData = metaData;
+            this.rows = rows;
+        }
+
+        @Override
+        protected List<T> compute() {
+            try {
+                return convert.toBeanList(DetachedResultSet.create(metaData, rows), type);
+            } catch (final SQLException e) {
+                failure = e;
+                return null;
+            } finally {
+                // the raw values are no longer needed
+                rows = null;
+            }
+        }
+    }
+
+    /**
+     * The default number of rows converted by one task.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * The Class of beans produced by this handler.
+     */
+    private final Class<? extends T> type;
+
+    /**
+     * The RowProcessor implementation to use when converting rows
+     * into beans.
+     */
+    private final RowProcessor convert;
+
+    /**
+     * The pool that converts the batches.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The number of rows converted by one task.
+     */
+    private final int batchSize;
+
+    /**
+     * Creates a new instance of ParallelBeanListHandler that converts batches of 256 rows in the common
+     * {@code ForkJoinPool}.
+     *
+     * @param type The Class that objects returned from {@code handle()}
+     * are created from.
+     */
+    public ParallelBeanListHandler(final Class<? extends T> type) {
+        this(type, ArrayHandler.ROW_PROCESSOR, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new instance of ParallelBeanListHandler.
+     *
+     * @param type The Class that objects returned from {@code handle()}
+     * are created from.
+     * @param convert The thread safe {@code RowProcessor} implementation
+     * to use when converting rows into beans.
+     * @param pool The pool that converts the rows.
+     * @param batchSize The number of rows converted by one task.
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1.
+     */
+    public ParallelBeanListHandler(final Class<? extends T> type, final RowProcessor convert, final ForkJoinPool pool, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.type = type;
+        this.convert = convert;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads the rows of the {@code ResultSet} and converts them into beans in parallel. At most twice as many batches
+     * as the pool has worker threads are pending at once: when the rows are fetched faster than they are converted,
+     * the oldest batch is joined before more rows are read, so that the raw rows of the whole result and its beans are
+     * not held at the same time.
+     *
+     * @param resultSet The {@code ResultSet} to handle.
+     * @return A List of beans in the order of the rows, never {@code null}.
+     * @throws SQLException Thrown if a database access error occurs, or a row cannot be converted
+     */
+    @Override
+    public List<T> handle(final ResultSet resultSet) throws SQLException {
+        final ResultSetMetaData metaData = DetachedResultSet.snapshot(resultSet.getMetaData());
+        final int cols = metaData.getColumnCount();
+        final int maxPending = 2 * pool.getParallelism();
+        final Deque<ConvertBatch> pending = new ArrayDeque<>();
+        final List<T> results = new ArrayList<>();
+        try {
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            while (resultSet.next()) {
+                final Object[] row = new Object[cols];
+                for (int i = 0; i < cols; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                rows.add(row);
+                if (rows.size() == batchSize) {
+                    pending.add(submit(metaData, rows));
+                    rows = new ArrayList<>(batchSize);
+                    if (pending.size() > maxPending) {
+                        join(pending.remove(), results);
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                pending.add(submit(metaData, rows));
+            }
+            while (!pending.isEmpty()) {
+                join(pending.remove(), results);
+            }
+        } catch (final SQLException | RuntimeException | Error e) {
+            // cancel the batches that have not started converting
+            for (final ConvertBatch batch : pending) {
+                batch.cancel(false);
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Waits for a batch and appends its beans to the results.
+     */
+    private void join(final ConvertBatch batch, final List<T> results) throws SQLException {
+        final List<T> beans = batch.join();
+        if (batch.failure != null) {
+            throw batch.failure;
+        }
+        results.addAll(beans);
+    }
+
+    private ConvertBatch submit(final ResultSetMetaData metaData, final List<Object[]> rows) {
+        final ConvertBatch batch = new ConvertBatch(metaData, rows);
+        pool.execute(batch);
+        return batch;
+    }
+}
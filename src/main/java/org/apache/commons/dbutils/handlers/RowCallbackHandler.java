@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowCallback;
+
+/**
+ * {@code ResultSetHandler} implementation that passes the {@code ResultSet}, positioned on each row in turn, to a
+ * {@link RowCallback}, without keeping any row, so that its memory use does not depend on the number of rows. The
+ * callback stops the fetching of rows by returning {@code false}.
+ *
+ * <p>
+ * This class is thread safe if its callback is.
+ * </p>
+ *
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @see org.apache.commons.dbutils.QueryRunner#forEachRow(String, RowCallback, Object...)
+ * @since 1.9.0
+ */
+public class RowCallbackHandler implements ResultSetHandler<Long> {
+
+    /**
+     * The callback that receives the rows.
+     */
+    private final RowCallback<? super ResultSet> callback;
+
+    /**
+     * Creates a new instance of RowCallbackHandler.
+     *
+     * @param callback The callback that receives the {@code ResultSet} positioned on each row.
+     */
+    public RowCallbackHandler(final RowCallback<? super ResultSet> callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * Passes each row to the callback, until there are no more rows or the callback returns {@code false}.
+     *
+     * @param resultSet The {@code ResultSet} to handle.
+     * @return The number of rows passed to the callback.
+     * @throws SQLException Thrown if a database access error occurs
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        long rows = 0;
+        while (resultSet.next()) {
+            rows++;
+            if (!callback.handleRow(resultSet)) {
+                break;
+            }
+        }
+        return Long.valueOf(rows);
+    }
+}
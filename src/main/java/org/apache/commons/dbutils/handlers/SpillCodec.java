@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Writes and reads the column values of spilled rows: each value is a tag byte followed by a fixed-width primitive, or
+ * by a length and bytes. Large objects are stored as their contents and read back as {@code SerialClob}s,
+ * {@code SerialBlob}s and read-only {@code SQLXML} values, so that the getters that accept the rows held in memory
+ * accept the spilled rows too. Values of other {@code Serializable} types are stored with Java serialization, as long
+ * as they and all of the objects they refer to are of classes of the {@code java.base} module; only those classes are
+ * deserialized.
+ */
+final class SpillCodec {
+
+    /**
+     * A read-only {@code SQLXML} value over the contents of a spilled one.
+     */
+    private static final class SpilledXml implements SQLXML {
+
+        private final String xml;
+
+        private SpilledXml(final String xml) {
+            this.xml = xml;
+        }
+
+        @Override
+        public void free() {
+            // nothing to release
+        }
+
+        @Override
+        public InputStream getBinaryStream() {
+            return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Reader getCharacterStream() {
+            return new StringReader(xml);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <S extends Source> S getSource(final Class<S> sourceClass) throws SQLException {
+            if (sourceClass == null || sourceClass == StreamSource.class) {
+                return (S) new StreamSource(getCharacterStream());
+            }
+            throw new SQLFeatureNotSupportedException("getSource(" + sourceClass.getName() + ")");
+        }
+
+        @Override
+        public String getString() {
+            return xml;
+        }
+
+        @Override
+        public OutputStream setBinaryStream() throws SQLException {
+            throw new SQLFeatureNotSupportedException("setBinaryStream");
+        }
+
+        @Override
+        public Writer setCharacterStream() throws SQLException {
+            throw new SQLFeatureNotSupportedException("setCharacterStream");
+        }
+
+        @Override
+        public <R extends Result> R setResult(final Class<R> resultClass) throws SQLException {
+            throw new SQLFeatureNotSupportedException("setResult");
+        }
+
+        @Override
+        public void setString(final String value) throws SQLException {
+            throw new SQLFeatureNotSupportedException("setString");
+        }
+
+        @Override
+        public String toString() {
+            return xml;
+        }
+    }
+
+    /**
+     * Serializes values that only refer to objects of {@code java.base} classes.
+     */
+    private static final class JdkObjectOutputStream extends ObjectOutputStream {
+
+        JdkObjectOutputStream(final ByteArrayOutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            Class<?> type = obj.getClass();
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            if (!type.isPrimitive() && type.getModule() != JDK) {
+                throw new NotSerializableException(type.getName());
+            }
+            return obj;
+        }
+    }
+
+    private static final Module JDK = Object.class.getModule();
+
+    /**
+     * Rejects all classes outside of the {@code java.base} module when reading serialized values.
+     */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter("java.base/*;!*");
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte BIG_INTEGER = 10;
+    private static final byte BYTES = 11;
+    private static final byte DATE = 12;
+    private static final byte TIME = 13;
+    private static final byte TIMESTAMP = 14;
+    private static final byte LOCAL_DATE = 15;
+    private static final byte LOCAL_DATE_TIME = 16;
+    private static final byte LOCAL_TIME = 17;
+    private static final byte SERIALIZED = 18;
+    private static final byte CLOB = 19;
+    private static final byte BLOB = 20;
+    private static final byte XML = 21;
+
+    private static byte[] bytes(final ByteBuffer in) {
+        final byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads the next value.
+     *
+     * @param in The bytes of a row, positioned at the value.
+     * @return The value.
+     * @throws SQLException if a serialized value cannot be read.
+     */
+    static Object read(final ByteBuffer in) throws SQLException {
+        final byte tag = in.get();
+        switch (tag) {
+        case NULL:
+            return null;
+        case STRING:
+            return new String(bytes(in), StandardCharsets.UTF_8);
+        case INT:
+            return Integer.valueOf(in.getInt());
+        case LONG:
+            return Long.valueOf(in.getLong());
+        case DOUBLE:
+            return Double.valueOf(in.getDouble());
+        case FLOAT:
+            return Float.valueOf(in.getFloat());
+        case SHORT:
+            return Short.valueOf(in.getShort());
+        case BYTE:
+            return Byte.valueOf(in.get());
+        case BOOLEAN:
+            return Boolean.valueOf(in.get() != 0);
+        case BIG_DECIMAL:
+            final int scale = in.getInt();
+            return new BigDecimal(new BigInteger(bytes(in)), scale);
+        case BIG_INTEGER:
+            return new BigInteger(bytes(in));
+        case BYTES:
+            return bytes(in);
+        case DATE:
+            return new Date(in.getLong());
+        case TIME:
+            return new Time(in.getLong());
+        case TIMESTAMP:
+            final Timestamp timestamp = new Timestamp(in.getLong());
+            timestamp.setNanos(in.getInt());
+            return timestamp;
+        case LOCAL_DATE:
+            return LocalDate.ofEpochDay(in.getLong());
+        case LOCAL_DATE_TIME:
+            final long seconds = in.getLong();
+            return LocalDateTime.ofEpochSecond(seconds, in.getInt(), ZoneOffset.UTC);
+        case LOCAL_TIME:
+            return LocalTime.ofNanoOfDay(in.getLong());
+        case CLOB:
+            return new SerialClob(new String(bytes(in), StandardCharsets.UTF_8).toCharArray());
+        case BLOB:
+            return new SerialBlob(bytes(in));
+        case XML:
+            return new SpilledXml(new String(bytes(in), StandardCharsets.UTF_8));
+        case SERIALIZED:
+            try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes(in)))) {
+                objects.setObjectInputFilter(FILTER);
+                return objects.readObject();
+            } catch (final IOException | ClassNotFoundException e) {
+                throw new SQLException("Cannot read spilled value", e);
+            }
+        default:
+            throw new SQLException("Corrupt spilled row, unknown tag " + tag);
+        }
+    }
+
+    private static void write(final DataOutputStream out, final byte tag, final byte[] bytes) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a value.
+     *
+     * @param out The output.
+     * @param value The value, as returned by {@code ResultSet.getObject}.
+     * @throws IOException if an I/O error occurs.
+     * @throws SQLException if the value is not {@code Serializable} or refers to objects of classes outside of the
+     * {@code java.base} module, or the contents of a large object cannot be read.
+     */
+    static void write(final DataOutputStream out, final Object value) throws IOException, SQLException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            write(out, STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt(((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong(((Long) value).longValue());
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Double) value).doubleValue());
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat(((Float) value).floatValue());
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort(((Short) value).shortValue());
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte(((Byte) value).byteValue());
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(((Boolean) value).booleanValue());
+        } else if (value instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(decimal.scale());
+            final byte[] unscaled = decimal.unscaledValue().toByteArray();
+            out.writeInt(unscaled.length);
+            out.write(unscaled);
+        } else if (value instanceof BigInteger) {
+            write(out, BIG_INTEGER, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            write(out, BYTES, (byte[]) value);
+        } else if (value instanceof Timestamp) {
+            final Timestamp timestamp = (Timestamp) value;
+            out.writeByte(TIMESTAMP);
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            out.writeByte(TIME);
+            out.writeLong(((Time) value).getTime());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            final LocalDateTime dateTime = (LocalDateTime) value;
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        } else if (value instanceof LocalTime) {
+            out.writeByte(LOCAL_TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof Blob) {
+            final Blob blob = (Blob) value;
+            write(out, BLOB, blob.getBytes(1, Math.toIntExact(blob.length())));
+        } else if (value instanceof Clob) {
+            final Clob clob = (Clob) value;
+            write(out, CLOB, clob.getSubString(1, Math.toIntExact(clob.length())).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof SQLXML) {
+            write(out, XML, ((SQLXML) value).getString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Serializable) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new JdkObjectOutputStream(bytes)) {
+                objects.writeObject(value);
+            } catch (final NotSerializableException e) {
+                throw new SQLException("Cannot spill a value of " + value.getClass().getName() + ": " + e.getMessage() + " is not a java.base class", e);
+            }
+            write(out, SERIALIZED, bytes.toByteArray());
+        } else {
+            throw new SQLException("Cannot spill a value of " + value.getClass().getName());
+        }
+    }
+
+    private SpillCodec() {
+        // no instances
+    }
+}
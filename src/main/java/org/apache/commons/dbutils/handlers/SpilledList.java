@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A read-only {@code List} of rows, as returned by {@link SpillingArrayListHandler} and {@link SpillingBeanListHandler},
+ * that holds its first rows in memory and the others in a temporary file. The file is mapped into memory, in segments
+ * of at most a few hundred megabytes, when a row of a segment is first read; spilled rows are decoded and converted
+ * each time they are read, so they take no heap until then beyond the 8-byte file offset kept for each of them, and
+ * the operating system pages them in and out as needed.
+ *
+ * <p>
+ * {@link #close() Close} the list to delete the file. The rows held in memory remain readable after the list is
+ * closed; reading a spilled row then throws an {@code IllegalStateException}. Lists that spilled no rows hold no file.
+ * The file of a list that becomes unreachable without being closed is deleted by a {@link Cleaner}, as is the file
+ * of a closed list whose mapped segments kept the file system from deleting it, such as on Windows; files that still
+ * cannot be deleted then are deleted when the virtual machine exits.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @param <T> The type of the rows.
+ * @since 1.9.0
+ */
+public final class SpilledList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    /**
+     * Converts a spilled row, the current row of a detached {@code ResultSet}.
+     *
+     * @param <T> The type of the rows.
+     */
+    @FunctionalInterface
+    interface RowReader<T> {
+
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Closes the channel and deletes the file of a list, which it must not refer to, so that the list can become
+     * unreachable.
+     */
+    private static final class Spill implements Runnable {
+
+        private final Path file;
+
+        /**
+         * The channel that maps the segments, opened with the first, guarded by the list.
+         */
+        private FileChannel channel;
+
+        private Spill(final Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Closes the channel.
+         *
+         * @throws IOException if an I/O error occurs.
+         */
+        private void closeChannel() throws IOException {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+
+        /**
+         * Tries to delete the file.
+         *
+         * @return Whether the file no longer exists.
+         */
+        private boolean delete() {
+            try {
+                Files.deleteIfExists(file);
+                return true;
+            } catch (final IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Cleans up after a list that was not closed, or whose file could not be deleted when it was.
+         */
+        @Override
+        public void run() {
+            try {
+                closeChannel();
+            } catch (final IOException e) {
+                // the file may still be deleted
+            }
+            if (!delete()) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final List<T> head;
+
+    private final ResultSetMetaData metaData;
+
+    private final RowReader<? extends T> reader;
+
+    /**
+     * The file of the spilled rows, or {@code null} if there are none.
+     */
+    private final Spill spill;
+
+    /**
+     * Cleans up the file when the list becomes unreachable, or {@code null} if there is none.
+     */
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * The offset of each spilled row in the file, followed by the size of the file.
+     */
+    private final long[] offsets;
+
+    private final int spilled;
+
+    /**
+     * The first spilled row of each segment of the file.
+     */
+    private final int[] segmentRows;
+
+    /**
+     * The mapped segments, guarded by this list.
+     */
+    private final MappedByteBuffer[] segments;
+
+    private boolean closed;
+
+    /**
+     * Constructs a list of rows held in memory.
+     *
+     * @param head The rows.
+     */
+    SpilledList(final List<T> head) {
+        this(head, null, null, null, new long[1], 0, new int[0]);
+    }
+
+    /**
+     * Constructs a list of rows held in memory, followed by rows spilled to a file.
+     *
+     * @param head The rows held in memory.
+     * @param metaData The meta data of the spilled rows, from {@link DetachedResultSet#snapshot(ResultSetMetaData)}.
+     * @param reader Converts the spilled rows.
+     * @param file The file, which the list deletes when it is closed.
+     * @param offsets The offset of each spilled row in the file, followed by the size of the file.
+     * @param spilled The number of spilled rows.
+     * @param segmentRows The first spilled row of each segment of the file, starting with 0.
+     */
+    SpilledList(final List<T> head, final ResultSetMetaData metaData, final RowReader<? extends T> reader, final Path file, final long[] offsets,
+            final int spilled, final int[] segmentRows) {
+        this.head = head;
+        this.metaData = metaData;
+        this.reader = reader;
+        this.spill = file == null ? null : new Spill(file);
+        this.cleanable = file == null ? null : CLEANER.register(this, spill);
+        this.offsets = offsets;
+        this.spilled = spilled;
+        this.segmentRows = segmentRows;
+        this.segments = new MappedByteBuffer[segmentRows.length];
+    }
+
+    /**
+     * Deletes the file of the spilled rows, if there is one. If the file system does not allow deleting it while its
+     * segments are still mapped, it is deleted once they have been garbage collected. Closing a closed list has no
+     * effect.
+     *
+     * @throws UncheckedIOException if the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Arrays.fill(segments, null);
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.closeChannel();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (spill.delete()) {
+            // nothing left for the cleaner to do
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * Returns a row, decoding and converting it if it was spilled.
+     *
+     * @throws IllegalStateException if the row was spilled and the list is closed, or if an SQLException occurs, with
+     * the SQLException as its cause.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    @Override
+    public T get(final int index) {
+        if (index < head.size()) {
+            return head.get(index);
+        }
+        final int row = Objects.checkIndex(index, size()) - head.size();
+        final ByteBuffer bytes = read(row);
+        try {
+            final Object[] values = new Object[metaData.getColumnCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = SpillCodec.read(bytes);
+            }
+            final ResultSet resultSet = DetachedResultSet.create(metaData, Collections.singletonList(values));
+            resultSet.next();
+            return reader.read(resultSet);
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the number of rows held in the file.
+     *
+     * @return The number of spilled rows.
+     */
+    public int getSpilledRowCount() {
+        return spilled;
+    }
+
+    /**
+     * Returns the bytes of a spilled row.
+     */
+    private ByteBuffer read(final int row) {
+        final int found = Arrays.binarySearch(segmentRows, row);
+        final int segment = found >= 0 ? found : -found - 2;
+        final long start = offsets[segmentRows[segment]];
+        final ByteBuffer bytes = segment(segment).duplicate();
+        bytes.limit((int) (offsets[row + 1] - start)).position((int) (offsets[row] - start));
+        return bytes;
+    }
+
+    private synchronized ByteBuffer segment(final int segment) {
+        if (closed) {
+            throw new IllegalStateException("List closed");
+        }
+        if (segments[segment] == null) {
+            final long start = offsets[segmentRows[segment]];
+            final long end = offsets[segment + 1 < segmentRows.length ? segmentRows[segment + 1] : spilled];
+            try {
+                if (spill.channel == null) {
+                    spill.channel = FileChannel.open(spill.file, StandardOpenOption.READ);
+                }
+                segments[segment] = spill.channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return segments[segment];
+    }
+
+    @Override
+    public int size() {
+        return head.size() + spilled;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * {@code ResultSetHandler} implementation that converts the {@code ResultSet} into a {@link SpilledList} of
+ * {@code Object[]}s, like {@link ArrayListHandler}, holding at most a given number of rows in memory. The column
+ * values of the rows beyond it are written to a temporary file in a compact binary format, and read back through a
+ * memory-mapped view of the file, so that an unexpectedly large result makes the query slower rather than exhausting
+ * the heap.
+ *
+ * <p>
+ * Spilled values are stored as their {@code getObject} values: strings, numbers, booleans, byte arrays and the
+ * {@code java.sql} and {@code java.time} date and time types compactly, large objects as their contents, read back as
+ * {@code SerialClob}s, {@code SerialBlob}s and read-only {@code SQLXML} values, and other {@code Serializable} values
+ * with Java serialization if they only refer to objects of {@code java.base} classes, which are the only classes read
+ * back from the file. Spilled rows are converted with {@link RowProcessor#toArray(ResultSet)} through a detached
+ * {@code ResultSet} over their values when they are read. Close the returned list to delete its file.
+ * </p>
+ *
+ * <p>
+ * The heap held by the list is bounded by its in-memory rows plus the file offset of each spilled row, 8 bytes per
+ * row, which the list keeps to find rows.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class SpillingArrayListHandler extends AbstractSpillingListHandler<Object[]> {
+
+    /**
+     * Creates a new instance of SpillingArrayListHandler using a {@code BasicRowProcessor} for conversions and the
+     * default temporary-file directory.
+     *
+     * @param maxInMemoryRows The number of rows held in memory.
+     * @throws IllegalArgumentException if {@code maxInMemoryRows} is negative.
+     */
+    public SpillingArrayListHandler(final int maxInMemoryRows) {
+        this(ArrayHandler.ROW_PROCESSOR, maxInMemoryRows, null);
+    }
+
+    /**
+     * Creates a new instance of SpillingArrayListHandler.
+     *
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into Object[]s.
+     * @param maxInMemoryRows The number of rows held in memory.
+     * @param directory The directory of the temporary files, or {@code null} for the default temporary-file directory.
+     * @throws IllegalArgumentException if {@code maxInMemoryRows} is negative.
+     */
+    public SpillingArrayListHandler(final RowProcessor convert, final int maxInMemoryRows, final Path directory) {
+        this(convert, maxInMemoryRows, directory, SEGMENT_SIZE);
+    }
+
+    SpillingArrayListHandler(final RowProcessor convert, final int maxInMemoryRows, final Path directory, final int segmentSize) {
+        super(convert, maxInMemoryRows, directory, segmentSize);
+    }
+
+    @Override
+    Object[] handleRow(final RowProcessor prepared, final ResultSet resultSet) throws SQLException {
+        return prepared.toArray(resultSet);
+    }
+
+    @Override
+    Object[] readRow(final ResultSet resultSet) throws SQLException {
+        return convert.toArray(resultSet);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.RowProcessor;
+
+/**
+ * {@code ResultSetHandler} implementation that converts the {@code ResultSet} into a {@link SpilledList} of beans,
+ * like {@link BeanListHandler}, holding at most a given number of beans in memory. The column values of the rows beyond
+ * it are written to a temporary file, as by {@link SpillingArrayListHandler}, and converted into beans with
+ * {@link RowProcessor#toBean(ResultSet, Class)} through a detached {@code ResultSet} each time they are read, whose
+ * getters convert the values as for {@link ParallelBeanListHandler}; large objects are read back as
+ * {@code SerialClob}s, {@code SerialBlob}s and read-only {@code SQLXML} values, so that {@code Clob}, {@code Blob} and
+ * {@code SQLXML} properties are set for spilled rows as for the others. Besides the beans held in memory, the list
+ * keeps an 8-byte file offset per spilled row. Close the returned list to delete its file.
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @param <T> the target bean type
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class SpillingBeanListHandler<T> extends AbstractSpillingListHandler<T> {
+
+    /**
+     * The Class of beans produced by this handler.
+     */
+    private final Class<? extends T> type;
+
+    /**
+     * Creates a new instance of SpillingBeanListHandler using a {@code BasicRowProcessor} for conversions and the
+     * default temporary-file directory.
+     *
+     * @param type The Class that objects returned from {@code handle()}
+     * are created from.
+     * @param maxInMemoryRows The number of beans held in memory.
+     * @throws IllegalArgumentException if {@code maxInMemoryRows} is negative.
+     */
+    public SpillingBeanListHandler(final Class<? extends T> type, final int maxInMemoryRows) {
+        this(type, ArrayHandler.ROW_PROCESSOR, maxInMemoryRows, null);
+    }
+
+    /**
+     * Creates a new instance of SpillingBeanListHandler.
+     *
+     * @param type The Class that objects returned from {@code handle()}
+     * are created from.
+     * @param convert The {@code RowProcessor} implementation
+     * to use when converting rows into beans.
+     * @param maxInMemoryRows The number of beans held in memory.
+     * @param directory The directory of the temporary files, or {@code null} for the default temporary-file directory.
+     * @throws IllegalArgumentException if {@code maxInMemoryRows} is negative.
+     */
+    public SpillingBeanListHandler(final Class<? extends T> type, final RowProcessor convert, final int maxInMemoryRows, final Path directory) {
+        super(convert, maxInMemoryRows, directory, SEGMENT_SIZE);
+        this.type = type;
+    }
+
+    @Override
+    T handleRow(final RowProcessor prepared, final ResultSet resultSet) throws SQLException {
+        return prepared.toBean(resultSet, type);
+    }
+
+    @Override
+    T readRow(final ResultSet resultSet) throws SQLException {
+        return convert.toBean(resultSet, type);
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.processor;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.sql.SQLXML;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apache.commons.dbutils.BeanMapper;
+import org.apache.commons.dbutils.Column;
+
+/**
+ * <p>
+ * An annotation processor that generates a {@link BeanMapper} for each class with a {@link Column} annotated method and
+ * registers the generated mappers in {@code META-INF/services/org.apache.commons.dbutils.BeanMapper}, so that
+ * {@link org.apache.commons.dbutils.BeanProcessor BeanProcessor} populates these classes with straight-line
+ * {@code ResultSet} getter and setter calls instead of introspecting them at run time.
+ * </p>
+ *
+ * <p>
+ * The generated mapper for class {@code Person} is {@code PersonBeanMapper} in the same package; nested classes are
+ * named after their enclosing classes, as in {@code Outer_InnerBeanMapper}. Properties follow the JavaBeans
+ * conventions applied by {@link Introspector}: public, single argument {@code set} methods, matched to columns by the
+ * {@code Column} name of their read method or by property name. Property types must be a primitive type other than
+ * {@code char}, a primitive wrapper, {@code String}, {@code Object}, {@code java.sql.Timestamp} or
+ * {@code java.sql.SQLXML}. Classes with other property types, type parameters or private nesting are reported with a
+ * warning and left to the reflective path.
+ * </p>
+ *
+ * <p>
+ * The processor is not registered automatically; enable it with {@code javac -processor
+ * org.apache.commons.dbutils.processor.BeanMapperProcessor} or the equivalent build tool setting. The services file
+ * lists the mappers generated by one compilation.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+@SupportedAnnotationTypes("org.apache.commons.dbutils.Column")
+public class BeanMapperProcessor extends AbstractProcessor {
+
+    /**
+     * How a generated mapper reads one property type.
+     */
+    private static final class Accessor {
+
+        /** The {@code ResultSet} getter. */
+        private final String getter;
+
+        /** The primitive type of a wrapper, {@code null} if values are passed as read. */
+        private final String primitive;
+
+        private Accessor(final String getter, final String primitive) {
+            this.getter = getter;
+            this.primitive = primitive;
+        }
+    }
+
+    /**
+     * A bean property as seen by the generated code.
+     */
+    private static final class Property {
+
+        private final String columnName;
+
+        private final ExecutableElement setter;
+
+        private final Accessor accessor;
+
+        private Property(final String columnName, final ExecutableElement setter, final Accessor accessor) {
+            this.columnName = columnName;
+            this.setter = setter;
+            this.accessor = accessor;
+        }
+    }
+
+    private static final String SERVICES_FILE = "META-INF/services/" + BeanMapper.class.getName();
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    /**
+     * Accessors by property type, the names of primitive types and the qualified names of the other supported types.
+     */
+    private static final Map<String, Accessor> ACCESSORS = new HashMap<>();
+
+    static {
+        ACCESSORS.put("boolean", new Accessor("getBoolean", null));
+        ACCESSORS.put("byte", new Accessor("getByte", null));
+        ACCESSORS.put("short", new Accessor("getShort", null));
+        ACCESSORS.put("int", new Accessor("getInt", null));
+        ACCESSORS.put("long", new Accessor("getLong", null));
+        ACCESSORS.put("float", new Accessor("getFloat", null));
+        ACCESSORS.put("double", new Accessor("getDouble", null));
+        ACCESSORS.put(Boolean.class.getName(), new Accessor("getBoolean", "boolean"));
+        ACCESSORS.put(Byte.class.getName(), new Accessor("getByte", "byte"));
+        ACCESSORS.put(Short.class.getName(), new Accessor("getShort", "short"));
+        ACCESSORS.put(Integer.class.getName(), new Accessor("getInt", "int"));
+        ACCESSORS.put(Long.class.getName(), new Accessor("getLong", "long"));
+        ACCESSORS.put(Float.class.getName(), new Accessor("getFloat", "float"));
+        ACCESSORS.put(Double.class.getName(), new Accessor("getDouble", "double"));
+        ACCESSORS.put(String.class.getName(), new Accessor("getString", null));
+        ACCESSORS.put(Object.class.getName(), new Accessor("getObject", null));
+        ACCESSORS.put(Timestamp.class.getName(), new Accessor("getTimestamp", null));
+        ACCESSORS.put(SQLXML.class.getName(), new Accessor("getSQLXML", null));
+    }
+
+    /**
+     * The binary names of the mappers generated so far, sorted so that the services file is reproducible.
+     */
+    private final Set<String> generated = new TreeSet<>();
+
+    /**
+     * Constructs a new instance.
+     */
+    public BeanMapperProcessor() {
+        // empty
+    }
+
+    private Accessor accessor(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return ACCESSORS.get(type.toString());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return ACCESSORS.get(((TypeElement) processingEnv.getTypeUtils().asElement(type)).getQualifiedName().toString());
+    }
+
+    /**
+     * Tests whether generated code in the bean's package can refer to the bean class and whether the class can be
+     * instantiated without an enclosing instance.
+     *
+     * @param type The bean class.
+     * @return Whether the class is accessible.
+     */
+    private boolean isAccessible(final TypeElement type) {
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            final Set<Modifier> modifiers = element.getModifiers();
+            final NestingKind nesting = ((TypeElement) element).getNestingKind();
+            if (modifiers.contains(Modifier.PRIVATE) || nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS
+                    || nesting == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the writable properties of a bean class, sorted by name as {@link Introspector} sorts them.
+     *
+     * @param type The bean class.
+     * @return The properties, or {@code null} if a property cannot be mapped, in which case a warning was reported.
+     */
+    private List<Property> properties(final TypeElement type) {
+        final Map<String, List<ExecutableElement>> setters = new TreeMap<>();
+        final Map<String, ExecutableElement> readers = new HashMap<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String name = method.getSimpleName().toString();
+            final int params = method.getParameters().size();
+            final TypeKind returnKind = method.getReturnType().getKind();
+            if (name.startsWith("set") && name.length() > 3 && params == 1 && returnKind == TypeKind.VOID) {
+                setters.computeIfAbsent(Introspector.decapitalize(name.substring(3)), k -> new ArrayList<>()).add(method);
+            } else if (name.startsWith("get") && name.length() > 3 && params == 0 && returnKind != TypeKind.VOID) {
+                readers.putIfAbsent(Introspector.decapitalize(name.substring(3)), method);
+            } else if (name.startsWith("is") && name.length() > 2 && params == 0 && returnKind == TypeKind.BOOLEAN) {
+                readers.put(Introspector.decapitalize(name.substring(2)), method);
+            }
+        }
+        final List<Property> properties = new ArrayList<>();
+        for (final Map.Entry<String, List<ExecutableElement>> entry : setters.entrySet()) {
+            final String name = entry.getKey();
+            final ExecutableElement reader = readers.get(name);
+            final ExecutableElement setter = setter(entry.getValue(), reader);
+            if (setter == null) {
+                warn(type, "Cannot generate a BeanMapper for " + type + ": ambiguous write methods for property " + name);
+                return null;
+            }
+            final Accessor accessor = accessor(setter.getParameters().get(0).asType());
+            if (accessor == null) {
+                warn(type, "Cannot generate a BeanMapper for " + type + ": unsupported type " + setter.getParameters().get(0).asType()
+                        + " of property " + name);
+                return null;
+            }
+            final Column column = reader != null ? reader.getAnnotation(Column.class) : null;
+            properties.add(new Property(column != null ? column.name() : name, setter, accessor));
+        }
+        return properties;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServicesFile();
+            return false;
+        }
+        final Set<TypeElement> types = new LinkedHashSet<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Column.class)) {
+            // @Column on fields is for FieldBeanProcessor, which does not use BeanMappers
+            if (element.getKind() == ElementKind.METHOD && element.getEnclosingElement().getKind().isClass()) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (final TypeElement type : types) {
+            process(type);
+        }
+        return false;
+    }
+
+    private void process(final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return;
+        }
+        if (!type.getTypeParameters().isEmpty() || !isAccessible(type)) {
+            warn(type, "Cannot generate a BeanMapper for " + type + ": generic, local, inner or private classes are not supported");
+            return;
+        }
+        final List<Property> properties = properties(type);
+        if (properties == null) {
+            return;
+        }
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = pkg.getQualifiedName().toString();
+        final String beanName = type.getQualifiedName().toString();
+        final String nestedName = packageName.isEmpty() ? beanName : beanName.substring(packageName.length() + 1);
+        final String mapperName = nestedName.replace('.', '_') + "BeanMapper";
+        final String qualifiedMapperName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedMapperName, type).openWriter())) {
+            writeMapper(out, packageName, mapperName, beanName, properties);
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + qualifiedMapperName + ": " + e.getMessage(), type);
+            return;
+        }
+        generated.add(qualifiedMapperName);
+    }
+
+    /**
+     * Picks the write method of a property the way {@link Introspector} does: the only one, or the one taking the type
+     * the read method returns.
+     *
+     * @param candidates The write methods with the property's name.
+     * @param reader The read method, may be {@code null}.
+     * @return The write method, or {@code null} if it is ambiguous.
+     */
+    private ExecutableElement setter(final List<ExecutableElement> candidates, final ExecutableElement reader) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        if (reader != null) {
+            for (final ExecutableElement candidate : candidates) {
+                if (processingEnv.getTypeUtils().isSameType(candidate.getParameters().get(0).asType(), reader.getReturnType())) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void warn(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private void writeMapper(final PrintWriter out, final String packageName, final String mapperName, final String beanName,
+            final List<Property> properties) {
+        if (!packageName.isEmpty()) {
+            out.println("package " + packageName + ";");
+            out.println();
+        }
+        out.println("/**");
+        out.println(" * Maps {@code ResultSet} rows to {@link " + beanName + "}.");
+        out.println(" */");
+        if (processingEnv.getElementUtils().getTypeElement(GENERATED) != null) {
+            out.println("@" + GENERATED + "(\"" + getClass().getName() + "\")");
+        }
+        out.println("public final class " + mapperName + " implements " + BeanMapper.class.getName() + "<" + beanName + "> {");
+        out.println();
+        out.print("    private static final String[] COLUMN_NAMES = {");
+        for (int i = 0; i < properties.size(); i++) {
+            out.print((i == 0 ? " " : ", ") + processingEnv.getElementUtils().getConstantExpression(properties.get(i).columnName));
+        }
+        out.println(" };");
+        out.println();
+        out.println("    @Override");
+        out.println("    public String[] getColumnNames() {");
+        out.println("        return COLUMN_NAMES.clone();");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public Class<" + beanName + "> getType() {");
+        out.println("        return " + beanName + ".class;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public void populate(final java.sql.ResultSet resultSet, final " + beanName + " bean, final int[] columns)");
+        out.println("            throws java.sql.SQLException {");
+        out.println("        int column;");
+        for (int i = 0; i < properties.size(); i++) {
+            final Property property = properties.get(i);
+            final String setter = property.setter.getSimpleName().toString();
+            out.println("        if ((column = columns[" + i + "]) != 0) {");
+            if (property.accessor.primitive == null) {
+                out.println("            bean." + setter + "(resultSet." + property.accessor.getter + "(column));");
+            } else {
+                out.println("            final " + property.accessor.primitive + " value = resultSet." + property.accessor.getter + "(column);");
+                out.println("            bean." + setter + "(resultSet.wasNull() ? null : value);");
+            }
+            out.println("        }");
+        }
+        out.println("    }");
+        out.println("}");
+    }
+
+    private void writeServicesFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_FILE);
+            try (Writer out = file.openWriter()) {
+                for (final String name : generated) {
+                    out.write(name);
+                    out.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICES_FILE + ": " + e.getMessage());
+        }
+    }
+}
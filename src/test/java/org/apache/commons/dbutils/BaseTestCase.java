@@ -89,6 +89,17 @@ public class BaseTestCase {
         return MockResultSet.create(META_DATA, ROW_ARRAY, false);
     }
 
+    /**
+     * Creates a ResultSet with the given columns and rows.
+     *
+     * @param labels The column labels.
+     * @param rows The rows, each holding one value per column.
+     * @return A freshly initialized ResultSet.
+     */
+    protected static ResultSet createResultSet(final String[] labels, final Object[][] rows) {
+        return MockResultSet.create(MockResultSetMetaData.create(labels), rows, false);
+    }
+
     public ResultSet getEmptyResultSet() {
         return emptyResultSet;
     }
@@ -21,17 +21,28 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +58,57 @@ class BasicRowProcessorTest extends BaseTestCase {
      */
     private static final DateFormat datef = new SimpleDateFormat("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
 
+    @Test
+    void testPrepare() throws SQLException {
+        final AtomicInteger metaDataCalls = new AtomicInteger();
+        final ResultSet delegate = getResultSet();
+        final ResultSet rs = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getMetaData")) {
+                        metaDataCalls.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        final RowProcessor prepared = processor.prepare(rs);
+        assertSame(prepared, prepared.prepare(rs));
+
+        assertTrue(rs.next());
+        final Object[] a = prepared.toArray(rs);
+        assertEquals(COLUMN_COUNT, a.length);
+        assertEquals("THREE", a[2]);
+        assertEquals(processor.toMap(rs), prepared.toMap(rs));
+        final int unprepared = metaDataCalls.get();
+
+        assertTrue(rs.next());
+        assertEquals(Arrays.asList(processor.toArray(rs)), Arrays.asList(prepared.toArray(rs)));
+        final Map<String, Object> m = prepared.toMap(rs);
+        assertEquals("SIX", m.get("THREE"));
+        assertEquals(processor.toMap(rs), m);
+        assertFalse(rs.next());
+        // on the second row only the two unprepared calls read the meta data
+        assertEquals(unprepared + 2, metaDataCalls.get());
+    }
+
+    @Test
+    void testPrepareToBean() throws SQLException {
+        final BeanProcessor beans = new BeanProcessor();
+        final ResultSet rs = getResultSet();
+        final RowProcessor prepared = new BasicRowProcessor(beans).prepare(rs);
+        final List<TestBean> results = new ArrayList<>();
+        while (rs.next()) {
+            results.add(prepared.toBean(rs, TestBean.class));
+        }
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals("4", results.get(1).getOne());
+        // the mapping plan is resolved on the first row only
+        assertEquals(1, beans.getMappingPlanCacheMisses());
+        assertEquals(0, beans.getMappingPlanCacheHits());
+    }
+
     @Test
     void testPutAllContainsKeyAndRemove() throws Exception {
         final Map<String, Object> test = new HashMap<>(3);
@@ -166,6 +228,99 @@ class BasicRowProcessorTest extends BaseTestCase {
         assertFalse(getResultSet().next());
     }
 
+    @Test
+    void testToMapList() throws SQLException {
+        final List<Map<String, Object>> rows = processor.toMapList(getResultSet());
+        assertEquals(ROW_COUNT, rows.size());
+
+        final ResultSet rs = createMockResultSet();
+        for (final Map<String, Object> row : rows) {
+            assertTrue(rs.next());
+            final Map<String, Object> expected = processor.toMap(rs);
+            assertEquals(expected, row);
+            assertEquals(expected.hashCode(), row.hashCode());
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(row.keySet()));
+        }
+        assertEquals("1", rows.get(0).get("one"));
+        assertEquals("5", rows.get(1).get("TWO"));
+        assertEquals("SIX", rows.get(1).get("Three"));
+        assertTrue(rows.get(0).containsKey("NOTINBEAN"));
+        assertFalse(rows.get(0).containsKey("missing"));
+        assertNull(rows.get(0).get("missing"));
+    }
+
+    @Test
+    void testToMapListDuplicateLabels() throws SQLException {
+        final Object[][] values = { { "1", "2", "3" } };
+        final ResultSet rs = createResultSet(new String[] { "a", "B", "A" }, values);
+        assertTrue(rs.next());
+        final Map<String, Object> expected = processor.toMap(rs);
+
+        final Map<String, Object> row = processor.toMapList(createResultSet(new String[] { "a", "B", "A" }, values))
+                .get(0);
+        assertEquals(expected, row);
+        assertEquals(Arrays.asList("B", "A"), new ArrayList<>(row.keySet()));
+        assertEquals("3", row.get("a"));
+    }
+
+    @Test
+    void testToMapListModifications() throws Exception {
+        final List<Map<String, Object>> rows = processor.toMapList(getResultSet());
+        final Map<String, Object> row = rows.get(0);
+
+        // replacing a value through an entry keeps the order
+        row.entrySet().iterator().next().setValue("uno");
+        assertEquals("uno", row.get("ONE"));
+        assertEquals("one", row.keySet().iterator().next());
+
+        // put moves the key to the end, as for toMap
+        assertEquals("2", row.put("TWO", "dos"));
+        assertEquals("dos", row.get("two"));
+        final List<String> keys = new ArrayList<>(row.keySet());
+        assertEquals("TWO", keys.get(keys.size() - 1));
+
+        assertEquals("uno", row.remove("One"));
+        assertFalse(row.containsKey("one"));
+        assertEquals(COLUMN_COUNT - 1, row.size());
+
+        // removing through the iterator of an unmodified row
+        final Map<String, Object> other = rows.get(1);
+        final Iterator<Map.Entry<String, Object>> it = other.entrySet().iterator();
+        it.next();
+        it.next();
+        it.remove();
+        assertEquals("three", it.next().getKey());
+        assertFalse(other.containsKey("two"));
+        assertEquals(COLUMN_COUNT - 1, other.size());
+
+        // rows are serialized as plain case-insensitive maps
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(rows.get(1));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> copy = (Map<String, Object>) in.readObject();
+            assertEquals(other, copy);
+            assertEquals("SIX", copy.get("THREE"));
+        }
+    }
+
+    @Test
+    void testToMapListUsesOverriddenToMap() throws SQLException {
+        final RowProcessor custom = new BasicRowProcessor() {
+            @Override
+            public Map<String, Object> toMap(final ResultSet resultSet) throws SQLException {
+                final Map<String, Object> map = super.toMap(resultSet);
+                map.put("extra", "value");
+                return map;
+            }
+        };
+        final List<Map<String, Object>> rows = custom.toMapList(getResultSet());
+        assertEquals(ROW_COUNT, rows.size());
+        assertEquals("value", rows.get(1).get("EXTRA"));
+    }
+
     @Test
     void testToMapOrdering() throws SQLException {
 
@@ -20,22 +20,67 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.beans.ConstructorProperties;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class BeanProcessorTest extends BaseTestCase {
 
+    public static final class ImmutablePerson {
+        private final String name;
+        private final int age;
+        private final Integer score;
+
+        @ConstructorProperties({ "name", "age", "score" })
+        public ImmutablePerson(final String name, final int age, final Integer score) {
+            this.name = name;
+            this.age = age;
+            this.score = score;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        @Column(name = "full_name")
+        public String getName() {
+            return name;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+    }
+
     private static final class IndexedPropertyTestClass {
         private String name;
         // Indexed variable with indexed getter and setter
@@ -174,6 +219,12 @@ class BeanProcessorTest extends BaseTestCase {
         }
     }
 
+    private static final class TestThrowingSetter {
+        public void setTestField(final String testField) {
+            throw new IllegalStateException("rejected " + testField);
+        }
+    }
+
     private static final class TestWrongSetter {
         private Integer testField;
 
@@ -192,7 +243,72 @@ class BeanProcessorTest extends BaseTestCase {
         }
     }
 
-    private static final BeanProcessor beanProc = new BeanProcessor();
+    private final BeanProcessor beanProc = createBeanProcessor();
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Creates the processor under test; subclasses run these tests against other {@code BeanProcessor} implementations.
+     *
+     * @return The processor under test.
+     */
+    BeanProcessor createBeanProcessor() {
+        return new BeanProcessor();
+    }
+
+    @Test
+    void testBeanMapper() throws Exception {
+        final ResultSet rs = getResultSet();
+        final List<TestMappedBean> beans = beanProc.toBeanList(rs, TestMappedBean.class);
+        assertEquals(2, beans.size());
+        assertEquals("1", beans.get(0).getOne());
+        assertEquals(1, beans.get(0).getIntTest());
+        assertEquals(1, beans.get(0).getMapperCalls());
+        assertEquals("4", beans.get(1).getOne());
+        assertEquals(3, beans.get(1).getIntTest());
+    }
+
+    @Test
+    void testBeanMapperNotUsedWhenProcessColumnOverridden() throws Exception {
+        final BeanProcessor processor = new BeanProcessor() {
+            @Override
+            protected Object processColumn(final ResultSet resultSet, final int index, final Class<?> propType) throws SQLException {
+                return super.processColumn(resultSet, index, propType);
+            }
+        };
+        final ResultSet rs = getResultSet();
+        assertTrue(rs.next());
+        final TestMappedBean bean = processor.toBean(rs, TestMappedBean.class);
+        assertEquals("1", bean.getOne());
+        assertEquals(1, bean.getIntTest());
+        assertEquals(0, bean.getMapperCalls());
+    }
+
+    @Test
+    void testBeanMapperNotUsedWithCustomHandlers() throws Exception {
+        final List<ColumnHandler<?>> columnHandlers = BeanProcessor.getDefaultColumnHandlers();
+        final List<PropertyHandler> propertyHandlers = new ArrayList<>(BeanProcessor.getDefaultPropertyHandlers());
+        final BeanProcessor registered = new BeanProcessor(new HashMap<>(), 10, columnHandlers, propertyHandlers);
+        assertEquals(1, registered.toBeanList(createMockResultSet(), TestMappedBean.class).get(0).getMapperCalls());
+
+        propertyHandlers.add(new PropertyHandler() {
+            @Override
+            public Object apply(final Class<?> parameter, final Object value) {
+                return value;
+            }
+
+            @Override
+            public boolean match(final Class<?> parameter, final Object value) {
+                return false;
+            }
+        });
+        final BeanProcessor custom = new BeanProcessor(new HashMap<>(), 10, columnHandlers, propertyHandlers);
+        final TestMappedBean bean = custom.toBeanList(createMockResultSet(), TestMappedBean.class).get(0);
+        assertEquals("1", bean.getOne());
+        assertEquals(1, bean.getIntTest());
+        assertEquals(0, bean.getMapperCalls());
+    }
 
     @Test
     void testCheckAnnotationOnMissingReadMethod() throws Exception {
@@ -209,6 +325,113 @@ class BeanProcessorTest extends BaseTestCase {
         assertEquals("first", testCls.testField);
     }
 
+    @Test
+    void testConstructorProperties() throws Exception {
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "full_name", "age", "unmapped", "score" });
+        final Object[][] rows = { { "Ann", Integer.valueOf(42), "x", Integer.valueOf(7) }, { "Bob", null, null, null } };
+
+        final ResultSet rs = MockResultSet.create(metaData, rows, false);
+        assertTrue(rs.next());
+        final ImmutablePerson ann = beanProc.toBean(rs, ImmutablePerson.class);
+        assertEquals("Ann", ann.getName());
+        assertEquals(42, ann.getAge());
+        assertEquals(Integer.valueOf(7), ann.getScore());
+
+        final List<ImmutablePerson> people = beanProc.toBeanList(MockResultSet.create(metaData, rows, false), ImmutablePerson.class);
+        assertEquals(2, people.size());
+        assertEquals("Ann", people.get(0).getName());
+        assertEquals("Bob", people.get(1).getName());
+        assertEquals(0, people.get(1).getAge());
+        assertNull(people.get(1).getScore());
+
+        // parameters without a column get null or the primitive default
+        final ResultSet nameOnly = createResultSet(new String[] { "full_name" }, new Object[][] { { "Cid" } });
+        assertTrue(nameOnly.next());
+        final ImmutablePerson cid = beanProc.toBean(nameOnly, ImmutablePerson.class);
+        assertEquals("Cid", cid.getName());
+        assertEquals(0, cid.getAge());
+        assertNull(cid.getScore());
+    }
+
+    @Test
+    void testConstructorPropertiesNotUsedWhenNewInstanceOverridden() throws Exception {
+        final BeanProcessor processor = new BeanProcessor() {
+            @Override
+            protected <T> T newInstance(final Class<T> c) throws SQLException {
+                return super.newInstance(c);
+            }
+        };
+        final ResultSet rs = createResultSet(new String[] { "full_name" }, new Object[][] { { "Ann" } });
+        assertTrue(rs.next());
+        assertThrows(SQLException.class, () -> processor.toBean(rs, ImmutablePerson.class));
+    }
+
+    @Test
+    void testDefaultHandlers() {
+        assertFalse(BeanProcessor.getDefaultColumnHandlers().isEmpty());
+        assertFalse(BeanProcessor.getDefaultPropertyHandlers().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> BeanProcessor.getDefaultPropertyHandlers().clear());
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeanProcessor(new HashMap<>(), 1, null, BeanProcessor.getDefaultPropertyHandlers()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeanProcessor(new HashMap<>(), 1, BeanProcessor.getDefaultColumnHandlers(), null));
+    }
+
+    @Test
+    void testInstanceColumnHandlers() throws Exception {
+        final List<ColumnHandler<?>> columnHandlers = new ArrayList<>();
+        columnHandlers.add(new ColumnHandler<String>() {
+
+            @Override
+            public String apply(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                return "handled " + resultSet.getString(columnIndex);
+            }
+
+            @Override
+            public boolean match(final Class<?> propType) {
+                return propType == String.class;
+            }
+        });
+        columnHandlers.addAll(BeanProcessor.getDefaultColumnHandlers());
+        final BeanProcessor processor = new BeanProcessor(new HashMap<>(), BeanProcessor.DEFAULT_MAPPING_PLAN_CACHE_SIZE, columnHandlers,
+                BeanProcessor.getDefaultPropertyHandlers());
+        final List<TestBean> beans = processor.toBeanList(getResultSet(), TestBean.class);
+        assertEquals("handled 1", beans.get(0).getOne());
+        assertEquals("handled 5", beans.get(1).getTwo());
+        assertEquals(TestBean.Ordinal.THREE, beans.get(0).getThree());
+        assertEquals(1, beans.get(0).getIntTest());
+
+        final ResultSet rs = createMockResultSet();
+        assertTrue(rs.next());
+        assertEquals("1", beanProc.toBean(rs, TestBean.class).getOne());
+    }
+
+    @Test
+    void testInstancePropertyHandlers() throws Exception {
+        final BeanProcessor processor = new BeanProcessor(new HashMap<>(), BeanProcessor.DEFAULT_MAPPING_PLAN_CACHE_SIZE,
+                BeanProcessor.getDefaultColumnHandlers(), new ArrayList<>());
+        final ResultSet rs = getResultSet();
+        assertTrue(rs.next());
+        // Without StringEnumPropertyHandler the "three" column cannot be set on the enum property
+        final SQLException e = assertThrows(SQLException.class, () -> processor.toBean(rs, TestBean.class));
+        assertTrue(e.getMessage().startsWith("Cannot set three: incompatible types"), e.getMessage());
+    }
+
+    @Test
+    void testGetWriteMethodOverride() throws Exception {
+        final BeanProcessor processor = new BeanProcessor() {
+            @Override
+            protected Method getWriteMethod(final Object target, final PropertyDescriptor prop, final Object value) {
+                return "one".equals(prop.getName()) ? null : super.getWriteMethod(target, prop, value);
+            }
+        };
+        final ResultSet rs = getResultSet();
+        assertTrue(rs.next());
+        final TestBean b = processor.toBean(rs, TestBean.class);
+        assertNull(b.getOne());
+        assertEquals("2", b.getTwo());
+    }
+
     /**
      * Based on the report in DBUTILS-150. This test validates that indexed property descriptors are not used, and indexed getter/setter methods are not
      * inspected.
@@ -277,6 +500,85 @@ class BeanProcessorTest extends BaseTestCase {
         }
     }
 
+    @Test
+    void testMappingPlanCacheBounded() throws Exception {
+        final BeanProcessor processor = new BeanProcessor(new HashMap<>(), 1);
+        final ResultSet rs1 = createResultSet(new String[] { "one" }, new Object[][] { { "1" } });
+        final ResultSet rs2 = createResultSet(new String[] { "two" }, new Object[][] { { "2" } });
+        assertTrue(rs1.next());
+        assertTrue(rs2.next());
+        assertEquals("1", processor.toBean(rs1, MapColumnToPropertiesBean.class).getOne());
+        assertEquals("2", processor.toBean(rs2, MapColumnToPropertiesBean.class).getTwo());
+        // the plan for rs1 was evicted to make room for rs2
+        assertEquals("1", processor.toBean(rs1, MapColumnToPropertiesBean.class).getOne());
+        assertEquals(0, processor.getMappingPlanCacheHits());
+        assertEquals(3, processor.getMappingPlanCacheMisses());
+        assertEquals("1", processor.toBean(rs1, MapColumnToPropertiesBean.class).getOne());
+        assertEquals(1, processor.getMappingPlanCacheHits());
+    }
+
+    @Test
+    void testMappingPlanCacheDisabled() throws Exception {
+        final BeanProcessor processor = new BeanProcessor(new HashMap<>(), 0);
+        final ResultSet rs = getResultSet();
+        assertTrue(rs.next());
+        processor.toBean(rs, TestBean.class);
+        processor.toBean(rs, TestBean.class);
+        assertEquals(0, processor.getMappingPlanCacheHits());
+        assertEquals(2, processor.getMappingPlanCacheMisses());
+    }
+
+    @Test
+    void testMappingPlanCacheHits() throws Exception {
+        final BeanProcessor processor = new BeanProcessor();
+        final ResultSet rs = getResultSet();
+        assertTrue(rs.next());
+        processor.toBean(rs, TestBean.class);
+        assertEquals(0, processor.getMappingPlanCacheHits());
+        assertEquals(1, processor.getMappingPlanCacheMisses());
+
+        assertTrue(rs.next());
+        final TestBean b = processor.toBean(rs, TestBean.class);
+        assertEquals("4", b.getOne());
+        assertEquals(TestBean.Ordinal.SIX, b.getThree());
+        assertEquals(1, processor.getMappingPlanCacheHits());
+        assertEquals(1, processor.getMappingPlanCacheMisses());
+
+        // a different bean class for the same shape needs its own plan
+        processor.toBean(rs, MapColumnToPropertiesBean.class);
+        assertEquals(1, processor.getMappingPlanCacheHits());
+        assertEquals(2, processor.getMappingPlanCacheMisses());
+
+        processor.toBeanList(createMockResultSet(), TestBean.class);
+        assertEquals(2, processor.getMappingPlanCacheHits());
+        assertEquals(2, processor.getMappingPlanCacheMisses());
+    }
+
+    @Test
+    void testMappingPlanCacheNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BeanProcessor(new HashMap<>(), -1));
+    }
+
+    @Test
+    void testPrimitiveCompatibility() throws Exception {
+        final BeanProcessor processor = new BeanProcessor() {
+            @Override
+            protected Object processColumn(final ResultSet resultSet, final int index, final Class<?> propType) throws SQLException {
+                return resultSet.getObject(index);
+            }
+        };
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "intTest", "columnProcessorDoubleTest" });
+        final ResultSet rs = MockResultSet.create(metaData, new Object[][] { { Integer.valueOf(4), Double.valueOf(2.5) }, { Long.valueOf(5), null } },
+                false);
+        assertTrue(rs.next());
+        final TestBean b = processor.toBean(rs, TestBean.class);
+        assertEquals(4, b.getIntTest());
+        assertEquals(2.5, b.getColumnProcessorDoubleTest(), 0);
+        assertTrue(rs.next());
+        final SQLException e = assertThrows(SQLException.class, () -> processor.toBean(rs, TestBean.class));
+        assertEquals("Cannot set intTest: incompatible types, cannot convert java.lang.Long to int", e.getMessage());
+    }
+
     @Test
     void testProcessWithPopulateBean() throws SQLException {
         TestBean b = new TestBean();
@@ -310,6 +612,79 @@ class BeanProcessorTest extends BaseTestCase {
         assertFalse(rs.next());
     }
 
+    @Test
+    void testRecord() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(Runtime.version().feature() >= 16 && compiler != null, "Records need Java 16 and a system Java compiler");
+        final String source = String.join("\n",
+                "package sample;",
+                "import org.apache.commons.dbutils.Column;",
+                "public record Point(@Column(name = \"x_pos\") int x, Integer y, String label) {}");
+        final Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Files.write(sources.resolve("Point.java"), source.getBytes(StandardCharsets.UTF_8));
+        final String classPath = Paths.get(Column.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        assertEquals(0, compiler.run(null, null, null, "-classpath", classPath, "-d", tempDir.resolve("classes").toString(),
+                sources.resolve("Point.java").toString()));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { tempDir.resolve("classes").toUri().toURL() }, getClass().getClassLoader())) {
+            final Class<?> type = loader.loadClass("sample.Point");
+            final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "LABEL", "x_pos", "y" });
+            final Object[][] rows = { { "origin", Integer.valueOf(0), Integer.valueOf(0) }, { "a", Integer.valueOf(3), null } };
+            final List<?> points = beanProc.toBeanList(MockResultSet.create(metaData, rows, false), type);
+            assertEquals(2, points.size());
+            final Object a = points.get(1);
+            assertEquals("a", type.getMethod("label").invoke(a));
+            assertEquals(Integer.valueOf(3), type.getMethod("x").invoke(a));
+            assertNull(type.getMethod("y").invoke(a));
+        }
+    }
+
+    @Test
+    void testThrowingSetter() throws Exception {
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "testField" });
+        final ResultSet rs = MockResultSet.create(metaData, new Object[][] { { "first" } }, false);
+        assertTrue(rs.next());
+        final SQLException e = assertThrows(SQLException.class, () -> beanProc.populateBean(rs, new TestThrowingSetter()));
+        assertEquals("Cannot set testField: rejected first", e.getMessage());
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testTypedPrimitiveReads() throws Exception {
+        final ResultSet rs = getResultSet();
+        final Set<Integer> getObjectColumns = new HashSet<>();
+        final ResultSet counting = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getObject")) {
+                        getObjectColumns.add((Integer) args[0]);
+                    }
+                    try {
+                        return method.invoke(rs, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        assertTrue(counting.next());
+        final TestBean b = beanProc.toBean(counting, TestBean.class);
+        assertEquals(1, b.getIntTest());
+        assertEquals(Integer.valueOf(2), b.getIntegerTest());
+        assertEquals(0, b.getNullPrimitiveTest());
+        // intTest, integerTest and nullPrimitiveTest are read with getInt only
+        assertFalse(getObjectColumns.contains(5));
+        assertFalse(getObjectColumns.contains(6));
+        assertFalse(getObjectColumns.contains(8));
+    }
+
+    @Test
+    void testTypedWrapperReadNull() throws Exception {
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "integerTest", "intTest" });
+        final ResultSet rs = MockResultSet.create(metaData, new Object[][] { { null, null } }, false);
+        assertTrue(rs.next());
+        final TestBean b = beanProc.toBean(rs, TestBean.class);
+        assertNull(b.getIntegerTest());
+        assertEquals(0, b.getIntTest());
+    }
+
     @Test
     void testWrongSetterParamCount() throws Exception {
         final String[] colNames = { "testField" };
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class CaseInsensitiveHashMapTest {
+
+    private static CaseInsensitiveHashMap<Object> create(final String... keys) {
+        final CaseInsensitiveHashMap<Object> map = new CaseInsensitiveHashMap<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], Integer.valueOf(i));
+        }
+        return map;
+    }
+
+    @Test
+    void testCaseInsensitiveLookups() {
+        final CaseInsensitiveHashMap<Object> map = create("ID", "firstName", "\u00c9t\u00e9");
+        assertEquals(Integer.valueOf(0), map.get("id"));
+        assertEquals(Integer.valueOf(1), map.get("FIRSTNAME"));
+        assertEquals(Integer.valueOf(2), map.get("\u00e9T\u00c9"));
+        assertEquals(Integer.valueOf(1), map.get(new StringBuilder("FirstName")));
+        assertTrue(map.containsKey("Id"));
+        assertFalse(map.containsKey("ids"));
+        assertNull(map.get("first_name"));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+
+    @Test
+    void testEqualsAndSerialization() throws Exception {
+        final CaseInsensitiveHashMap<Object> map = create("one", "Two", "THREE");
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("one", 0);
+        expected.put("Two", 1);
+        expected.put("THREE", 2);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> copy = (Map<String, Object>) in.readObject();
+            assertEquals(map, copy);
+            assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(copy.keySet()));
+            assertEquals(Integer.valueOf(1), copy.get("two"));
+        }
+    }
+
+    @Test
+    void testDeserializationSize() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(create("one", "Two", "THREE"));
+        }
+        final byte[] serialized = bytes.toByteArray();
+        // the size, written as a 4-byte block after the class description
+        final byte[] size = { 0x77, 4, 0, 0, 0, 3 };
+        int at = -1;
+        for (int i = 0; at < 0 && i <= serialized.length - size.length; i++) {
+            if (Arrays.equals(size, 0, size.length, serialized, i, i + size.length)) {
+                at = i + 2;
+            }
+        }
+        assertTrue(at > 0);
+        serialized[at] = (byte) 0xff;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            assertThrows(InvalidObjectException.class, in::readObject);
+        }
+        // a size larger than the entries that follow is not allocated up front
+        serialized[at] = 0x7f;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            assertThrows(IOException.class, in::readObject);
+        }
+    }
+
+    @Test
+    void testIterationOrderAndGrowth() {
+        final String[] keys = new String[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "Column" + (keys.length - i);
+        }
+        final CaseInsensitiveHashMap<Object> map = new CaseInsensitiveHashMap<>(0);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], Integer.valueOf(i));
+        }
+        assertEquals(keys.length, map.size());
+        assertEquals(Arrays.asList(keys), new ArrayList<>(map.keySet()));
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(Integer.valueOf(i), map.get(keys[i].toUpperCase(Locale.ROOT)));
+        }
+    }
+
+    @Test
+    void testIteratorRemove() {
+        final CaseInsensitiveHashMap<Object> map = create("a", "b", "c");
+        final Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        it.next();
+        it.next();
+        it.remove();
+        assertEquals("c", it.next().getKey());
+        assertFalse(it.hasNext());
+        assertEquals(Arrays.asList("a", "c"), new ArrayList<>(map.keySet()));
+        assertFalse(map.containsKey("B"));
+
+        final Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        map.put("d", "value");
+        assertThrows(ConcurrentModificationException.class, keys::next);
+    }
+
+    @Test
+    void testPutExistingKey() {
+        final CaseInsensitiveHashMap<Object> map = create("a", "B", "c");
+        assertEquals(Integer.valueOf(1), map.put("b", "new"));
+        assertEquals(3, map.size());
+        // the given key replaces the stored one and moves to the end, as in toMap for duplicate labels
+        assertEquals(Arrays.asList("a", "c", "b"), new ArrayList<>(map.keySet()));
+        assertEquals("new", map.get("B"));
+    }
+
+    @Test
+    void testRemoveAndClear() {
+        final CaseInsensitiveHashMap<Object> map = create("a", "B", "c");
+        assertEquals(Integer.valueOf(1), map.remove("b"));
+        assertNull(map.remove("b"));
+        assertEquals(2, map.size());
+        assertEquals(Arrays.asList("a", "c"), new ArrayList<>(map.keySet()));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        map.put("A", "again");
+        assertEquals("again", map.get("a"));
+    }
+
+    @Test
+    void testReplaceKeepsOrder() {
+        final CaseInsensitiveHashMap<Object> map = create("a", "B", "c");
+        assertEquals(Integer.valueOf(1), map.replace("b", "x"));
+        assertTrue(map.replace("A", 0, "y"));
+        assertFalse(map.replace("A", 0, "z"));
+        map.entrySet().iterator().next().setValue("first");
+        assertEquals(Arrays.asList("a", "B", "c"), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList("first", "x", 2), new ArrayList<>(map.values()));
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the {@link BeanProcessorTest} tests against {@link CompiledBeanProcessor} and checks that generated mappers
+ * produce the same beans as the reflective path.
+ */
+class CompiledBeanProcessorTest extends BeanProcessorTest {
+
+    /**
+     * Records the order of its setter calls, and fails to set {@code b} to a negative value.
+     */
+    public static class OrderBean {
+        private final List<String> calls = new ArrayList<>();
+
+        public void setA(final int a) {
+            calls.add("a");
+        }
+
+        public void setB(final long b) {
+            calls.add("b");
+            if (b < 0) {
+                throw new IllegalArgumentException("negative b");
+            }
+        }
+
+        public void setObject(final Object object) {
+            calls.add("object");
+        }
+
+        public void setS(final String s) {
+            calls.add("s");
+        }
+    }
+
+    public static class TypesBean {
+        private boolean primitiveBoolean;
+        private byte primitiveByte;
+        private short primitiveShort;
+        private int primitiveInt;
+        private long primitiveLong;
+        private float primitiveFloat;
+        private double primitiveDouble;
+        private Boolean wrapperBoolean;
+        private Byte wrapperByte;
+        private Short wrapperShort;
+        private Integer wrapperInt;
+        private Long wrapperLong;
+        private Float wrapperFloat;
+        private Double wrapperDouble;
+        private String string;
+        private Object object;
+
+        List<Object> describe() {
+            return Arrays.asList(primitiveBoolean, primitiveByte, primitiveShort, primitiveInt, primitiveLong, primitiveFloat, primitiveDouble,
+                    wrapperBoolean, wrapperByte, wrapperShort, wrapperInt, wrapperLong, wrapperFloat, wrapperDouble, string, object);
+        }
+
+        public Object getObject() {
+            return object;
+        }
+
+        public boolean getPrimitiveBoolean() {
+            return primitiveBoolean;
+        }
+
+        public byte getPrimitiveByte() {
+            return primitiveByte;
+        }
+
+        public double getPrimitiveDouble() {
+            return primitiveDouble;
+        }
+
+        public float getPrimitiveFloat() {
+            return primitiveFloat;
+        }
+
+        public int getPrimitiveInt() {
+            return primitiveInt;
+        }
+
+        public long getPrimitiveLong() {
+            return primitiveLong;
+        }
+
+        public short getPrimitiveShort() {
+            return primitiveShort;
+        }
+
+        public String getString() {
+            return string;
+        }
+
+        public Boolean getWrapperBoolean() {
+            return wrapperBoolean;
+        }
+
+        public Byte getWrapperByte() {
+            return wrapperByte;
+        }
+
+        public Double getWrapperDouble() {
+            return wrapperDouble;
+        }
+
+        public Float getWrapperFloat() {
+            return wrapperFloat;
+        }
+
+        public Integer getWrapperInt() {
+            return wrapperInt;
+        }
+
+        public Long getWrapperLong() {
+            return wrapperLong;
+        }
+
+        public Short getWrapperShort() {
+            return wrapperShort;
+        }
+
+        public void setObject(final Object object) {
+            this.object = object;
+        }
+
+        public void setPrimitiveBoolean(final boolean primitiveBoolean) {
+            this.primitiveBoolean = primitiveBoolean;
+        }
+
+        public void setPrimitiveByte(final byte primitiveByte) {
+            this.primitiveByte = primitiveByte;
+        }
+
+        public void setPrimitiveDouble(final double primitiveDouble) {
+            this.primitiveDouble = primitiveDouble;
+        }
+
+        public void setPrimitiveFloat(final float primitiveFloat) {
+            this.primitiveFloat = primitiveFloat;
+        }
+
+        public void setPrimitiveInt(final int primitiveInt) {
+            this.primitiveInt = primitiveInt;
+        }
+
+        public void setPrimitiveLong(final long primitiveLong) {
+            this.primitiveLong = primitiveLong;
+        }
+
+        public void setPrimitiveShort(final short primitiveShort) {
+            this.primitiveShort = primitiveShort;
+        }
+
+        public void setString(final String string) {
+            this.string = string;
+        }
+
+        public void setWrapperBoolean(final Boolean wrapperBoolean) {
+            this.wrapperBoolean = wrapperBoolean;
+        }
+
+        public void setWrapperByte(final Byte wrapperByte) {
+            this.wrapperByte = wrapperByte;
+        }
+
+        public void setWrapperDouble(final Double wrapperDouble) {
+            this.wrapperDouble = wrapperDouble;
+        }
+
+        public void setWrapperFloat(final Float wrapperFloat) {
+            this.wrapperFloat = wrapperFloat;
+        }
+
+        public void setWrapperInt(final Integer wrapperInt) {
+            this.wrapperInt = wrapperInt;
+        }
+
+        public void setWrapperLong(final Long wrapperLong) {
+            this.wrapperLong = wrapperLong;
+        }
+
+        public void setWrapperShort(final Short wrapperShort) {
+            this.wrapperShort = wrapperShort;
+        }
+    }
+
+    private static final String[] TYPES_COLUMNS = { "primitiveBoolean", "primitiveByte", "primitiveShort", "primitiveInt", "primitiveLong",
+            "primitiveFloat", "primitiveDouble", "wrapperBoolean", "wrapperByte", "wrapperShort", "wrapperInt", "wrapperLong", "wrapperFloat",
+            "wrapperDouble", "string", "object", "unmapped" };
+
+    private static final Object[][] TYPES_ROWS = {
+            { "true", "1", "2", "3", "4", "5.5", "6.25", "true", "7", "8", "9", "10", "11.5", "12.25", "thirteen", "fourteen", "fifteen" },
+            { null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null },
+            { Boolean.FALSE, Byte.valueOf((byte) -1), Short.valueOf((short) -2), Integer.valueOf(Integer.MIN_VALUE), Long.valueOf(Long.MAX_VALUE),
+                    Float.valueOf(-5f), Double.valueOf(-6d), Boolean.FALSE, Byte.valueOf(Byte.MAX_VALUE), Short.valueOf(Short.MIN_VALUE),
+                    Integer.valueOf(Integer.MAX_VALUE), Long.valueOf(Long.MIN_VALUE), Float.valueOf(Float.MAX_VALUE), Double.valueOf(Double.MIN_VALUE),
+                    "", Integer.valueOf(16), null } };
+
+    @Override
+    BeanProcessor createBeanProcessor() {
+        return new CompiledBeanProcessor();
+    }
+
+    private boolean isCompiled(final CompiledBeanProcessor processor, final ResultSetMetaData rsmd, final Class<?> type) throws SQLException {
+        return processor.mapper(processor.mappingPlan(rsmd, type)).isCompiled();
+    }
+
+    @Test
+    void testCompiledMatchesReflective() throws Exception {
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor();
+        final List<TypesBean> expected = new BeanProcessor().toBeanList(createResultSet(TYPES_COLUMNS, TYPES_ROWS), TypesBean.class);
+        final List<TypesBean> actual = processor.toBeanList(createResultSet(TYPES_COLUMNS, TYPES_ROWS), TypesBean.class);
+        assertEquals(TYPES_ROWS.length, actual.size());
+        for (int i = 0; i < TYPES_ROWS.length; i++) {
+            assertEquals(expected.get(i).describe(), actual.get(i).describe());
+        }
+        assertTrue(isCompiled(processor, MockResultSetMetaData.create(TYPES_COLUMNS), TypesBean.class));
+    }
+
+    @Test
+    void testColumnOrder() throws Exception {
+        final String[] columns = { "a", "object", "b", "s" };
+        final Object[][] rows = { { "1", "x", "2", "y" } };
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor();
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(columns);
+        final List<OrderBean> expected = new BeanProcessor().toBeanList(MockResultSet.create(metaData, rows, false), OrderBean.class);
+        final List<OrderBean> actual = processor.toBeanList(MockResultSet.create(metaData, rows, false), OrderBean.class);
+        assertEquals(Arrays.asList("a", "object", "b", "s"), expected.get(0).calls);
+        assertEquals(expected.get(0).calls, actual.get(0).calls);
+        assertTrue(isCompiled(processor, MockResultSetMetaData.create(columns), OrderBean.class));
+    }
+
+    @Test
+    void testCompiledSetterFailure() throws Exception {
+        final String[] columns = { "a", "b", "s" };
+        final ResultSet rs = createResultSet(columns, new Object[][] { { "1", "-2", "y" } });
+        assertTrue(rs.next());
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor();
+        final OrderBean bean = new OrderBean();
+        final SQLException e = assertThrows(SQLException.class, () -> processor.populateBean(rs, bean));
+        assertEquals("Cannot set b: negative b", e.getMessage());
+        assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+        // each setter was called once, up to the failing one
+        assertEquals(Arrays.asList("a", "b"), bean.calls);
+        assertTrue(isCompiled(processor, MockResultSetMetaData.create(columns), OrderBean.class));
+    }
+
+    @Test
+    void testCompiledTestBean() throws Exception {
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor();
+        final ResultSet rs = getResultSet();
+        assertTrue(rs.next());
+        final TestBean b = processor.toBean(rs, TestBean.class);
+        assertEquals("1", b.getOne());
+        assertEquals("2", b.getTwo());
+        assertEquals(TestBean.Ordinal.THREE, b.getThree());
+        assertEquals(1, b.getIntTest());
+        assertEquals(Integer.valueOf(2), b.getIntegerTest());
+        assertEquals(null, b.getNullObjectTest());
+        assertEquals(0, b.getNullPrimitiveTest());
+        assertEquals("not set", b.getDoNotSet());
+        assertEquals(13.0, b.getColumnProcessorDoubleTest(), 0);
+        assertTrue(isCompiled(processor, META_DATA, TestBean.class));
+    }
+
+    @Test
+    void testFallbackWhenProcessColumnOverridden() throws Exception {
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor() {
+            @Override
+            protected Object processColumn(final ResultSet resultSet, final int index, final Class<?> propType) throws SQLException {
+                final Object value = super.processColumn(resultSet, index, propType);
+                return value instanceof String ? ((String) value).toUpperCase() : value;
+            }
+        };
+        final List<TypesBean> beans = processor.toBeanList(createResultSet(TYPES_COLUMNS, TYPES_ROWS), TypesBean.class);
+        assertEquals("THIRTEEN", beans.get(0).getString());
+        assertFalse(isCompiled(processor, MockResultSetMetaData.create(TYPES_COLUMNS), TypesBean.class));
+    }
+
+    @Test
+    void testFallbackWithoutCompilableColumns() throws Exception {
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor();
+        final String[] columns = { "object" };
+        final ResultSet rs = createResultSet(columns, new Object[][] { { "value" } });
+        final List<TypesBean> beans = processor.toBeanList(rs, TypesBean.class);
+        assertEquals("value", beans.get(0).getObject());
+        assertFalse(isCompiled(processor, MockResultSetMetaData.create(columns), TypesBean.class));
+    }
+
+    @Test
+    void testMapperSharedAcrossPlans() throws Exception {
+        final String[] columns = { "a", "b", "s" };
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor(new HashMap<>(), 1, BeanProcessor.getDefaultColumnHandlers(),
+                BeanProcessor.getDefaultPropertyHandlers());
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(columns);
+        final MappingPlan plan = processor.mappingPlan(metaData, OrderBean.class);
+        assertTrue(processor.mapper(plan).isCompiled());
+        // evicts the first plan
+        processor.mappingPlan(MockResultSetMetaData.create(new String[] { "a" }), OrderBean.class);
+        final MappingPlan rebuilt = processor.mappingPlan(metaData, OrderBean.class);
+        assertNotSame(plan, rebuilt);
+        assertSame(processor.mapper(plan).getPopulate(), processor.mapper(rebuilt).getPopulate());
+        assertSame(processor.mapper(plan).getPopulate(), new CompiledBeanProcessor().mapper(new CompiledBeanProcessor().mappingPlan(metaData,
+                OrderBean.class)).getPopulate());
+    }
+
+    @Test
+    void testNoMapperWithoutPlanCache() throws Exception {
+        final CompiledBeanProcessor processor = new CompiledBeanProcessor(new HashMap<>(), 0, BeanProcessor.getDefaultColumnHandlers(),
+                BeanProcessor.getDefaultPropertyHandlers());
+        final List<TypesBean> expected = new BeanProcessor().toBeanList(createResultSet(TYPES_COLUMNS, TYPES_ROWS), TypesBean.class);
+        final List<TypesBean> actual = processor.toBeanList(createResultSet(TYPES_COLUMNS, TYPES_ROWS), TypesBean.class);
+        for (int i = 0; i < TYPES_ROWS.length; i++) {
+            assertEquals(expected.get(i).describe(), actual.get(i).describe());
+        }
+        assertFalse(isCompiled(processor, MockResultSetMetaData.create(TYPES_COLUMNS), TypesBean.class));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FieldBeanProcessorTest {
+
+    public static class BaseFieldBean {
+        protected long id;
+        String label = "base";
+    }
+
+    public static class FieldBean extends BaseFieldBean {
+        static int counter;
+        public String name;
+        int age;
+        private Integer score;
+        @Column(name = "is_active")
+        private boolean active;
+        String label;
+        final String constant = "constant";
+    }
+
+    public static class WrongTypeBean {
+        int count;
+    }
+
+    private static final String[] COLUMNS = { "id", "NAME", "age", "score", "is_active", "label", "counter", "constant", "unmapped" };
+
+    private static final Object[][] ROWS = {
+            { Long.valueOf(1L), "Ann", Integer.valueOf(42), Integer.valueOf(7), Boolean.TRUE, "first", Integer.valueOf(9), "x", "y" },
+            { Long.valueOf(2L), null, null, null, null, null, null, null, null } };
+
+    private final FieldBeanProcessor processor = new FieldBeanProcessor();
+
+    @Test
+    void testColumnToFieldOverrides() throws Exception {
+        final FieldBeanProcessor overriding = new FieldBeanProcessor(Collections.singletonMap("full_name", "name"));
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "full_name" });
+        final ResultSet rs = MockResultSet.create(metaData, new Object[][] { { "Ann" } }, false);
+        assertTrue(rs.next());
+        assertEquals("Ann", overriding.toBean(rs, FieldBean.class).name);
+    }
+
+    @Test
+    void testIncompatibleType() throws Exception {
+        final ResultSetMetaData metaData = MockResultSetMetaData.create(new String[] { "count" });
+        final ResultSet rs = MockResultSet.create(metaData, new Object[][] { { new Object() } }, false);
+        assertTrue(rs.next());
+        assertThrows(SQLException.class, () -> processor.toBean(rs, WrongTypeBean.class));
+    }
+
+    @Test
+    void testOverriddenWriteMethod() throws Exception {
+        final FieldBeanProcessor overriding = new FieldBeanProcessor() {
+            @Override
+            protected Method getWriteMethod(final Object target, final PropertyDescriptor prop, final Object value) {
+                return super.getWriteMethod(target, prop, value);
+            }
+        };
+        final ResultSet rs = BaseTestCase.createResultSet(COLUMNS, ROWS);
+        assertTrue(rs.next());
+        // fields have no write method to pick, so they are still written
+        final FieldBean bean = overriding.toBean(rs, FieldBean.class);
+        assertEquals(1L, bean.id);
+        assertEquals("Ann", bean.name);
+        assertEquals(Integer.valueOf(7), bean.score);
+    }
+
+    @Test
+    void testPopulateBean() throws Exception {
+        final ResultSet rs = BaseTestCase.createResultSet(COLUMNS, ROWS);
+        assertTrue(rs.next());
+        final FieldBean bean = new FieldBean();
+        assertSame(bean, processor.populateBean(rs, bean));
+        assertEquals("Ann", bean.name);
+        assertEquals(42, bean.age);
+    }
+
+    @Test
+    void testToBean() throws Exception {
+        final ResultSet rs = BaseTestCase.createResultSet(COLUMNS, ROWS);
+        assertTrue(rs.next());
+        final FieldBean bean = processor.toBean(rs, FieldBean.class);
+        assertEquals(1L, bean.id);
+        assertEquals("Ann", bean.name);
+        assertEquals(42, bean.age);
+        assertEquals(Integer.valueOf(7), bean.score);
+        assertTrue(bean.active);
+        // the subclass field wins over the shadowed superclass field
+        assertEquals("first", bean.label);
+        assertEquals("base", ((BaseFieldBean) bean).label);
+        // static and final fields are not mapped
+        assertEquals(0, FieldBean.counter);
+        assertEquals("constant", bean.constant);
+    }
+
+    @Test
+    void testToBeanList() throws Exception {
+        final List<FieldBean> beans = processor.toBeanList(BaseTestCase.createResultSet(COLUMNS, ROWS), FieldBean.class);
+        assertEquals(2, beans.size());
+        assertEquals("Ann", beans.get(0).name);
+        final FieldBean nulls = beans.get(1);
+        assertEquals(2L, nulls.id);
+        assertNull(nulls.name);
+        assertEquals(0, nulls.age);
+        assertNull(nulls.score);
+        assertEquals(false, nulls.active);
+        assertEquals(1, processor.getMappingPlanCacheMisses());
+    }
+}
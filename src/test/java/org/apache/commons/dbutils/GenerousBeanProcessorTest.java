@@ -92,6 +92,19 @@ class GenerousBeanProcessorTest {
         assertEquals(-1, ret[1]);
     }
 
+    @SuppressWarnings("boxing") // test code
+    @Test
+    void testMapColumnsToPropertiesFirstPropertyWins() throws Exception {
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("A_b");
+
+        final PropertyDescriptor generous = new PropertyDescriptor("ab", TestBean.class, "getOne", "setOne");
+        final PropertyDescriptor exact = new PropertyDescriptor("a_b", TestBean.class, "getTwo", "setTwo");
+
+        assertEquals(0, processor.mapColumnsToProperties(metaData, new PropertyDescriptor[] { generous, exact })[1]);
+        assertEquals(0, processor.mapColumnsToProperties(metaData, new PropertyDescriptor[] { exact, generous })[1]);
+    }
+
     @SuppressWarnings("boxing") // test code
     @Test
     void testMapColumnsToPropertiesMixedCase() throws Exception {
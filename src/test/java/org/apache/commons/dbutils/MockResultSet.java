@@ -115,6 +115,21 @@ public class MockResultSet implements InvocationHandler {
         throw new SQLException(columnName + " is not a valid column name.");
     }
 
+    /**
+     * Returns the column index for the given column name, whether or not there is a current row.
+     *
+     * @return A 1 based index
+     * @throws SQLException Thrown if the column name is invalid
+     */
+    private int findColumn(final String columnName) throws SQLException {
+        for (int c = 1; c <= this.metaData.getColumnCount(); c++) {
+            if (columnName.equalsIgnoreCase(this.metaData.getColumnName(c))) {
+                return c;
+            }
+        }
+        throw new SQLException(columnName + " is not a valid column name.");
+    }
+
     /**
      * Gets the boolean value at the given column index.
      *
@@ -316,6 +331,8 @@ public class MockResultSet implements InvocationHandler {
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
         final String methodName = method.getName();
         switch (methodName) {
+        case "findColumn":
+            return Integer.valueOf(findColumn((String) args[0]));
         case "getMetaData":
             return getMetaData();
         case "next":
@@ -19,6 +19,7 @@ package org.apache.commons.dbutils;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.sql.ResultSetMetaData;
+import java.sql.Types;
 
 /**
  * MockResultSetMetaData dynamically implements the ResultSetMetaData interface.
@@ -66,6 +67,8 @@ public class MockResultSetMetaData implements InvocationHandler {
         case "getColumnLabel":
             final int col2 = ((Integer) args[0]).intValue() - 1;
             return this.columnLabels[col2];
+        case "getColumnType":
+            return Integer.valueOf(Types.OTHER);
         case "hashCode":
             return Integer.valueOf(System.identityHashCode(proxy));
         case "toString":
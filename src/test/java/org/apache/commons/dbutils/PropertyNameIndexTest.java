@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyNameIndexTest {
+
+    @Test
+    void testFirstNameWins() {
+        final PropertyNameIndex index = new PropertyNameIndex(new String[] { "name", null, "NAME", "other" });
+        assertEquals(0, index.indexOf("Name"));
+        assertEquals(3, index.indexOf("OTHER"));
+        assertEquals(BeanProcessor.PROPERTY_NOT_FOUND, index.indexOf("missing"));
+    }
+
+    @Test
+    void testMatchesEqualsIgnoreCase() {
+        // Characters whose upper and lower case mappings are not symmetric
+        final String[] names = { "i", "I", "\u0130", "\u0131", "\u017f", "s", "S", "\u00df", "k", "\u212a", "\u03a3", "\u03c2", "\u03c3", "\u00b5",
+                "\u039c", "\u01c5", "\u01c4", "\u01c6" };
+        for (final String a : names) {
+            final PropertyNameIndex index = new PropertyNameIndex(new String[] { a });
+            for (final String b : names) {
+                assertEquals(a.equalsIgnoreCase(b), index.indexOf(b) == 0, a + " vs " + b);
+            }
+        }
+    }
+}
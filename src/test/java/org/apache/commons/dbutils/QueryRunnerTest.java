@@ -17,6 +17,7 @@
 package org.apache.commons.dbutils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,7 +39,10 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -710,6 +714,28 @@ class QueryRunnerTest {
         callExecuteWithResultSetWithException(handler, "unit", "test");
     }
 
+    @Test
+    void testForEachRow() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+
+        final List<Object> threes = new ArrayList<>();
+        assertEquals(1, runner.forEachRow("select * from blah where ? = 1", rs -> {
+            threes.add(rs.getObject("three"));
+            return false;
+        }, "unit"));
+        assertEquals(Arrays.asList("THREE"), threes);
+        verify(prepStmt, times(1)).close();
+        verify(conn, times(1)).close();
+
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+        final List<String> ones = new ArrayList<>();
+        assertEquals(2, runner.forEachRow(conn, "select * from blah where ? = 1", TestBean.class, bean -> ones.add(bean.getOne()), "unit"));
+        assertEquals(Arrays.asList("1", "4"), ones);
+        verify(prepStmt, times(2)).close();
+        verify(conn, times(1)).close();
+    }
+
     @Test
     void testFillStatementWithBean() throws Exception {
         final MyBean bean = new MyBean();
@@ -1020,6 +1046,108 @@ class QueryRunnerTest {
         verify(prepStmt).setQueryTimeout(eq(5));
     }
 
+    @Test
+    void testStream() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+
+        final List<String> ones = new ArrayList<>();
+        try (Stream<TestBean> beans = runner.stream("select * from blah where ? = 1", TestBean.class, "unit")) {
+            beans.forEach(bean -> ones.add(bean.getOne()));
+            // exhausting the stream releases the statement and the connection
+            verify(prepStmt, times(1)).close();
+            verify(conn, times(1)).close();
+        }
+        assertEquals(Arrays.asList("1", "4"), ones);
+        verify(prepStmt).setObject(1, "unit");
+        verify(prepStmt, times(1)).close();
+        verify(conn, times(1)).close();
+    }
+
+    @Test
+    void testStreamClosedEarly() throws Exception {
+        when(meta.getParameterCount()).thenReturn(0);
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+
+        try (Stream<TestBean> beans = runner.stream(conn, "select * from blah", new BasicRowProcessor(), TestBean.class)) {
+            assertEquals("1", beans.findFirst().get().getOne());
+            verify(prepStmt, never()).close();
+        }
+        verify(prepStmt, times(1)).close();
+        // the caller's connection stays open
+        verify(conn, never()).close();
+    }
+
+    @Test
+    void testStreamQueryException() throws Exception {
+        when(meta.getParameterCount()).thenReturn(0);
+        when(prepStmt.executeQuery()).thenThrow(new SQLException("broken"));
+
+        assertThrows(SQLException.class, () -> runner.stream("select * from blah", TestBean.class));
+        verify(prepStmt, times(1)).close();
+        verify(conn, times(1)).close();
+        assertThrows(SQLException.class, () -> runner.stream(conn, null, TestBean.class));
+    }
+
+    @Test
+    void testStreamRowMapper() throws Exception {
+        when(meta.getParameterCount()).thenReturn(0);
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+
+        try (Stream<String> threes = runner.stream(conn, "select * from blah", rs -> rs.getString("three"))) {
+            assertEquals(Arrays.asList("THREE", "SIX"), threes.collect(Collectors.toList()));
+        }
+        verify(prepStmt, times(1)).close();
+        verify(conn, never()).close();
+
+        assertThrows(SQLException.class, () -> runner.stream("select * from blah", (RowMapper<String>) null));
+        verify(conn, times(1)).close();
+    }
+
+    @Test
+    void testStreamRowException() throws Exception {
+        when(meta.getParameterCount()).thenReturn(0);
+        final SQLException cause = new SQLException("broken");
+        when(results.next()).thenThrow(cause);
+
+        try (Stream<TestBean> beans = runner.stream("select * from blah", TestBean.class)) {
+            final IllegalStateException e = assertThrows(IllegalStateException.class, beans::count);
+            assertSame(cause, e.getCause());
+        }
+        verify(results, times(1)).close();
+        verify(prepStmt, times(1)).close();
+        verify(conn, times(1)).close();
+    }
+
+    @Test
+    void testStreamRowMapperException() throws Exception {
+        when(meta.getParameterCount()).thenReturn(0);
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+
+        try (Stream<String> rows = runner.stream("select * from blah", rs -> {
+            throw new IllegalArgumentException("unmapped");
+        })) {
+            assertThrows(IllegalArgumentException.class, rows::count);
+            // released before the stream is closed
+            verify(prepStmt, times(1)).close();
+            verify(conn, times(1)).close();
+        }
+        verify(prepStmt, times(1)).close();
+        verify(conn, times(1)).close();
+    }
+
+    @Test
+    void testStreamRowMapperNull() throws Exception {
+        when(meta.getParameterCount()).thenReturn(0);
+        when(prepStmt.executeQuery()).thenReturn(MockResultSet.create(BaseTestCase.META_DATA, BaseTestCase.ROW_ARRAY, true));
+
+        try (Stream<String> rows = runner.stream(conn, "select * from blah", rs -> null)) {
+            assertThrows(IllegalStateException.class, rows::count);
+            verify(prepStmt, times(1)).close();
+        }
+        verify(conn, never()).close();
+    }
+
     @Test
     void testTooFewParamsBatch() throws Exception {
         final String[][] params = { { "unit" }, { "test" } };
@@ -22,11 +22,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +45,14 @@ import org.junit.jupiter.api.Test;
  */
 class ResultSetIteratorTest extends BaseTestCase {
 
+    private static ResultSet createResultSet(final int rows) {
+        final Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = new Object[] { Integer.valueOf(i) };
+        }
+        return createResultSet(new String[] { "id" }, data);
+    }
+
     @Test
     void testCreatesResultSetIteratorTakingThreeArgumentsAndCallsRemove() {
 
@@ -84,4 +102,83 @@ class ResultSetIteratorTest extends BaseTestCase {
 
     }
 
+    @Test
+    void testHasNextDoesNotSkipRows() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getMetaData()).thenReturn(META_DATA);
+        final ResultSetIterator iter = new ResultSetIterator(resultSet, new BasicRowProcessor());
+        assertTrue(iter.hasNext());
+        assertTrue(iter.hasNext());
+        assertEquals(COLUMN_COUNT, iter.next().length);
+        assertFalse(iter.hasNext());
+        assertFalse(iter.hasNext());
+        verify(resultSet, never()).isLast();
+    }
+
+    @Test
+    void testRemoveAfterHasNext() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getMetaData()).thenReturn(META_DATA);
+        final ResultSetIterator iter = new ResultSetIterator(resultSet, new BasicRowProcessor());
+        iter.next();
+        iter.remove();
+        verify(resultSet).deleteRow();
+        iter.next();
+        // the ResultSet is now on the row after the one returned
+        assertTrue(iter.hasNext());
+        assertThrows(IllegalStateException.class, iter::remove);
+        verify(resultSet).deleteRow();
+    }
+
+    @Test
+    void testPrefetch() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ResultSetIterator iter = new ResultSetIterator(createResultSet(1000), new BasicRowProcessor(), 16, executor)) {
+            final Spliterator<Object[]> spliterator = iter.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.NONNULL));
+            final List<Object> ids = StreamSupport.stream(spliterator, false).map(row -> row[0]).collect(Collectors.toList());
+            assertEquals(1000, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(Integer.valueOf(i), ids.get(i));
+            }
+            assertFalse(iter.hasNext());
+            assertThrows(NoSuchElementException.class, iter::next);
+            assertThrows(UnsupportedOperationException.class, iter::remove);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetIterator(getResultSet(), new BasicRowProcessor(), 0, Runnable::run));
+    }
+
+    @Test
+    void testPrefetchClose() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ResultSetIterator iter = new ResultSetIterator(createResultSet(1000), new BasicRowProcessor(), 4, executor);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Integer.valueOf(i), iter.next()[0]);
+        }
+        // returns once the background task has stopped
+        iter.close();
+        assertFalse(iter.hasNext());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPrefetchException() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("broken"));
+        when(resultSet.getMetaData()).thenReturn(META_DATA);
+        try (ResultSetIterator iter = new ResultSetIterator(resultSet, new BasicRowProcessor(), 2, Runnable::run)) {
+            assertTrue(iter.hasNext());
+            assertEquals(COLUMN_COUNT, iter.next().length);
+            final IllegalStateException e = assertThrows(IllegalStateException.class, iter::hasNext);
+            assertEquals("broken", e.getMessage());
+            assertFalse(iter.hasNext());
+        }
+    }
+
 }
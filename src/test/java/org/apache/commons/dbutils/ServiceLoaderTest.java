@@ -61,6 +61,18 @@ class ServiceLoaderTest {
         assertTrue(count > 1);
     }
 
+    @Test
+    void testFindsLocalBeanMapper() {
+        boolean found = false;
+        for (final BeanMapper<?> mapper : ServiceLoader.load(BeanMapper.class)) {
+            if (mapper instanceof TestBeanMapper) {
+                found = true;
+            }
+        }
+
+        assertTrue(found);
+    }
+
     @Test
     void testFindsLocalColumnHandler() {
         boolean found = false;
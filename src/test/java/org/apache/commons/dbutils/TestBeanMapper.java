@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class TestBeanMapper implements BeanMapper<TestMappedBean> {
+
+    @Override
+    public String[] getColumnNames() {
+        return new String[] { "intTest", "one" };
+    }
+
+    @Override
+    public Class<TestMappedBean> getType() {
+        return TestMappedBean.class;
+    }
+
+    @Override
+    public void populate(final ResultSet resultSet, final TestMappedBean bean, final int[] columns) throws SQLException {
+        if (columns[0] != 0) {
+            bean.setIntTest(resultSet.getInt(columns[0]));
+        }
+        if (columns[1] != 0) {
+            bean.setOne(resultSet.getString(columns[1]));
+        }
+        bean.mapped();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+/**
+ * A bean populated by the {@link TestBeanMapper} registered in the test services.
+ */
+public class TestMappedBean {
+
+    private String one;
+
+    private int intTest;
+
+    private int mapperCalls;
+
+    public int getIntTest() {
+        return intTest;
+    }
+
+    public int getMapperCalls() {
+        return mapperCalls;
+    }
+
+    public String getOne() {
+        return one;
+    }
+
+    void mapped() {
+        mapperCalls++;
+    }
+
+    public void setIntTest(final int intTest) {
+        this.intTest = intTest;
+    }
+
+    public void setOne(final String one) {
+        this.one = one;
+    }
+}
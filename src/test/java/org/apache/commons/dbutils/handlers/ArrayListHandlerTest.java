@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
@@ -34,6 +35,20 @@ import org.junit.jupiter.api.Test;
  */
 class ArrayListHandlerTest extends BaseTestCase {
 
+    @Test
+    void testCustomHandleRow() throws SQLException {
+        final ResultSetHandler<List<Object[]>> h = new ArrayListHandler() {
+            @Override
+            protected Object[] handleRow(final ResultSet resultSet) throws SQLException {
+                return new Object[] { resultSet.getObject("one") };
+            }
+        };
+        final List<Object[]> results = h.handle(getResultSet());
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals(1, results.get(1).length);
+        assertEquals("4", results.get(1)[0]);
+    }
+
     @Test
     void testEmptyResultSetHandle() throws SQLException {
         final ResultSetHandler<List<Object[]>> h = new ArrayListHandler();
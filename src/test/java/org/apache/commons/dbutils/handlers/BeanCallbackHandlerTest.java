@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.BasicRowProcessor;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.Test;
+
+class BeanCallbackHandlerTest extends BaseTestCase {
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final List<TestBean> beans = new ArrayList<>();
+        assertEquals(0, new BeanCallbackHandler<>(TestBean.class, beans::add).handle(getEmptyResultSet()));
+        assertTrue(beans.isEmpty());
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final List<TestBean> beans = new ArrayList<>();
+        final long count = new BeanCallbackHandler<>(TestBean.class, new BasicRowProcessor(), beans::add).handle(getResultSet());
+        assertEquals(ROW_COUNT, count);
+        assertEquals(ROW_COUNT, beans.size());
+        assertEquals("1", beans.get(0).getOne());
+        assertEquals("5", beans.get(1).getTwo());
+    }
+
+    @Test
+    void testStop() throws SQLException {
+        final List<String> ones = new ArrayList<>();
+        final long count = new BeanCallbackHandler<TestBean>(TestBean.class, bean -> {
+            ones.add(bean.getOne());
+            return false;
+        }).handle(getResultSet());
+        assertEquals(1, count);
+        assertEquals(1, ones.size());
+        // no further row was fetched
+        assertTrue(getResultSet().next());
+    }
+}
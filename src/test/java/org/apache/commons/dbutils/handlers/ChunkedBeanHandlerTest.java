@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.Test;
+
+class ChunkedBeanHandlerTest extends BaseTestCase {
+
+    private static ResultSet createResultSet(final int rows) {
+        final Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = new Object[] { Integer.toString(i) };
+        }
+        return createResultSet(new String[] { "one" }, data);
+    }
+
+    @Test
+    void testChunks() throws SQLException {
+        final List<List<String>> chunks = new ArrayList<>();
+        final List<List<TestBean>> lists = new ArrayList<>();
+        final long count = new ChunkedBeanHandler<TestBean>(TestBean.class, 3, chunk -> {
+            final List<String> ones = new ArrayList<>();
+            chunk.forEach(bean -> ones.add(bean.getOne()));
+            chunks.add(ones);
+            lists.add(chunk);
+            return true;
+        }).handle(createResultSet(8));
+        assertEquals(8, count);
+        assertEquals(Arrays.asList(Arrays.asList("0", "1", "2"), Arrays.asList("3", "4", "5"), Arrays.asList("6", "7")), chunks);
+        // the chunk list is reused
+        assertSame(lists.get(0), lists.get(2));
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final List<List<TestBean>> chunks = new ArrayList<>();
+        assertEquals(0, new ChunkedBeanHandler<TestBean>(TestBean.class, 10, chunks::add).handle(getEmptyResultSet()));
+        assertTrue(chunks.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedBeanHandler<TestBean>(TestBean.class, 0, chunk -> true));
+    }
+
+    @Test
+    void testStop() throws SQLException {
+        final ResultSet rs = createResultSet(10);
+        final List<Integer> sizes = new ArrayList<>();
+        final long count = new ChunkedBeanHandler<TestBean>(TestBean.class, 4, chunk -> {
+            sizes.add(chunk.size());
+            return false;
+        }).handle(rs);
+        assertEquals(4, count);
+        assertEquals(Arrays.asList(4), sizes);
+        // no further row was fetched
+        assertTrue(rs.next());
+        assertEquals("4", rs.getString(1));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.IntFunction;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests {@link LongColumnArrayHandler}, {@link IntColumnArrayHandler} and {@link DoubleColumnArrayHandler}.
+ */
+class ColumnArrayHandlerTest extends BaseTestCase {
+
+    /**
+     * Creates the handlers of one array type and the column values they read.
+     */
+    enum Type {
+
+        LONG(i -> Long.valueOf(10_000_000_000L + i)) {
+            @Override
+            ResultSetHandler<?> handler() {
+                return new LongColumnArrayHandler();
+            }
+
+            @Override
+            ResultSetHandler<?> handler(final int columnIndex, final ExpectedRows expectedRows) {
+                return expectedRows == null ? new LongColumnArrayHandler(columnIndex) : new LongColumnArrayHandler(columnIndex, expectedRows);
+            }
+
+            @Override
+            ResultSetHandler<?> handler(final String columnName, final ExpectedRows expectedRows) {
+                return expectedRows == null ? new LongColumnArrayHandler(columnName) : new LongColumnArrayHandler(columnName, expectedRows);
+            }
+        },
+
+        INT(i -> Integer.valueOf(1_000_000 + i)) {
+            @Override
+            ResultSetHandler<?> handler() {
+                return new IntColumnArrayHandler();
+            }
+
+            @Override
+            ResultSetHandler<?> handler(final int columnIndex, final ExpectedRows expectedRows) {
+                return expectedRows == null ? new IntColumnArrayHandler(columnIndex) : new IntColumnArrayHandler(columnIndex, expectedRows);
+            }
+
+            @Override
+            ResultSetHandler<?> handler(final String columnName, final ExpectedRows expectedRows) {
+                return expectedRows == null ? new IntColumnArrayHandler(columnName) : new IntColumnArrayHandler(columnName, expectedRows);
+            }
+        },
+
+        DOUBLE(i -> Double.valueOf(i / 4.0)) {
+            @Override
+            ResultSetHandler<?> handler() {
+                return new DoubleColumnArrayHandler();
+            }
+
+            @Override
+            ResultSetHandler<?> handler(final int columnIndex, final ExpectedRows expectedRows) {
+                return expectedRows == null ? new DoubleColumnArrayHandler(columnIndex) : new DoubleColumnArrayHandler(columnIndex, expectedRows);
+            }
+
+            @Override
+            ResultSetHandler<?> handler(final String columnName, final ExpectedRows expectedRows) {
+                return expectedRows == null ? new DoubleColumnArrayHandler(columnName) : new DoubleColumnArrayHandler(columnName, expectedRows);
+            }
+        };
+
+        /**
+         * The value of the column in the given row, of the type the handler reads it as.
+         */
+        private final IntFunction<Object> value;
+
+        Type(final IntFunction<Object> value) {
+            this.value = value;
+        }
+
+        abstract ResultSetHandler<?> handler();
+
+        abstract ResultSetHandler<?> handler(int columnIndex, ExpectedRows expectedRows);
+
+        abstract ResultSetHandler<?> handler(String columnName, ExpectedRows expectedRows);
+
+        ResultSet createResultSet(final int rows) {
+            final Object[][] data = new Object[rows][];
+            for (int i = 0; i < rows; i++) {
+                data[i] = new Object[] { value.apply(i) };
+            }
+            return BaseTestCase.createResultSet(new String[] { "id" }, data);
+        }
+    }
+
+    /**
+     * Asserts that a primitive array holds the given values, converted to its component type.
+     */
+    private static void assertValues(final Object values, final long... expected) {
+        assertEquals(expected.length, Array.getLength(values));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], ((Number) Array.get(values, i)).longValue());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    void testColumnIndexHandle(final Type type) throws SQLException {
+        assertValues(type.handler(2, null).handle(getResultSet()), 2, 5);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    void testColumnNameHandle(final Type type) throws SQLException {
+        assertValues(type.handler("intTest", null).handle(getResultSet()), 1, 3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    void testEmptyResultSetHandle(final Type type) throws SQLException {
+        assertValues(type.handler().handle(getEmptyResultSet()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    void testExpectedRows(final Type type) throws SQLException {
+        final Object values = type.handler("id", ExpectedRows.of(1000)).handle(type.createResultSet(1000));
+        assertEquals(1000, Array.getLength(values));
+        assertEquals(type.value.apply(999), Array.get(values, 999));
+        // fewer expected rows than there are
+        assertEquals(1000, Array.getLength(type.handler(1, ExpectedRows.of(10)).handle(type.createResultSet(1000))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    void testHandle(final Type type) throws SQLException {
+        final Object values = type.handler().handle(type.createResultSet(1000));
+        assertEquals(1000, Array.getLength(values));
+        for (int i = 0; i < 1000; i++) {
+            // boxed from the primitive array, so equal only if read without a lossy conversion
+            assertEquals(type.value.apply(i), Array.get(values, i));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    void testNull(final Type type) throws SQLException {
+        assertValues(type.handler("nullObjectTest", null).handle(getResultSet()), 0, 0);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.MockResultSet;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that handlers constructed with a column name look it up once per {@code ResultSet} rather than for each row.
+ */
+class ColumnNameLookupTest extends BaseTestCase {
+
+    private static final int ROWS = 100;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    /**
+     * Creates a result set of {@value #ROWS} rows that counts the calls taking a column label.
+     */
+    private ResultSet createCountingResultSet() {
+        final Object[][] rows = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = ROW_ARRAY[0].clone();
+            rows[i][4] = Integer.valueOf(i);
+        }
+        final ResultSet resultSet = MockResultSet.create(META_DATA, rows, false);
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                lookups.incrementAndGet();
+            }
+            try {
+                return method.invoke(resultSet, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @BeforeEach
+    void resetLookups() {
+        lookups.set(0);
+    }
+
+    @Test
+    void testBeanMapHandler() throws SQLException {
+        final Map<Integer, TestBean> results = new BeanMapHandler<Integer, TestBean>(TestBean.class, "intTest").handle(createCountingResultSet());
+        assertEquals(ROWS, results.size());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testColumnListHandler() throws SQLException {
+        final List<Integer> results = new ColumnListHandler<Integer>("intTest").handle(createCountingResultSet());
+        assertEquals(ROWS, results.size());
+        assertEquals(Integer.valueOf(ROWS - 1), results.get(ROWS - 1));
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testCustomCreateKey() throws SQLException {
+        final KeyedHandler<Integer> h = new KeyedHandler<Integer>("intTest") {
+            @Override
+            protected Integer createKey(final ResultSet rs) throws SQLException {
+                return super.createKey(rs) + 1000;
+            }
+        };
+        final Map<Integer, Map<String, Object>> results = h.handle(createCountingResultSet());
+        assertEquals(ROWS, results.size());
+        assertEquals("THREE", results.get(1000).get("three"));
+        // the override is still called, and looks the name up itself
+        assertEquals(ROWS, lookups.get());
+    }
+
+    @Test
+    void testIntKeyedHandler() throws SQLException {
+        assertEquals(ROWS, new IntKeyedHandler("intTest").handle(createCountingResultSet()).size());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testKeyedHandler() throws SQLException {
+        final Map<Integer, Map<String, Object>> results = new KeyedHandler<Integer>("intTest").handle(createCountingResultSet());
+        assertEquals(ROWS, results.size());
+        assertEquals("THREE", results.get(ROWS - 1).get("three"));
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testLongBeanMapHandler() throws SQLException {
+        assertEquals(ROWS, new LongBeanMapHandler<>(TestBean.class, "intTest").handle(createCountingResultSet()).size());
+        assertEquals(1, lookups.get());
+    }
+}
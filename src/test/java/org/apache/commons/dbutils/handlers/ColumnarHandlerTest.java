@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.BitSet;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.MockResultSet;
+import org.junit.jupiter.api.Test;
+
+class ColumnarHandlerTest extends BaseTestCase {
+
+    private static final String[] LABELS = { "small", "id", "counter", "price", "city", "created" };
+
+    private static final int[] TYPES = { Types.SMALLINT, Types.BIGINT, Types.INTEGER, Types.DOUBLE, Types.VARCHAR, Types.DATE };
+
+    private static ResultSet createResultSet(final int rows) {
+        final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[] { ResultSetMetaData.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getColumnCount":
+                        return LABELS.length;
+                    case "getColumnLabel":
+                        return LABELS[(Integer) args[0] - 1];
+                    case "getColumnType":
+                        return TYPES[(Integer) args[0] - 1];
+                    case "isSigned":
+                        // the counter column is unsigned
+                        return (Integer) args[0] != 3;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        final String[] cities = { "Paris", "Lima", null };
+        final java.sql.Date date = java.sql.Date.valueOf("2024-01-31");
+        final Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            final boolean nulls = i % 3 == 2;
+            data[i] = new Object[] { nulls ? null : Integer.valueOf(i), Long.valueOf(10_000_000_000L + i), nulls ? null : Long.valueOf(4_000_000_000L),
+                    nulls ? null : Double.valueOf(i / 2.0), cities[i % 3], nulls ? null : date };
+        }
+        return MockResultSet.create(metaData, data, false);
+    }
+
+    @Test
+    void testColumnTypes() throws SQLException {
+        final ColumnarTable table = new ColumnarHandler().handle(createResultSet(3));
+        assertEquals(6, table.getColumnCount());
+        assertEquals(ColumnarTable.ColumnType.INT, table.getColumnType(1));
+        assertEquals(ColumnarTable.ColumnType.LONG, table.getColumnType(2));
+        assertEquals(ColumnarTable.ColumnType.LONG, table.getColumnType(3));
+        assertEquals(ColumnarTable.ColumnType.DOUBLE, table.getColumnType(4));
+        assertEquals(ColumnarTable.ColumnType.STRING, table.getColumnType(5));
+        assertEquals(ColumnarTable.ColumnType.OBJECT, table.getColumnType(6));
+        assertEquals("price", table.getColumnLabel(4));
+        assertEquals(4, table.findColumn("PRICE"));
+        assertThrows(IllegalArgumentException.class, () -> table.findColumn("missing"));
+        assertThrows(IllegalArgumentException.class, () -> table.getInts(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getObject(0, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getObject(3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarHandler(-1));
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final ColumnarTable table = new ColumnarHandler().handle(getEmptyResultSet());
+        assertEquals(0, table.getRowCount());
+        assertEquals(COLUMN_COUNT, table.getColumnCount());
+        assertEquals(ColumnarTable.ColumnType.OBJECT, table.getColumnType(1));
+    }
+
+    @Test
+    void testExpectedRows() throws SQLException {
+        final ColumnarTable table = new ColumnarHandler(ExpectedRows.of(100)).handle(createResultSet(100));
+        assertEquals(100, table.getRowCount());
+        assertEquals(10_000_000_099L, table.getLongs(2)[99]);
+        // an unknown estimate falls back on the default capacity
+        assertEquals(100, new ColumnarHandler(ExpectedRows.of(0)).handle(createResultSet(100)).getRowCount());
+        assertThrows(NullPointerException.class, () -> new ColumnarHandler((ExpectedRows) null));
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final ColumnarTable table = new ColumnarHandler().handle(getResultSet());
+        assertEquals(ROW_COUNT, table.getRowCount());
+        assertEquals("one", table.getColumnLabel(1));
+        assertEquals("4", table.getObject(1, 1));
+        assertEquals("SIX", table.getObject(1, table.findColumn("THREE")));
+    }
+
+    @Test
+    void testPrimitiveColumns() throws SQLException {
+        // more rows than the initial capacity, so that the arrays grow
+        final int rows = 100;
+        final ColumnarTable table = new ColumnarHandler(10).handle(createResultSet(rows));
+        assertEquals(rows, table.getRowCount());
+
+        final int[] small = table.getInts(1);
+        final long[] ids = table.getLongs(2);
+        final double[] prices = table.getDoubles(4);
+        assertEquals(rows, small.length);
+        assertEquals(rows, ids.length);
+        assertEquals(rows, prices.length);
+        assertEquals(4, small[4]);
+        assertEquals(4, table.getInt(4, 1));
+        assertEquals(4L, table.getLong(4, 1));
+        assertEquals(10_000_000_099L, ids[99]);
+        assertEquals(4_000_000_000L, table.getLong(0, 3));
+        assertEquals(2.0, prices[4]);
+        assertEquals(2.0, table.getDouble(4, 4));
+        assertEquals(10_000_000_000.0, table.getDouble(0, 2));
+
+        final BitSet expectedNulls = new BitSet();
+        for (int i = 2; i < rows; i += 3) {
+            expectedNulls.set(i);
+        }
+        assertEquals(expectedNulls, table.getNulls(1));
+        assertEquals(expectedNulls, table.getNulls(4));
+        assertEquals(new BitSet(), table.getNulls(2));
+        assertTrue(table.isNull(2, 1));
+        assertFalse(table.isNull(2, 2));
+        assertEquals(0, small[2]);
+        assertNull(table.getObject(2, 1));
+        assertEquals(Integer.valueOf(3), table.getObject(3, 1));
+        assertEquals(Long.valueOf(10_000_000_003L), table.getObject(3, 2));
+        assertEquals(java.sql.Date.valueOf("2024-01-31"), table.getObject(0, 6));
+        assertNull(table.getObject(2, 6));
+    }
+
+    @Test
+    void testStringDictionary() throws SQLException {
+        final ColumnarTable table = new ColumnarHandler().handle(createResultSet(100));
+        assertArrayEquals(new String[] { "Paris", "Lima" }, table.getDictionary(5));
+        final int[] codes = table.getCodes(5);
+        assertEquals(100, codes.length);
+        assertEquals(0, codes[0]);
+        assertEquals(1, codes[1]);
+        assertEquals(0, codes[3]);
+        assertEquals("Lima", table.getString(4, 5));
+        assertNull(table.getString(5, 5));
+        assertTrue(table.isNull(5, 5));
+        // each distinct value is stored once
+        assertSame(table.getString(0, 5), table.getString(99, 5));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
+import org.apache.commons.dbutils.MockResultSetMetaData;
+import org.junit.jupiter.api.Test;
+
+class DetachedResultSetTest {
+
+    private static final ResultSetMetaData META_DATA = MockResultSetMetaData.create(new String[] { "num", "text", "flag", "created", "bytes" });
+
+    @Test
+    void testConversions() throws SQLException {
+        final ResultSet resultSet = DetachedResultSet.create(DetachedResultSet.snapshot(META_DATA), Arrays.asList(
+                new Object[] { new BigDecimal("12.5"), "42", Boolean.TRUE, LocalDateTime.of(2024, 1, 31, 12, 30), new byte[] { 1, 2 } },
+                new Object[] { Long.valueOf(7), " 3 ", "true", Date.valueOf("2024-02-29"), null }));
+        assertThrows(SQLException.class, () -> resultSet.getInt(1));
+        assertTrue(resultSet.next());
+        assertEquals(1, resultSet.getRow());
+        assertEquals(12, resultSet.getInt(1));
+        assertEquals(12.5, resultSet.getDouble("NUM"));
+        assertEquals("12.5", resultSet.getString(1));
+        assertEquals(42L, resultSet.getLong("text"));
+        assertEquals(new BigDecimal("42"), resultSet.getBigDecimal(2));
+        assertTrue(resultSet.getBoolean(3));
+        assertEquals(1, resultSet.getInt(3));
+        assertEquals(Timestamp.valueOf("2024-01-31 12:30:00"), resultSet.getTimestamp(4));
+        assertEquals(Date.valueOf("2024-01-31"), resultSet.getDate(4));
+        assertArrayEquals(new byte[] { 1, 2 }, resultSet.getBytes(5));
+        assertFalse(resultSet.wasNull());
+        assertEquals("2024-01-31T12:30", resultSet.getString(4));
+        // no "[B@..."
+        assertThrows(SQLException.class, () -> resultSet.getString(5));
+
+        assertTrue(resultSet.next());
+        assertEquals(new BigDecimal(7), resultSet.getBigDecimal(1));
+        assertEquals(3, resultSet.getShort(2));
+        assertTrue(resultSet.getBoolean(3));
+        assertEquals(LocalDate.of(2024, 2, 29), resultSet.getObject(4, LocalDate.class));
+        assertEquals(Integer.valueOf(7), resultSet.getObject(1, Integer.class));
+        assertNull(resultSet.getBytes(5));
+        assertTrue(resultSet.wasNull());
+        assertEquals(0, resultSet.getInt(5));
+        assertFalse(resultSet.getBoolean(5));
+        assertThrows(SQLException.class, () -> resultSet.getTimestamp(1));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> resultSet.updateInt(1, 1));
+        assertFalse(resultSet.next());
+        assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testLargeObjectStrings() throws SQLException {
+        final ResultSet resultSet = DetachedResultSet.create(DetachedResultSet.snapshot(META_DATA), Collections.singletonList(
+                new Object[] { new SerialClob("clob text".toCharArray()), new SerialBlob(new byte[] { 1 }), new Object(), null, null }));
+        assertTrue(resultSet.next());
+        assertEquals("clob text", resultSet.getString(1));
+        assertThrows(SQLException.class, () -> resultSet.getString(2));
+        assertThrows(SQLException.class, () -> resultSet.getString(3));
+        assertArrayEquals(new byte[] { 1 }, resultSet.getBytes(2));
+    }
+
+    @Test
+    void testMetaData() throws SQLException {
+        final ResultSet resultSet = DetachedResultSet.create(DetachedResultSet.snapshot(META_DATA), Collections.emptyList());
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+        assertEquals(5, metaData.getColumnCount());
+        assertEquals("text", metaData.getColumnName(2));
+        assertEquals(Types.OTHER, metaData.getColumnType(2));
+        assertEquals(3, resultSet.findColumn("FLAG"));
+        assertThrows(SQLException.class, () -> resultSet.findColumn("missing"));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> metaData.getPrecision(1));
+        assertFalse(resultSet.next());
+    }
+}
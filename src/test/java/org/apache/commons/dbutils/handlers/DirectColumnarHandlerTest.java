@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.MockResultSet;
+import org.apache.commons.dbutils.handlers.ColumnarTable.ColumnType;
+import org.junit.jupiter.api.Test;
+
+class DirectColumnarHandlerTest extends BaseTestCase {
+
+    private static final String[] LABELS = { "small", "id", "price", "city", "created" };
+
+    private static final int[] TYPES = { Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.DATE };
+
+    private static ResultSetMetaData createMetaData(final String[] labels, final int[] types) {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[] { ResultSetMetaData.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getColumnCount":
+                        return labels.length;
+                    case "getColumnLabel":
+                    case "getColumnName":
+                        return labels[(Integer) args[0] - 1];
+                    case "getColumnType":
+                        return types[(Integer) args[0] - 1];
+                    case "isSigned":
+                        return true;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static ResultSet createResultSet(final int rows) {
+        final ResultSetMetaData metaData = createMetaData(LABELS, TYPES);
+        final String[] cities = { "Paris", "S\u00e3o Paulo", null };
+        final Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            final boolean nulls = i % 3 == 2;
+            data[i] = new Object[] { nulls ? null : Integer.valueOf(i), Long.valueOf(10_000_000_000L + i), nulls ? null : Double.valueOf(i / 2.0),
+                    cities[i % 3], nulls ? null : java.sql.Date.valueOf("2024-01-31") };
+        }
+        return MockResultSet.create(metaData, data, false);
+    }
+
+    @Test
+    void testBuffers() throws SQLException {
+        final int rows = 1000;
+        // fewer expected rows than there are, so that the buffers grow
+        final DirectColumnarTable table = new DirectColumnarHandler(10).handle(createResultSet(rows));
+        assertEquals(rows, table.getRowCount());
+
+        final ByteBuffer small = table.getData(1);
+        assertTrue(small.isDirect());
+        assertTrue(small.isReadOnly());
+        assertEquals(ByteOrder.nativeOrder(), small.order());
+        assertEquals(rows * 4, small.limit());
+        assertEquals(999, small.getInt(999 * 4));
+        assertEquals(rows * 8, table.getData(2).limit());
+        assertEquals(10_000_000_500L, table.getData(2).getLong(500 * 8));
+        assertEquals(2.0, table.getData(3).getDouble(4 * 8));
+
+        final ByteBuffer nulls = table.getNulls(1);
+        assertEquals((rows + 7) / 8, nulls.limit());
+        // rows 2 and 5 of the first byte are null
+        assertEquals(0b0010_0100, nulls.get(0));
+        assertEquals(0, table.getNulls(2).get(0));
+
+        final ByteBuffer heap = table.getStringHeap(4);
+        assertTrue(heap.isReadOnly());
+        assertThrows(IllegalArgumentException.class, () -> table.getStringHeap(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getData(6));
+    }
+
+    @Test
+    void testBytesAndExactStrings() throws SQLException {
+        final String[] labels = { "data", "amount", "created", "flag" };
+        final ResultSetMetaData metaData = DetachedResultSet.snapshot(createMetaData(labels,
+                new int[] { Types.VARBINARY, Types.DECIMAL, Types.TIMESTAMP, Types.BOOLEAN }));
+        final Timestamp created = Timestamp.valueOf("2024-01-31 12:34:56.123456789");
+        final DirectColumnarTable table = new DirectColumnarHandler().handle(DetachedResultSet.create(metaData, Arrays.asList(
+                new Object[] { new byte[] { 1, 2, 3 }, new BigDecimal("12345678901234567890.0123456789"), created, Boolean.TRUE },
+                new Object[] { null, null, null, null })));
+        assertEquals(ColumnType.BYTES, table.getColumnType(1));
+        assertEquals(ColumnType.STRING, table.getColumnType(2));
+        assertEquals(3, table.getBytesHeap(1).limit());
+        assertThrows(IllegalArgumentException.class, () -> table.getStringHeap(1));
+        assertThrows(IllegalArgumentException.class, () -> table.getBytesHeap(2));
+        final DirectColumnarTable.Cursor cursor = table.cursor();
+        assertTrue(cursor.next());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, cursor.getBytes(1));
+        assertEquals("12345678901234567890.0123456789", cursor.getString(2));
+        assertEquals(created, Timestamp.valueOf(cursor.getString(3)));
+        assertEquals("true", cursor.getString(4));
+        assertThrows(IllegalArgumentException.class, () -> cursor.getBytes(2));
+        assertTrue(cursor.next());
+        assertNull(cursor.getBytes(1));
+        assertNull(cursor.getString(2));
+    }
+
+    @Test
+    void testUnsupportedColumns() throws SQLException {
+        final ResultSetMetaData arrays = DetachedResultSet.snapshot(createMetaData(new String[] { "tags" }, new int[] { Types.ARRAY }));
+        assertThrows(SQLException.class, () -> new DirectColumnarHandler().handle(DetachedResultSet.create(arrays, Collections.emptyList())));
+        // values without an exact string form fail rather than store their toString()
+        final ResultSetMetaData others = DetachedResultSet.snapshot(createMetaData(new String[] { "other" }, new int[] { Types.OTHER }));
+        final List<Object[]> rows = Collections.singletonList(new Object[] { new Object() });
+        assertThrows(SQLException.class, () -> new DirectColumnarHandler().handle(DetachedResultSet.create(others, rows)));
+    }
+
+    @Test
+    void testExpectedRows() throws SQLException {
+        final AtomicInteger estimates = new AtomicInteger();
+        final DirectColumnarTable table = new DirectColumnarHandler(resultSet -> {
+            estimates.incrementAndGet();
+            return 2;
+        }).handle(createResultSet(100));
+        assertEquals(1, estimates.get());
+        assertEquals(100, table.getRowCount());
+        assertEquals(99, table.getData(1).getInt(99 * 4));
+        assertThrows(NullPointerException.class, () -> new DirectColumnarHandler((ExpectedRows) null));
+    }
+
+    @Test
+    void testCursor() throws SQLException {
+        final DirectColumnarTable table = new DirectColumnarHandler().handle(createResultSet(100));
+        assertEquals(ColumnType.INT, table.getColumnType(1));
+        assertEquals(ColumnType.LONG, table.getColumnType(2));
+        assertEquals(ColumnType.DOUBLE, table.getColumnType(3));
+        assertEquals(ColumnType.STRING, table.getColumnType(4));
+        // other columns are stored as strings
+        assertEquals(ColumnType.STRING, table.getColumnType(5));
+        assertEquals(4, table.findColumn("CITY"));
+
+        final DirectColumnarTable.Cursor cursor = table.cursor();
+        assertEquals(-1, cursor.getRow());
+        assertThrows(IllegalStateException.class, () -> cursor.getInt(1));
+        int count = 0;
+        while (cursor.next()) {
+            final int row = cursor.getRow();
+            assertEquals(row, count++);
+            assertEquals(10_000_000_000L + row, cursor.getLong(2));
+            if (row % 3 == 2) {
+                assertTrue(cursor.isNull(1));
+                assertEquals(0, cursor.getInt(1));
+                assertNull(cursor.getString(4));
+                assertNull(cursor.getString(5));
+            } else {
+                assertFalse(cursor.isNull(1));
+                assertEquals(row, cursor.getInt(1));
+                assertEquals(row, cursor.getLong(1));
+                assertEquals(row / 2.0, cursor.getDouble(3));
+                assertEquals(row % 3 == 0 ? "Paris" : "S\u00e3o Paulo", cursor.getString(4));
+                assertEquals("2024-01-31", cursor.getString(5));
+            }
+        }
+        assertEquals(100, count);
+        assertFalse(cursor.next());
+
+        cursor.setRow(4);
+        assertEquals(4, cursor.getInt(1));
+        assertThrows(IllegalArgumentException.class, () -> cursor.getInt(2));
+        assertThrows(IllegalArgumentException.class, () -> cursor.getString(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.setRow(100));
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final DirectColumnarTable table = new DirectColumnarHandler().handle(getEmptyResultSet());
+        assertEquals(0, table.getRowCount());
+        assertEquals(COLUMN_COUNT, table.getColumnCount());
+        assertEquals(0, table.getData(1).limit());
+        assertFalse(table.cursor().next());
+        assertThrows(IllegalArgumentException.class, () -> new DirectColumnarHandler(-1));
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final DirectColumnarTable table = new DirectColumnarHandler().handle(getResultSet());
+        assertEquals(ROW_COUNT, table.getRowCount());
+        final DirectColumnarTable.Cursor cursor = table.cursor();
+        assertTrue(cursor.next());
+        assertTrue(cursor.next());
+        assertEquals("4", cursor.getString(1));
+        assertEquals("SIX", cursor.getString(table.findColumn("Three")));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.junit.jupiter.api.Test;
+
+class DoubleScalarHandlerTest extends BaseTestCase {
+
+    @Test
+    void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<Double> h = new DoubleScalarHandler(2);
+        assertEquals(Double.valueOf(2), h.handle(getResultSet()));
+    }
+
+    @Test
+    void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<Double> h = new DoubleScalarHandler("intTest");
+        assertEquals(Double.valueOf(1), h.handle(getResultSet()));
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        assertNull(new DoubleScalarHandler().handle(getEmptyResultSet()));
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        assertEquals(Double.valueOf(1), new DoubleScalarHandler().handle(getResultSet()));
+    }
+
+    @Test
+    void testNull() throws SQLException {
+        assertNull(new DoubleScalarHandler("nullObjectTest").handle(getResultSet()));
+    }
+}
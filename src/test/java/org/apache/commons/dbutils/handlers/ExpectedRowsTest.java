@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.Test;
+
+class ExpectedRowsTest extends BaseTestCase {
+
+    @Test
+    void testKeyedHandlers() throws SQLException {
+        final AtomicInteger expectedSize = new AtomicInteger(-1);
+        final KeyedHandler<String> h = new KeyedHandler<String>("one", ExpectedRows.of(1000)) {
+            @Override
+            protected Map<String, Map<String, Object>> createMap(final int size) {
+                expectedSize.set(size);
+                return super.createMap(size);
+            }
+        };
+        final Map<String, Map<String, Object>> results = h.handle(getResultSet());
+        assertEquals(1000, expectedSize.get());
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals("SIX", results.get("4").get("three"));
+
+        final Map<Integer, TestBean> beans = new BeanMapHandler<Integer, TestBean>(TestBean.class, "intTest", ExpectedRows.of(0)).handle(createMockResultSet());
+        assertEquals("4", beans.get(3).getOne());
+        assertEquals("1", new BeanMapHandler<String, TestBean>(TestBean.class, 1, ExpectedRows.of(2)).handle(createMockResultSet()).get("1").getOne());
+
+        // an unknown size falls back on createMap()
+        final Map<String, Map<String, Object>> custom = new HashMap<>();
+        final KeyedHandler<String> fallback = new KeyedHandler<String>(1, ExpectedRows.of(0)) {
+            @Override
+            protected Map<String, Map<String, Object>> createMap() {
+                return custom;
+            }
+        };
+        assertEquals(custom, fallback.handle(createMockResultSet()));
+        assertEquals(ROW_COUNT, custom.size());
+    }
+
+    @Test
+    void testListHandlers() throws SQLException {
+        final AtomicInteger estimates = new AtomicInteger();
+        final ExpectedRows expectedRows = resultSet -> {
+            estimates.incrementAndGet();
+            return ROW_COUNT;
+        };
+        final List<Object[]> arrays = new ArrayListHandler(ArrayHandler.ROW_PROCESSOR, expectedRows).handle(getResultSet());
+        assertEquals(ROW_COUNT, arrays.size());
+        assertEquals("SIX", arrays.get(1)[2]);
+
+        final List<Map<String, Object>> maps = new MapListHandler(ArrayHandler.ROW_PROCESSOR, expectedRows).handle(createMockResultSet());
+        assertEquals(ROW_COUNT, maps.size());
+        assertEquals("SIX", maps.get(1).get("Three"));
+
+        assertEquals(List.of("1", "4"), new ColumnListHandler<String>(1, expectedRows).handle(createMockResultSet()));
+        assertEquals(List.of("THREE", "SIX"), new ColumnListHandler<String>("three", expectedRows).handle(createMockResultSet()));
+        assertEquals(4, estimates.get());
+
+        assertEquals(0, new ArrayListHandler(ArrayHandler.ROW_PROCESSOR, expectedRows).handle(getEmptyResultSet()).size());
+        assertThrows(NullPointerException.class, () -> new ArrayListHandler(ArrayHandler.ROW_PROCESSOR, null));
+    }
+
+    @Test
+    void testMaxRows() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        when(statement.getMaxRows()).thenReturn(500);
+        assertEquals(500, ExpectedRows.maxRows().estimate(resultSet));
+        // a large limit does not allocate for rows that may never come
+        when(statement.getMaxRows()).thenReturn(50_000_000);
+        assertEquals(1 << 16, ExpectedRows.maxRows().estimate(resultSet));
+        when(resultSet.getStatement()).thenReturn(null);
+        assertEquals(0, ExpectedRows.maxRows().estimate(resultSet));
+    }
+
+    @Test
+    void testOf() throws SQLException {
+        assertEquals(7, ExpectedRows.of(7).estimate(null));
+        assertThrows(IllegalArgumentException.class, () -> ExpectedRows.of(-1));
+        assertEquals(7, ExpectedRows.of(0).orElse(ExpectedRows.of(7)).estimate(null));
+        assertEquals(3, ExpectedRows.of(3).orElse(ExpectedRows.of(7)).estimate(null));
+    }
+
+    @Test
+    void testScrollable() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getType()).thenReturn(ResultSet.TYPE_SCROLL_INSENSITIVE);
+        when(resultSet.last()).thenReturn(true);
+        when(resultSet.getRow()).thenReturn(42);
+        assertEquals(42, ExpectedRows.scrollable().estimate(resultSet));
+        verify(resultSet).beforeFirst();
+
+        final ResultSet forwardOnly = mock(ResultSet.class);
+        when(forwardOnly.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
+        assertEquals(0, ExpectedRows.scrollable().estimate(forwardOnly));
+        verify(forwardOnly, never()).last();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntObjectMapTest {
+
+    @Test
+    void testAgainstHashMap() {
+        final IntObjectMap<Integer> map = new IntObjectMap<>();
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // a small key range, so that keys are often replaced and removed
+            final int key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, Integer.valueOf(i)), map.put(key, Integer.valueOf(i)));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        map.forEach((value, key) -> assertEquals(expected.get(key), value));
+        for (int key = -1000; key < 1000; key++) {
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+    }
+
+    @Test
+    void testClear() {
+        final IntObjectMap<String> map = new IntObjectMap<>(10);
+        map.put(1, "one");
+        map.put(2, "two");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+        assertEquals("{}", map.toString());
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectMap<>(-1));
+    }
+
+    @Test
+    void testGrowth() {
+        final IntObjectMap<Integer> map = new IntObjectMap<>();
+        final int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            map.put(i << 16, Integer.valueOf(i));
+        }
+        assertEquals(count, map.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(Integer.valueOf(i), map.get(i << 16));
+        }
+        final int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertEquals(count, keys.length);
+        assertEquals(count - 1 << 16, keys[count - 1]);
+    }
+
+    @Test
+    void testKeysAndNullValues() {
+        final IntObjectMap<String> map = new IntObjectMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(0, null));
+        assertNull(map.put(Integer.MIN_VALUE, "min"));
+        assertNull(map.put(-1, "minus one"));
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(0));
+        assertNull(map.get(0));
+        assertEquals("min", map.get(Integer.MIN_VALUE));
+        assertNull(map.get(1));
+        assertEquals("minus one", map.put(-1, "-1"));
+        assertEquals(3, map.size());
+        final int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, -1, 0 }, keys);
+        assertNull(map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertNull(map.remove(0));
+        assertEquals(2, map.size());
+    }
+}
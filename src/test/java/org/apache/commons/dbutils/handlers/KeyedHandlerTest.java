@@ -19,8 +19,11 @@ package org.apache.commons.dbutils.handlers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -76,6 +79,22 @@ class KeyedHandlerTest extends BaseTestCase {
         assertEquals("SIX", row.get("Three"));
     }
 
+    @Test
+    void testCustomCreateRow() throws SQLException {
+        final ResultSetHandler<Map<String, Map<String, Object>>> h = new KeyedHandler<String>() {
+            @Override
+            protected Map<String, Object> createRow(final ResultSet rs) throws SQLException {
+                final Map<String, Object> row = super.createRow(rs);
+                row.put("extra", "value");
+                return row;
+            }
+        };
+        final Map<String, Map<String, Object>> results = h.handle(getResultSet());
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals("value", results.get("4").get("EXTRA"));
+        assertEquals("SIX", results.get("4").get("three"));
+    }
+
     @Test
     void testEmptyResultSetHandle() throws SQLException {
         final ResultSetHandler<Map<String, Map<String, Object>>> h = new KeyedHandler<>();
@@ -110,6 +129,7 @@ class KeyedHandlerTest extends BaseTestCase {
     @Test
     void testInjectedRowProcess() throws Exception {
         final RowProcessor mockProc = mock(RowProcessor.class);
+        when(mockProc.prepare(any(ResultSet.class))).thenReturn(mockProc);
         final ResultSetHandler<Map<String, Map<String, Object>>> h = new KeyedHandler<>(mockProc);
         final Map<String, Map<String, Object>> results = h.handle(getResultSet());
 
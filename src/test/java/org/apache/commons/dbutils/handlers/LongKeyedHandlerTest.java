@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.Test;
+
+class LongKeyedHandlerTest extends BaseTestCase {
+
+    @Test
+    void testBeanMapHandle() throws SQLException {
+        final ResultSetHandler<LongObjectMap<TestBean>> h = new LongBeanMapHandler<>(TestBean.class, "intTest");
+        final LongObjectMap<TestBean> results = h.handle(getResultSet());
+
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals("4", results.get(3).getOne());
+        assertEquals("1", new LongBeanMapHandler<>(TestBean.class).handle(createMockResultSet()).get(1).getOne());
+    }
+
+    @Test
+    void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<LongObjectMap<Map<String, Object>>> h = new LongKeyedHandler(2);
+        final LongObjectMap<Map<String, Object>> results = h.handle(getResultSet());
+
+        assertEquals(ROW_COUNT, results.size());
+        results.forEach((row, key) -> assertEquals(COLUMN_COUNT, row.size()));
+        final Map<String, Object> row = results.get(5);
+        assertEquals("4", row.get("one"));
+        assertEquals("5", row.get("TWO"));
+        assertEquals("SIX", row.get("Three"));
+    }
+
+    @Test
+    void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<LongObjectMap<Map<String, Object>>> h = new LongKeyedHandler("intTest");
+        final LongObjectMap<Map<String, Object>> results = h.handle(getResultSet());
+
+        assertEquals(ROW_COUNT, results.size());
+        final Map<String, Object> row = results.get(3);
+        assertEquals("4", row.get("one"));
+        assertEquals("SIX", row.get("Three"));
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final LongObjectMap<Map<String, Object>> results = new LongKeyedHandler().handle(getEmptyResultSet());
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final LongObjectMap<Map<String, Object>> results = new LongKeyedHandler().handle(getResultSet());
+
+        assertEquals(ROW_COUNT, results.size());
+        final Map<String, Object> row = results.get(1);
+        assertEquals("1", row.get("one"));
+        assertEquals("2", row.get("TWO"));
+        assertEquals("THREE", row.get("Three"));
+    }
+
+    @Test
+    void testNullKey() {
+        assertThrows(SQLException.class, () -> new LongKeyedHandler("nullObjectTest").handle(getResultSet()));
+    }
+}
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
@@ -71,4 +72,21 @@ class MapListHandlerTest extends BaseTestCase {
         assertFalse(iter.hasNext());
     }
 
+    @Test
+    void testHandleRowOverridden() throws SQLException {
+        final ResultSetHandler<List<Map<String, Object>>> h = new MapListHandler() {
+            @Override
+            protected Map<String, Object> handleRow(final ResultSet resultSet) throws SQLException {
+                final Map<String, Object> row = super.handleRow(resultSet);
+                row.put("extra", "value");
+                return row;
+            }
+        };
+        final List<Map<String, Object>> results = h.handle(getResultSet());
+
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals("value", results.get(0).get("EXTRA"));
+        assertEquals(COLUMN_COUNT + 1, results.get(0).size());
+    }
+
 }
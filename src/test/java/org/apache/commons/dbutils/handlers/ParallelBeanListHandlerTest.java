@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.rowset.serial.SerialClob;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.BasicRowProcessor;
+import org.apache.commons.dbutils.RowProcessor;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.Test;
+
+class ParallelBeanListHandlerTest extends BaseTestCase {
+
+    private static final String[] LABELS = { "one", "intTest", "columnProcessorDoubleTest" };
+
+    @Test
+    void testClobToString() throws SQLException {
+        final Object[][] rows = { { new SerialClob("clob text".toCharArray()), Integer.valueOf(1), null } };
+        final List<TestBean> results = new ParallelBeanListHandler<TestBean>(TestBean.class).handle(createResultSet(LABELS, rows));
+        assertEquals("clob text", results.get(0).getOne());
+    }
+
+    @Test
+    void testConversionFailure() {
+        final Object[][] rows = new Object[500][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] { "row", i == 321 ? "not a number" : Integer.valueOf(i), null };
+        }
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final ParallelBeanListHandler<TestBean> h = new ParallelBeanListHandler<>(TestBean.class, ArrayHandler.ROW_PROCESSOR, pool, 50);
+            assertThrows(SQLException.class, () -> h.handle(createResultSet(LABELS, rows)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testBoundedPending() throws SQLException {
+        final Object[][] rows = new Object[200][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] { "row " + i, Integer.valueOf(i), null };
+        }
+        final ResultSet delegate = createResultSet(LABELS, rows);
+        final AtomicInteger fetched = new AtomicInteger();
+        final ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("next")) {
+                        fetched.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        final AtomicInteger converted = new AtomicInteger();
+        final AtomicInteger maxAhead = new AtomicInteger();
+        final RowProcessor slow = new BasicRowProcessor() {
+            @Override
+            public <T> List<T> toBeanList(final ResultSet rs, final Class<? extends T> type) throws SQLException {
+                maxAhead.accumulateAndGet(fetched.get() - converted.get(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final List<T> beans = super.toBeanList(rs, type);
+                converted.addAndGet(beans.size());
+                return beans;
+            }
+        };
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final List<TestBean> results = new ParallelBeanListHandler<TestBean>(TestBean.class, slow, pool, 10).handle(resultSet);
+            assertEquals(rows.length, results.size());
+            assertEquals("row 199", results.get(199).getOne());
+            // the converting batch, two pending batches, the batch being joined and the batch being read
+            assertTrue(maxAhead.get() <= 5 * 10, () -> "rows read ahead: " + maxAhead.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        assertTrue(new ParallelBeanListHandler<TestBean>(TestBean.class).handle(getEmptyResultSet()).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBeanListHandler<TestBean>(TestBean.class, ArrayHandler.ROW_PROCESSOR, ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final List<TestBean> expected = new BeanListHandler<TestBean>(TestBean.class).handle(createMockResultSet());
+        final List<TestBean> results = new ParallelBeanListHandler<TestBean>(TestBean.class).handle(getResultSet());
+        assertEquals(ROW_COUNT, results.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final TestBean b = results.get(i);
+            assertEquals(expected.get(i).getOne(), b.getOne());
+            assertEquals(expected.get(i).getTwo(), b.getTwo());
+            assertEquals(expected.get(i).getThree(), b.getThree());
+            assertEquals(expected.get(i).getIntTest(), b.getIntTest());
+            assertEquals(expected.get(i).getIntegerTest(), b.getIntegerTest());
+            assertEquals(expected.get(i).getNullObjectTest(), b.getNullObjectTest());
+            assertEquals(expected.get(i).getNullPrimitiveTest(), b.getNullPrimitiveTest());
+            assertEquals(expected.get(i).getNotDate(), b.getNotDate());
+            assertEquals(expected.get(i).getColumnProcessorDoubleTest(), b.getColumnProcessorDoubleTest());
+            assertEquals(expected.get(i).getDoNotSet(), b.getDoNotSet());
+        }
+    }
+
+    @Test
+    void testOrder() throws SQLException {
+        final Object[][] rows = new Object[10_000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] { "row " + i, Integer.valueOf(i), Double.valueOf(i / 2.0) };
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<TestBean> results = new ParallelBeanListHandler<TestBean>(TestBean.class, ArrayHandler.ROW_PROCESSOR, pool, 64)
+                    .handle(createResultSet(LABELS, rows));
+            assertEquals(rows.length, results.size());
+            for (int i = 0; i < rows.length; i++) {
+                assertEquals("row " + i, results.get(i).getOne());
+                assertEquals(i, results.get(i).getIntTest());
+                assertEquals(i / 2.0, results.get(i).getColumnProcessorDoubleTest());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.junit.jupiter.api.Test;
+
+class RowCallbackHandlerTest extends BaseTestCase {
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final List<Object> rows = new ArrayList<>();
+        final long count = new RowCallbackHandler(rs -> rows.add(rs.getObject(1))).handle(getEmptyResultSet());
+        assertEquals(0, count);
+        assertTrue(rows.isEmpty());
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final List<Object> rows = new ArrayList<>();
+        final long count = new RowCallbackHandler(rs -> rows.add(rs.getObject("three"))).handle(getResultSet());
+        assertEquals(ROW_COUNT, count);
+        assertEquals(Arrays.asList("THREE", "SIX"), rows);
+    }
+
+    @Test
+    void testStop() throws SQLException {
+        final List<Object> rows = new ArrayList<>();
+        final long count = new RowCallbackHandler(rs -> {
+            rows.add(rs.getObject(1));
+            return false;
+        }).handle(getResultSet());
+        assertEquals(1, count);
+        assertEquals(Arrays.asList("1"), rows);
+        // no further row was fetched
+        assertTrue(getResultSet().next());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpillingArrayListHandlerTest extends BaseTestCase {
+
+    private static final String[] LABELS = { "id", "name", "amount" };
+
+    private static final class Amount implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static Object[][] createRows(final int count) {
+        final Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new Object[] { Integer.valueOf(i), i % 7 == 0 ? null : "row " + i, BigDecimal.valueOf(i, 2) };
+        }
+        return rows;
+    }
+
+    private static long countFiles(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCleaner() throws Exception {
+        final Object[][] rows = createRows(100);
+        SpilledList<Object[]> results = new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 10, directory).handle(createResultSet(LABELS, rows));
+        assertArrayEquals(rows[50], results.get(50));
+        assertEquals(1, countFiles(directory));
+        // not closed
+        results = null;
+        for (int i = 0; i < 100 && countFiles(directory) > 0; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertEquals(0, countFiles(directory));
+    }
+
+    @Test
+    void testEmptyResultSetHandle() throws SQLException {
+        final SpilledList<Object[]> results = new SpillingArrayListHandler(10).handle(getEmptyResultSet());
+        assertTrue(results.isEmpty());
+        assertEquals(0, results.getSpilledRowCount());
+        results.close();
+        assertThrows(IllegalArgumentException.class, () -> new SpillingArrayListHandler(-1));
+    }
+
+    @Test
+    void testHandleInMemory() throws SQLException, IOException {
+        final SpilledList<Object[]> results = new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, ROW_COUNT, directory).handle(getResultSet());
+        assertEquals(ROW_COUNT, results.size());
+        assertEquals(0, results.getSpilledRowCount());
+        assertEquals(0, countFiles(directory));
+        assertEquals("4", results.get(1)[0]);
+        results.close();
+        assertEquals("4", results.get(1)[0]);
+    }
+
+    @Test
+    void testLargeObjects() throws SQLException {
+        final SQLXML xml = mock(SQLXML.class);
+        when(xml.getString()).thenReturn("<row/>");
+        final Object[][] rows = { { new SerialClob("head".toCharArray()), new SerialBlob(new byte[] { 1 }), xml },
+                { new SerialClob("spilled".toCharArray()), new SerialBlob(new byte[] { 2, 3 }), xml } };
+        try (SpilledList<Object[]> results = new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 1, directory).handle(createResultSet(LABELS, rows))) {
+            assertEquals(1, results.getSpilledRowCount());
+            final Object[] spilled = results.get(1);
+            final Clob clob = assertInstanceOf(Clob.class, spilled[0]);
+            assertEquals("spilled", clob.getSubString(1, (int) clob.length()));
+            final Blob blob = assertInstanceOf(Blob.class, spilled[1]);
+            assertArrayEquals(new byte[] { 2, 3 }, blob.getBytes(1, (int) blob.length()));
+            assertEquals("<row/>", assertInstanceOf(SQLXML.class, spilled[2]).getString());
+        }
+    }
+
+    @Test
+    void testSegments() throws SQLException, IOException {
+        final Object[][] rows = createRows(1000);
+        // segments of a few rows each, and a row larger than a segment
+        rows[500][1] = "x".repeat(1000);
+        final SpillingArrayListHandler handler = new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 0, directory, 200);
+        try (SpilledList<Object[]> results = handler.handle(createResultSet(LABELS, rows))) {
+            assertEquals(rows.length, results.getSpilledRowCount());
+            for (int i = rows.length - 1; i >= 0; i--) {
+                assertArrayEquals(rows[i], results.get(i));
+            }
+        }
+        assertEquals(0, countFiles(directory));
+    }
+
+    @Test
+    void testSpill() throws SQLException, IOException {
+        final Object[][] rows = createRows(5000);
+        final SpilledList<Object[]> results = new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 100, directory).handle(createResultSet(LABELS, rows));
+        assertEquals(rows.length, results.size());
+        assertEquals(rows.length - 100, results.getSpilledRowCount());
+        assertEquals(1, countFiles(directory));
+        int i = 0;
+        for (final Object[] row : results) {
+            assertArrayEquals(rows[i++], row);
+        }
+        assertEquals(rows.length, i);
+        assertArrayEquals(rows[4321], results.get(4321));
+        assertThrows(IndexOutOfBoundsException.class, () -> results.get(rows.length));
+        assertThrows(UnsupportedOperationException.class, () -> results.add(rows[0]));
+
+        results.close();
+        assertEquals(0, countFiles(directory));
+        assertArrayEquals(rows[99], results.get(99));
+        assertThrows(IllegalStateException.class, () -> results.get(100));
+        results.close();
+    }
+
+    @Test
+    void testSpillFailure() throws IOException {
+        final Object[][] rows = createRows(10);
+        // not serializable
+        rows[5][2] = new Object();
+        assertThrows(SQLException.class, () -> new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 2, directory).handle(createResultSet(LABELS, rows)));
+        assertEquals(0, countFiles(directory));
+        // serializable, but not a java.base class
+        rows[5][2] = new Amount();
+        assertThrows(SQLException.class, () -> new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 2, directory).handle(createResultSet(LABELS, rows)));
+        rows[5][2] = new ArrayList<>(Arrays.asList(Integer.valueOf(1), new Amount()));
+        assertThrows(SQLException.class, () -> new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 2, directory).handle(createResultSet(LABELS, rows)));
+        assertEquals(0, countFiles(directory));
+    }
+
+    @Test
+    void testValueTypes() throws SQLException {
+        final Timestamp timestamp = Timestamp.valueOf("2024-01-31 12:34:56.123456789");
+        final Object[][] rows = {
+                { "S\u00e3o Paulo", Long.valueOf(Long.MIN_VALUE), Double.valueOf(Math.PI) },
+                { Float.valueOf(1.5f), Short.valueOf((short) -2), Byte.valueOf((byte) 3) },
+                { Boolean.TRUE, new BigDecimal("-12345678901234567890.0123"), new BigInteger("98765432109876543210") },
+                { new byte[] { 1, 2, 3 }, java.sql.Date.valueOf("2024-01-31"), java.sql.Time.valueOf("12:34:56") },
+                { timestamp, LocalDate.of(2024, 1, 31), LocalDateTime.of(2024, 1, 31, 12, 34, 56, 789) },
+                { LocalTime.of(23, 59, 59, 999_999_999), UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "" },
+                { new ArrayList<>(Arrays.asList("a", Integer.valueOf(1))), new String[] { "b", null }, Boolean.FALSE } };
+        try (SpilledList<Object[]> results = new SpillingArrayListHandler(ArrayHandler.ROW_PROCESSOR, 0, directory).handle(createResultSet(LABELS, rows))) {
+            final Iterator<Object[]> it = results.iterator();
+            for (final Object[] row : rows) {
+                final Object[] spilled = it.next();
+                assertArrayEquals(row, spilled);
+                for (int i = 0; i < row.length; i++) {
+                    assertEquals(row[i].getClass(), spilled[i].getClass());
+                }
+            }
+            assertFalse(it.hasNext());
+            assertEquals(timestamp.getNanos(), ((Timestamp) results.get(4)[0]).getNanos());
+        }
+    }
+}
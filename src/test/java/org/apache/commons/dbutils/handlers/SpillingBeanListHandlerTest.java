@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.TestBean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpillingBeanListHandlerTest extends BaseTestCase {
+
+    private static final String[] LABELS = { "one", "intTest", "columnProcessorDoubleTest" };
+
+    public static class LobBean {
+        private Clob text;
+        private Blob data;
+
+        public Blob getData() {
+            return data;
+        }
+
+        public Clob getText() {
+            return text;
+        }
+
+        public void setData(final Blob data) {
+            this.data = data;
+        }
+
+        public void setText(final Clob text) {
+            this.text = text;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testConversionFailure() throws SQLException {
+        final Object[][] rows = { { "row", Integer.valueOf(1), null }, { "row", "not a number", null } };
+        try (SpilledList<TestBean> results = new SpillingBeanListHandler<TestBean>(TestBean.class, ArrayHandler.ROW_PROCESSOR, 1, directory)
+                .handle(createResultSet(LABELS, rows))) {
+            assertEquals(1, results.get(0).getIntTest());
+            final IllegalStateException e = assertThrows(IllegalStateException.class, () -> results.get(1));
+            assertEquals(SQLException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test
+    void testHandle() throws SQLException {
+        final List<TestBean> expected = new BeanListHandler<TestBean>(TestBean.class).handle(createMockResultSet());
+        try (SpilledList<TestBean> results = new SpillingBeanListHandler<TestBean>(TestBean.class, ArrayHandler.ROW_PROCESSOR, 1, directory)
+                .handle(getResultSet())) {
+            assertEquals(ROW_COUNT, results.size());
+            assertEquals(1, results.getSpilledRowCount());
+            for (int i = 0; i < ROW_COUNT; i++) {
+                final TestBean b = results.get(i);
+                assertEquals(expected.get(i).getOne(), b.getOne());
+                assertEquals(expected.get(i).getTwo(), b.getTwo());
+                assertEquals(expected.get(i).getThree(), b.getThree());
+                assertEquals(expected.get(i).getIntTest(), b.getIntTest());
+                assertEquals(expected.get(i).getIntegerTest(), b.getIntegerTest());
+                assertEquals(expected.get(i).getNullObjectTest(), b.getNullObjectTest());
+                assertEquals(expected.get(i).getNullPrimitiveTest(), b.getNullPrimitiveTest());
+                assertEquals(expected.get(i).getNotDate(), b.getNotDate());
+                assertEquals(expected.get(i).getColumnProcessorDoubleTest(), b.getColumnProcessorDoubleTest());
+                assertEquals(expected.get(i).getDoNotSet(), b.getDoNotSet());
+            }
+        }
+    }
+
+    @Test
+    void testLargeObjects() throws SQLException {
+        final Object[][] rows = { { new SerialClob("head".toCharArray()), new SerialBlob(new byte[] { 1 }) },
+                { new SerialClob("spilled".toCharArray()), new SerialBlob(new byte[] { 2, 3 }) } };
+        try (SpilledList<LobBean> results = new SpillingBeanListHandler<LobBean>(LobBean.class, ArrayHandler.ROW_PROCESSOR, 1, directory)
+                .handle(createResultSet(new String[] { "text", "data" }, rows))) {
+            for (int i = 0; i < rows.length; i++) {
+                final LobBean bean = results.get(i);
+                final Clob text = (Clob) rows[i][0];
+                final Blob data = (Blob) rows[i][1];
+                assertEquals(text.getSubString(1, (int) text.length()), bean.getText().getSubString(1, (int) bean.getText().length()));
+                assertArrayEquals(data.getBytes(1, (int) data.length()), bean.getData().getBytes(1, (int) bean.getData().length()));
+            }
+        }
+    }
+
+    @Test
+    void testSpill() throws SQLException {
+        final Object[][] rows = new Object[2000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] { "row " + i, Integer.valueOf(i), Double.valueOf(i / 2.0) };
+        }
+        try (SpilledList<TestBean> results = new SpillingBeanListHandler<TestBean>(TestBean.class, 500).handle(createResultSet(LABELS, rows))) {
+            assertEquals(rows.length, results.size());
+            assertEquals(1500, results.getSpilledRowCount());
+            for (int i = 0; i < rows.length; i++) {
+                assertEquals("row " + i, results.get(i).getOne());
+                assertEquals(i, results.get(i).getIntTest());
+                assertEquals(i / 2.0, results.get(i).getColumnProcessorDoubleTest());
+            }
+        }
+    }
+}
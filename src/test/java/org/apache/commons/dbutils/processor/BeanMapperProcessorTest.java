@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.processor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.dbutils.BeanMapper;
+import org.apache.commons.dbutils.Column;
+import org.apache.commons.dbutils.MockResultSet;
+import org.apache.commons.dbutils.MockResultSetMetaData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compiles sample beans with {@link BeanMapperProcessor} and runs the generated mappers.
+ */
+class BeanMapperProcessorTest {
+
+    private static final String PERSON = String.join("\n",
+            "package sample;",
+            "import org.apache.commons.dbutils.Column;",
+            "public class Person {",
+            "    public static class Address {",
+            "        private String street;",
+            "        @Column(name = \"street_name\") public String getStreet() { return street; }",
+            "        public void setStreet(String street) { this.street = street; }",
+            "    }",
+            "    private String name;",
+            "    private int age;",
+            "    private Integer score;",
+            "    private boolean active;",
+            "    @Column(name = \"full_name\") public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public int getAge() { return age; }",
+            "    public void setAge(int age) { this.age = age; }",
+            "    public Integer getScore() { return score; }",
+            "    public void setScore(Integer score) { this.score = score; }",
+            "    public boolean isActive() { return active; }",
+            "    public void setActive(boolean active) { this.active = active; }",
+            "}");
+
+    private static final String UNSUPPORTED = String.join("\n",
+            "package sample;",
+            "import org.apache.commons.dbutils.Column;",
+            "public class Unsupported {",
+            "    private java.util.List<String> items;",
+            "    @Column(name = \"item_list\") public java.util.List<String> getItems() { return items; }",
+            "    public void setItems(java.util.List<String> items) { this.items = items; }",
+            "}");
+
+    @TempDir
+    Path tempDir;
+
+    private DiagnosticCollector<JavaFileObject> compile() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null, "No system Java compiler");
+        final Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Files.write(sources.resolve("Person.java"), PERSON.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Unsupported.java"), UNSUPPORTED.getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(tempDir.resolve("classes"));
+        final String classPath = Paths.get(Column.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-classpath", classPath, "-d", tempDir.resolve("classes").toString()), null,
+                    fileManager.getJavaFileObjects(sources.resolve("Person.java").toFile(), sources.resolve("Unsupported.java").toFile()));
+            task.setProcessors(Collections.singletonList(new BeanMapperProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics()::toString);
+        }
+        return diagnostics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BeanMapper<Object> findMapper(final ClassLoader loader, final String type) {
+        for (final BeanMapper<?> mapper : ServiceLoader.load(BeanMapper.class, loader)) {
+            if (mapper.getType().getName().equals(type)) {
+                return (BeanMapper<Object>) mapper;
+            }
+        }
+        return null;
+    }
+
+    private Object get(final Object bean, final String getter) throws ReflectiveOperationException {
+        return bean.getClass().getMethod(getter).invoke(bean);
+    }
+
+    @Test
+    void testGeneratedMappers() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { tempDir.resolve("classes").toUri().toURL() }, getClass().getClassLoader())) {
+            final BeanMapper<Object> personMapper = findMapper(loader, "sample.Person");
+            assertNotNull(personMapper);
+            assertEquals("sample.PersonBeanMapper", personMapper.getClass().getName());
+            assertArrayEquals(new String[] { "active", "age", "full_name", "score" }, personMapper.getColumnNames());
+
+            final String[] columns = { "full_name", "age", "score", "active" };
+            final Object[][] rows = { { "Ann", Integer.valueOf(42), Integer.valueOf(7), "true" }, { "Bob", null, null, null } };
+            final ResultSet rs = MockResultSet.create(MockResultSetMetaData.create(columns), rows, false);
+            final int[] propertyColumns = { 4, 2, 1, 3 };
+
+            assertTrue(rs.next());
+            final Object ann = personMapper.getType().getDeclaredConstructor().newInstance();
+            personMapper.populate(rs, ann, propertyColumns);
+            assertEquals("Ann", get(ann, "getName"));
+            assertEquals(Integer.valueOf(42), get(ann, "getAge"));
+            assertEquals(Integer.valueOf(7), get(ann, "getScore"));
+            assertEquals(Boolean.TRUE, get(ann, "isActive"));
+
+            assertTrue(rs.next());
+            final Object bob = personMapper.getType().getDeclaredConstructor().newInstance();
+            personMapper.populate(rs, bob, new int[] { 0, 2, 1, 3 });
+            assertEquals("Bob", get(bob, "getName"));
+            assertEquals(Integer.valueOf(0), get(bob, "getAge"));
+            assertNull(get(bob, "getScore"));
+            assertEquals(Boolean.FALSE, get(bob, "isActive"));
+
+            final BeanMapper<Object> addressMapper = findMapper(loader, "sample.Person$Address");
+            assertNotNull(addressMapper);
+            assertEquals("sample.Person_AddressBeanMapper", addressMapper.getClass().getName());
+            assertArrayEquals(new String[] { "street_name" }, addressMapper.getColumnNames());
+
+            assertNull(findMapper(loader, "sample.Unsupported"));
+        }
+    }
+
+    @Test
+    void testServicesFile() throws Exception {
+        compile();
+        final List<String> lines = Files.readAllLines(tempDir.resolve("classes/META-INF/services/" + BeanMapper.class.getName()));
+        assertEquals(Arrays.asList("sample.PersonBeanMapper", "sample.Person_AddressBeanMapper"), lines);
+    }
+
+    @Test
+    void testUnsupportedPropertyType() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile();
+        boolean warned = false;
+        for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.WARNING && diagnostic.getMessage(null).contains("sample.Unsupported")) {
+                warned = true;
+            }
+        }
+        assertTrue(warned);
+        assertFalse(Files.exists(tempDir.resolve("classes/sample/UnsupportedBeanMapper.class")));
+    }
+}